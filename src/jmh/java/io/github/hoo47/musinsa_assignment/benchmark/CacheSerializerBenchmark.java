@@ -0,0 +1,87 @@
+package io.github.hoo47.musinsa_assignment.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hoo47.musinsa_assignment.application.product.cache.PriceResponseCodecs;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.common.cache.BinaryRedisSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON cache value serializers with the binary codec on the category pricing response.
+ * Run with {@code ./gradlew jmh}; the gc profiler reports gc.alloc.rate.norm (bytes per operation).
+ * The encoded sizes are compared by {@code PriceResponseCodecsTest}, which does not depend on timing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    /**
+     * Categories in the response: the 8 of the sample data, and a larger catalog.
+     */
+    @Param({"8", "100"})
+    private int categories;
+
+    @Param({"typedJson", "genericJson", "binary"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+    private CategoryProductSummaryResponse response;
+    private byte[] encoded;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        serializer = (RedisSerializer<Object>) (RedisSerializer<?>) switch (format) {
+            case "typedJson" -> new Jackson2JsonRedisSerializer<>(objectMapper, CategoryProductSummaryResponse.class);
+            case "genericJson" -> new GenericJackson2JsonRedisSerializer(objectMapper);
+            case "binary" -> new BinaryRedisSerializer<>(PriceResponseCodecs.CATEGORY_PRICING);
+            default -> throw new IllegalArgumentException(format);
+        };
+
+        Random random = new Random(47);
+        List<CategoryProductSummaryResponse.CategoryProductPriceInfo> items = new ArrayList<>(categories);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < categories; i++) {
+            BigDecimal price = BigDecimal.valueOf(1_000 + random.nextInt(100_000));
+            items.add(new CategoryProductSummaryResponse.CategoryProductPriceInfo(
+                    (long) i + 1, "카테고리" + i, (long) random.nextInt(50) + 1, "브랜드" + random.nextInt(50), price));
+            total = total.add(price);
+        }
+        response = new CategoryProductSummaryResponse(items, total);
+        encoded = serializer.serialize(response);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(response);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+}
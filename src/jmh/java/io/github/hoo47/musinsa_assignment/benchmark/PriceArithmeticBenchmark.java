@@ -0,0 +1,99 @@
+package io.github.hoo47.musinsa_assignment.benchmark;
+
+import io.github.hoo47.musinsa_assignment.common.price.MinorUnits;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares BigDecimal price aggregation with the long minor-unit arithmetic used on the hot path.
+ * Run with {@code ./gradlew jmh}; the gc profiler reports gc.alloc.rate.norm (bytes per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceArithmeticBenchmark {
+
+    /**
+     * 8 categories per brand, and a catalog-sized list of brand totals.
+     */
+    @Param({"8", "10000"})
+    private int size;
+
+    private BigDecimal[] decimalPrices;
+    private long[] minorPrices;
+    private DecimalEntry[] decimalEntries;
+    private MinorEntry[] minorEntries;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(47);
+        decimalPrices = new BigDecimal[size];
+        minorPrices = new long[size];
+        decimalEntries = new DecimalEntry[size];
+        minorEntries = new MinorEntry[size];
+
+        for (int i = 0; i < size; i++) {
+            BigDecimal price = BigDecimal.valueOf(1_000 + random.nextInt(10_000_000), MinorUnits.SCALE);
+            decimalPrices[i] = price;
+            minorPrices[i] = MinorUnits.of(price);
+            decimalEntries[i] = new DecimalEntry(i, price);
+            minorEntries[i] = new MinorEntry(i, minorPrices[i]);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        return Arrays.stream(decimalPrices).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public long sumMinorUnits() {
+        return Arrays.stream(minorPrices).reduce(0L, MinorUnits::add);
+    }
+
+    /**
+     * Converting each BigDecimal per request, as opposed to summing values converted once up front.
+     */
+    @Benchmark
+    public BigDecimal sumConvertedMinorUnits() {
+        return MinorUnits.toBigDecimal(Arrays.stream(decimalPrices).mapToLong(MinorUnits::of).reduce(0L, MinorUnits::add));
+    }
+
+    @Benchmark
+    public DecimalEntry minByBigDecimal() {
+        return Arrays.stream(decimalEntries)
+                .min(Comparator.comparing(DecimalEntry::price).thenComparingLong(DecimalEntry::id))
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public MinorEntry minByMinorUnits() {
+        return Arrays.stream(minorEntries)
+                .min(Comparator.comparingLong(MinorEntry::price).thenComparingLong(MinorEntry::id))
+                .orElseThrow();
+    }
+
+    public record DecimalEntry(long id, BigDecimal price) {
+    }
+
+    public record MinorEntry(long id, long price) {
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.hoo47.musinsa_assignment.application.brand.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * @param content    minimum prices per brand and category, ordered by brand ID, then category ID
+ * @param nextCursor cursor of the next page, or null when this is the last page
+ */
+public record BrandCategoryPricePageResponse(
+        List<BrandCategoryPrice> content,
+        String nextCursor
+) {
+    public record BrandCategoryPrice(
+            Long brandId,
+            String brand,
+            Long categoryId,
+            String category,
+            BigDecimal price
+    ) {
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.hoo47.musinsa_assignment.application.brand.event;
+
+/**
+ * Published by {@code BrandCommandService} when a brand's name changes.
+ *
+ * @param brandId the brand ID
+ * @param name    the new brand name
+ */
+public record BrandRenamedEvent(
+        Long brandId,
+        String name
+) {
+}
@@ -2,11 +2,13 @@ package io.github.hoo47.musinsa_assignment.application.brand.service;
 
 import io.github.hoo47.musinsa_assignment.application.brand.dto.request.BrandCreateRequest;
 import io.github.hoo47.musinsa_assignment.application.brand.dto.request.BrandUpdateRequest;
+import io.github.hoo47.musinsa_assignment.application.brand.event.BrandRenamedEvent;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessErrorCode;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessException;
 import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
 import io.github.hoo47.musinsa_assignment.domain.brand.BrandRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class BrandCommandService {
 
     private final BrandRepository brandRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Brand createBrand(BrandCreateRequest request) {
         if (request.name() == null || request.name().isBlank()) {
@@ -35,6 +38,7 @@ public class BrandCommandService {
         Brand brand = findBrandWithLock(brandId);
 
         brand.updateName(request.name());
+        eventPublisher.publishEvent(new BrandRenamedEvent(brand.getId(), brand.getName()));
 
         return brand;
     }
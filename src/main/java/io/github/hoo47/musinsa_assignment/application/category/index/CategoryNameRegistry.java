@@ -0,0 +1,119 @@
+package io.github.hoo47.musinsa_assignment.application.category.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.hoo47.musinsa_assignment.common.cache.CacheInvalidationListener;
+import io.github.hoo47.musinsa_assignment.common.cache.CacheInvalidationPublisher;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryChangedEvent;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Set of the valid category names, used to reject unknown names before any cache or database access.
+ * The set is exact rather than probabilistic: there are few categories, so a hash set costs little
+ * memory and never lets an unknown name through.
+ * It is loaded at startup and reloaded after every committed category change, on this node directly
+ * and on the other nodes through a {@link #NAMES_INVALIDATION} message on the invalidation channel.
+ * Once loaded, the set alone answers, so an unknown name never reaches the database; a periodic reload
+ * bounds how long a category created on another node stays unknown here if its message was lost.
+ * Until the set is loaded, names are checked against the database and unknown names are remembered for
+ * a short time so that repeating them does not reach the database again.
+ */
+@Slf4j
+@Component
+public class CategoryNameRegistry implements CacheInvalidationListener {
+
+    public static final String NAMES_INVALIDATION = "categoryNames";
+
+    private static final long NEGATIVE_MAXIMUM_SIZE = 10_000;
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectProvider<CacheInvalidationPublisher> invalidationPublisher;
+    private final Cache<String, Boolean> unknownNames;
+    private volatile Set<String> names;
+
+    public CategoryNameRegistry(CategoryRepository categoryRepository,
+                                ObjectProvider<CacheInvalidationPublisher> invalidationPublisher,
+                                @Value("${pricing.category-registry.negative-ttl:30s}") Duration negativeTtl) {
+        this.categoryRepository = categoryRepository;
+        this.invalidationPublisher = invalidationPublisher;
+        this.unknownNames = Caffeine.newBuilder()
+                .maximumSize(NEGATIVE_MAXIMUM_SIZE)
+                .expireAfterWrite(negativeTtl)
+                .build();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Set<String> loaded = categoryRepository.findAll().stream()
+                    .map(Category::getName)
+                    .collect(Collectors.toUnmodifiableSet());
+            names = loaded;
+            unknownNames.invalidateAll();
+            log.info("카테고리 이름 목록 적재 완료: {}개", loaded.size());
+        } catch (DataAccessException e) {
+            log.warn("카테고리 이름 목록 적재 실패: 이름 확인은 DB 조회로 처리됩니다.", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${pricing.category-registry.reload-interval:PT1M}",
+            fixedDelayString = "${pricing.category-registry.reload-interval:PT1M}")
+    public void reload() {
+        load();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidationPublisher.ifAvailable(publisher -> publisher.publish(NAMES_INVALIDATION, null));
+        load();
+    }
+
+    @Override
+    public void onInvalidation(String cacheName, String key) {
+        if (NAMES_INVALIDATION.equals(cacheName)) {
+            load();
+        }
+    }
+
+    public boolean isLoaded() {
+        return names != null;
+    }
+
+    /**
+     * @param categoryName the category name
+     * @return whether a category with the name exists
+     */
+    public boolean exists(String categoryName) {
+        Set<String> current = names;
+        if (current != null) {
+            return current.contains(categoryName);
+        }
+
+        if (unknownNames.getIfPresent(categoryName) != null) {
+            return false;
+        }
+        boolean exists = categoryRepository.existsByName(categoryName);
+        if (!exists) {
+            unknownNames.put(categoryName, Boolean.TRUE);
+        }
+        return exists;
+    }
+}
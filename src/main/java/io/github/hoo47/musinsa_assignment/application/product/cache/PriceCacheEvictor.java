@@ -0,0 +1,44 @@
+package io.github.hoo47.musinsa_assignment.application.product.cache;
+
+import io.github.hoo47.musinsa_assignment.application.brand.event.BrandRenamedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Clears the price response caches when a committed change invalidates all of them at once.
+ * Product changes only affect some responses; those are recomputed by {@link PriceCacheRefresher} instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceCacheEvictor {
+
+    private static final String PRICE_SUMMARY_CACHE = "priceSummaryCache";
+    private static final String CATEGORY_PRICING_CACHE = "categoryPricingCache";
+    private static final String BRAND_LOWEST_PRICE_CACHE = "brandLowestPriceCache";
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    /**
+     * Brand names are embedded in every cached response, so a rename, which is rare, clears the price caches.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBrandRenamed(BrandRenamedEvent event) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager == null) {
+            return;
+        }
+
+        Stream.of(PRICE_SUMMARY_CACHE, CATEGORY_PRICING_CACHE, BRAND_LOWEST_PRICE_CACHE)
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::clear);
+    }
+}
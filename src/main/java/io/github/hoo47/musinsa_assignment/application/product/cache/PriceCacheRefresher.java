@@ -0,0 +1,84 @@
+package io.github.hoo47.musinsa_assignment.application.product.cache;
+
+import io.github.hoo47.musinsa_assignment.application.brand.dto.response.CategoryPriceSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.event.ProductChangedEvent;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.usecase.BrandLowestPriceUsecase;
+import io.github.hoo47.musinsa_assignment.application.usecase.CategoryPriceSummaryUsecase;
+import io.github.hoo47.musinsa_assignment.application.usecase.CategoryProductPriceUsecase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Write-through stage for the top-level response caches.
+ * After a product change is committed (and the pricing snapshot updated), every response the change
+ * can affect is recomputed and written to its cache, so the read path almost never misses and never
+ * serves data older than the last committed write. Responses the change cannot affect are left as they are.
+ * If a recomputation fails the entry is evicted so the next read loads it.
+ * Once the pricing snapshot is loaded the read endpoints render from it and never read these caches,
+ * so nothing is recomputed; {@link PriceCacheEvictor} still evicts the affected entries.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceCacheRefresher {
+
+    private static final String PRICE_SUMMARY_CACHE = "priceSummaryCache";
+    private static final String CATEGORY_PRICING_CACHE = "categoryPricingCache";
+    private static final String BRAND_LOWEST_PRICE_CACHE = "brandLowestPriceCache";
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final PricingReadModel pricingReadModel;
+    private final CategoryProductPriceUsecase categoryProductPriceUsecase;
+    private final CategoryPriceSummaryUsecase categoryPriceSummaryUsecase;
+    private final BrandLowestPriceUsecase brandLowestPriceUsecase;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager == null || pricingReadModel.isLoaded()) {
+            return;
+        }
+
+        PriceChangeImpact impact = new PriceChangeImpact(event);
+
+        Cache priceSummaryCache = cacheManager.getCache(PRICE_SUMMARY_CACHE);
+        for (String categoryName : impact.categoryNames()) {
+            if (priceSummaryCache != null && PriceChangeImpact.isStale(priceSummaryCache, categoryName,
+                    CategoryPriceSummaryResponse.class, summary -> impact.affectsPriceSummary(categoryName, summary))) {
+                refresh(priceSummaryCache, categoryName, () -> categoryPriceSummaryUsecase.refreshPriceSummary(categoryName));
+            }
+        }
+
+        Cache categoryPricingCache = cacheManager.getCache(CATEGORY_PRICING_CACHE);
+        if (categoryPricingCache != null && PriceChangeImpact.isStale(categoryPricingCache, SimpleKey.EMPTY,
+                CategoryProductSummaryResponse.class, impact::affectsCategoryPricing)) {
+            refresh(categoryPricingCache, SimpleKey.EMPTY, categoryProductPriceUsecase::refreshCategoryPricing);
+        }
+
+        Cache brandLowestPriceCache = cacheManager.getCache(BRAND_LOWEST_PRICE_CACHE);
+        if (brandLowestPriceCache != null && PriceChangeImpact.isStale(brandLowestPriceCache, SimpleKey.EMPTY,
+                BrandProductSummaryResponse.class, impact::affectsLowestBrand)) {
+            refresh(brandLowestPriceCache, SimpleKey.EMPTY, brandLowestPriceUsecase::refreshBrandWithLowestTotalPrice);
+        }
+    }
+
+    private void refresh(Cache cache, Object key, Runnable recompute) {
+        try {
+            recompute.run();
+            log.debug("가격 변경으로 캐시 재계산: {} {}", cache.getName(), key);
+        } catch (RuntimeException e) {
+            log.warn("캐시 재계산 실패로 항목을 삭제합니다: {} {}", cache.getName(), key, e);
+            cache.evict(key);
+        }
+    }
+}
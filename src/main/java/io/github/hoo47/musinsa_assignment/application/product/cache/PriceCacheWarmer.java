@@ -0,0 +1,132 @@
+package io.github.hoo47.musinsa_assignment.application.product.cache;
+
+import io.github.hoo47.musinsa_assignment.application.category.service.CategoryQueryService;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.usecase.BrandLowestPriceUsecase;
+import io.github.hoo47.musinsa_assignment.application.usecase.CategoryPriceSummaryUsecase;
+import io.github.hoo47.musinsa_assignment.application.usecase.CategoryProductPriceUsecase;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fills the price response caches at startup so the first requests after a deploy are cache hits.
+ * Runs as the last {@link ApplicationReadyEvent} listener, after the pricing snapshot is rebuilt; when the
+ * snapshot is loaded the read endpoints render from it instead of the caches, so there is nothing to warm.
+ * Spring Boot only reports the readiness state {@code ACCEPTING_TRAFFIC} once every ready listener
+ * has returned, so the instance stays out of rotation until the warm-up finishes or its time budget
+ * runs out; in the latter case the remaining steps carry on in the background.
+ * Each response is loaded through its {@code @Cacheable} method, which fills both the local and the
+ * shared cache and reuses an entry another node already stored.
+ */
+@Slf4j
+@Component
+public class PriceCacheWarmer {
+
+    private final CategoryQueryService categoryQueryService;
+    private final PricingReadModel pricingReadModel;
+    private final CategoryProductPriceUsecase categoryProductPriceUsecase;
+    private final CategoryPriceSummaryUsecase categoryPriceSummaryUsecase;
+    private final BrandLowestPriceUsecase brandLowestPriceUsecase;
+    private final boolean enabled;
+    private final Duration timeBudget;
+
+    public PriceCacheWarmer(CategoryQueryService categoryQueryService,
+                            PricingReadModel pricingReadModel,
+                            CategoryProductPriceUsecase categoryProductPriceUsecase,
+                            CategoryPriceSummaryUsecase categoryPriceSummaryUsecase,
+                            BrandLowestPriceUsecase brandLowestPriceUsecase,
+                            @Value("${pricing.warmup.enabled:true}") boolean enabled,
+                            @Value("${pricing.warmup.time-budget:30s}") Duration timeBudget) {
+        this.categoryQueryService = categoryQueryService;
+        this.pricingReadModel = pricingReadModel;
+        this.categoryProductPriceUsecase = categoryProductPriceUsecase;
+        this.categoryPriceSummaryUsecase = categoryPriceSummaryUsecase;
+        this.brandLowestPriceUsecase = brandLowestPriceUsecase;
+        this.enabled = enabled;
+        this.timeBudget = timeBudget;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled || pricingReadModel.isLoaded()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<Integer> warmup = executor.submit(this::runSteps);
+        executor.shutdown();
+
+        try {
+            int failures = warmup.get(timeBudget.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("캐시 워밍업 완료: 실패 {}건, {}ms", failures, elapsedMillis(startedAt));
+        } catch (TimeoutException e) {
+            log.warn("캐시 워밍업이 제한 시간 {}ms를 넘어 남은 단계는 백그라운드에서 계속합니다", timeBudget.toMillis());
+        } catch (ExecutionException e) {
+            log.warn("캐시 워밍업 중단: {}ms", elapsedMillis(startedAt), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Loads every price response once, in the order the read endpoints are most often called.
+     *
+     * @return the number of failed steps
+     */
+    int runSteps() {
+        int failures = 0;
+        failures += step("카테고리별 최저가", categoryProductPriceUsecase::getCategoryPricing);
+        failures += step("최저가 브랜드", brandLowestPriceUsecase::getBrandWithLowestTotalPrice);
+        for (String categoryName : categoryNames()) {
+            failures += step("카테고리 가격 요약 " + categoryName,
+                    () -> categoryPriceSummaryUsecase.getPriceSummaryByCategoryName(categoryName));
+        }
+        return failures;
+    }
+
+    private List<String> categoryNames() {
+        return categoryQueryService.getAllCategories().stream()
+                .map(Category::getName)
+                .toList();
+    }
+
+    /**
+     * @return 1 when the step failed, 0 otherwise; a failed step leaves its cache entry to the first request
+     */
+    private int step(String name, Runnable load) {
+        long startedAt = System.nanoTime();
+        try {
+            load.run();
+            log.info("캐시 워밍업 단계 완료: {} {}ms", name, elapsedMillis(startedAt));
+            return 0;
+        } catch (RuntimeException e) {
+            log.warn("캐시 워밍업 단계 실패: {} {}ms", name, elapsedMillis(startedAt), e);
+            return 1;
+        }
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.hoo47.musinsa_assignment.application.product.cache;
+
+import io.github.hoo47.musinsa_assignment.application.brand.dto.response.CategoryPriceSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.event.ProductChangedEvent;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import org.springframework.cache.Cache;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Decides which cached price results a product change can affect.
+ * A cached result is affected only when the product was or becomes one of its minimum/maximum products,
+ * comparing the product's old and new price with the cached extreme.
+ */
+final class PriceChangeImpact {
+
+    private final ProductChangedEvent event;
+    private final List<ProductPriceInfo> sides;
+
+    PriceChangeImpact(ProductChangedEvent event) {
+        this.event = event;
+        this.sides = Stream.of(event.before(), event.after())
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * @return the old and new category names of the product
+     */
+    Set<String> categoryNames() {
+        return sides.stream()
+                .map(ProductPriceInfo::categoryName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    boolean affectsPriceSummary(String categoryName, CategoryPriceSummaryResponse summary) {
+        return mayChangeLowest(categoryName, lowest(summaryPrices(summary.lowestPrice())))
+                || mayChangeHighest(categoryName, highest(summaryPrices(summary.highestPrice())));
+    }
+
+    boolean affectsCategoryPricing(CategoryProductSummaryResponse summary) {
+        return sides.stream().anyMatch(side -> summary.items().stream()
+                .filter(item -> item.categoryId().equals(side.categoryId()))
+                .findFirst()
+                .map(item -> side.price().compareTo(item.price()) <= 0)
+                .orElse(true));
+    }
+
+    /**
+     * Any change to the cached brand may change the answer. Another brand can only overtake it when
+     * one of its category minimums may drop, i.e. a product is added, moved, or gets cheaper.
+     */
+    boolean affectsLowestBrand(BrandProductSummaryResponse summary) {
+        String cachedBrand = summary.lowestPrice().brandName();
+        ProductPriceInfo before = event.before();
+        ProductPriceInfo after = event.after();
+
+        if (sides.stream().anyMatch(side -> side.brandName().equals(cachedBrand))) {
+            return true;
+        }
+        if (after == null) {
+            return false;
+        }
+        return before == null
+                || !before.brandId().equals(after.brandId())
+                || !before.categoryId().equals(after.categoryId())
+                || after.price().compareTo(before.price()) < 0;
+    }
+
+    /**
+     * Tests a cached entry, treating a missing or unreadable entry as affected.
+     *
+     * @return true when the entry is absent, unreadable, of an unexpected type, or affected
+     */
+    static <T> boolean isStale(Cache cache, Object key, Class<T> type, Predicate<T> affected) {
+        try {
+            Cache.ValueWrapper cached = cache.get(key);
+            if (cached == null) {
+                return true;
+            }
+            Object value = cached.get();
+            return !type.isInstance(value) || affected.test(type.cast(value));
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    private boolean mayChangeLowest(String categoryName, BigDecimal cachedLowest) {
+        return sides.stream()
+                .filter(side -> side.categoryName().equals(categoryName))
+                .anyMatch(side -> cachedLowest == null || side.price().compareTo(cachedLowest) <= 0);
+    }
+
+    private boolean mayChangeHighest(String categoryName, BigDecimal cachedHighest) {
+        return sides.stream()
+                .filter(side -> side.categoryName().equals(categoryName))
+                .anyMatch(side -> cachedHighest == null || side.price().compareTo(cachedHighest) >= 0);
+    }
+
+    private static List<BigDecimal> summaryPrices(List<CategoryPriceSummaryResponse.PriceInfo> prices) {
+        return prices.stream()
+                .map(CategoryPriceSummaryResponse.PriceInfo::price)
+                .toList();
+    }
+
+    private static BigDecimal lowest(List<BigDecimal> prices) {
+        return prices.stream().min(BigDecimal::compareTo).orElse(null);
+    }
+
+    private static BigDecimal highest(List<BigDecimal> prices) {
+        return prices.stream().max(BigDecimal::compareTo).orElse(null);
+    }
+}
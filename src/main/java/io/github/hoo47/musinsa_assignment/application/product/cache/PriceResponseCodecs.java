@@ -0,0 +1,139 @@
+package io.github.hoo47.musinsa_assignment.application.product.cache;
+
+import io.github.hoo47.musinsa_assignment.application.brand.dto.response.CategoryPriceSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.common.cache.BinaryCodec;
+import io.github.hoo47.musinsa_assignment.common.cache.BinaryReader;
+import io.github.hoo47.musinsa_assignment.common.cache.BinaryWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Binary codecs of the cached pricing responses and price projections.
+ * Fields are written in declaration order; bump the schema version whenever a record changes shape.
+ */
+public final class PriceResponseCodecs {
+
+    public static final BinaryCodec<CategoryProductSummaryResponse> CATEGORY_PRICING = new BinaryCodec<>() {
+        @Override
+        public int schemaVersion() {
+            return 1;
+        }
+
+        @Override
+        public void write(CategoryProductSummaryResponse value, BinaryWriter writer) {
+            writeList(writer, value.items(), (item, w) -> {
+                w.writeNullableLong(item.categoryId());
+                w.writeString(item.categoryName());
+                w.writeNullableLong(item.brandId());
+                w.writeString(item.brandName());
+                w.writeBigDecimal(item.price());
+            });
+            writer.writeBigDecimal(value.totalPrice());
+        }
+
+        @Override
+        public CategoryProductSummaryResponse read(BinaryReader reader) {
+            List<CategoryProductSummaryResponse.CategoryProductPriceInfo> items = readList(reader,
+                    r -> new CategoryProductSummaryResponse.CategoryProductPriceInfo(
+                            r.readNullableLong(), r.readString(), r.readNullableLong(), r.readString(), r.readBigDecimal()));
+            return new CategoryProductSummaryResponse(items, reader.readBigDecimal());
+        }
+    };
+
+    public static final BinaryCodec<CategoryPriceSummaryResponse> PRICE_SUMMARY = new BinaryCodec<>() {
+        @Override
+        public int schemaVersion() {
+            return 1;
+        }
+
+        @Override
+        public void write(CategoryPriceSummaryResponse value, BinaryWriter writer) {
+            writer.writeString(value.category());
+            writeList(writer, value.lowestPrice(), PriceResponseCodecs::writePriceInfo);
+            writeList(writer, value.highestPrice(), PriceResponseCodecs::writePriceInfo);
+        }
+
+        @Override
+        public CategoryPriceSummaryResponse read(BinaryReader reader) {
+            return new CategoryPriceSummaryResponse(
+                    reader.readString(),
+                    readList(reader, PriceResponseCodecs::readPriceInfo),
+                    readList(reader, PriceResponseCodecs::readPriceInfo)
+            );
+        }
+    };
+
+    public static final BinaryCodec<BrandProductSummaryResponse> BRAND_LOWEST_PRICE = new BinaryCodec<>() {
+        @Override
+        public int schemaVersion() {
+            return 1;
+        }
+
+        @Override
+        public void write(BrandProductSummaryResponse value, BinaryWriter writer) {
+            BrandProductSummaryResponse.LowestPriceInfo lowestPrice = value.lowestPrice();
+            writer.writeBoolean(lowestPrice != null);
+            if (lowestPrice == null) {
+                return;
+            }
+            writer.writeString(lowestPrice.brandName());
+            writeList(writer, lowestPrice.categories(), (category, w) -> {
+                w.writeString(category.categoryName());
+                w.writeBigDecimal(category.price());
+            });
+            writer.writeBigDecimal(lowestPrice.totalPrice());
+        }
+
+        @Override
+        public BrandProductSummaryResponse read(BinaryReader reader) {
+            if (!reader.readBoolean()) {
+                return new BrandProductSummaryResponse(null);
+            }
+            String brandName = reader.readString();
+            List<BrandProductSummaryResponse.CategoryPrice> categories = readList(reader,
+                    r -> new BrandProductSummaryResponse.CategoryPrice(r.readString(), r.readBigDecimal()));
+            return BrandProductSummaryResponse.of(brandName, categories, reader.readBigDecimal());
+        }
+    };
+
+    private PriceResponseCodecs() {
+    }
+
+    private static void writePriceInfo(CategoryPriceSummaryResponse.PriceInfo priceInfo, BinaryWriter writer) {
+        writer.writeString(priceInfo.brand());
+        writer.writeBigDecimal(priceInfo.price());
+    }
+
+    private static CategoryPriceSummaryResponse.PriceInfo readPriceInfo(BinaryReader reader) {
+        return new CategoryPriceSummaryResponse.PriceInfo(reader.readString(), reader.readBigDecimal());
+    }
+
+    /**
+     * Writes the size plus one, so that a null list is a single zero byte.
+     */
+    private static <E> void writeList(BinaryWriter writer, List<E> values, BiConsumer<E, BinaryWriter> element) {
+        if (values == null) {
+            writer.writeVarInt(0);
+            return;
+        }
+        writer.writeVarInt(values.size() + 1);
+        values.forEach(value -> element.accept(value, writer));
+    }
+
+    private static <E> List<E> readList(BinaryReader reader, Function<BinaryReader, E> element) {
+        int size = reader.readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<E> values = new ArrayList<>(Math.min(size, 1_024));
+        for (int i = 0; i < size; i++) {
+            values.add(element.apply(reader));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.hoo47.musinsa_assignment.application.product.event;
+
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+
+/**
+ * Published by {@code ProductCommandService} whenever a product's price, category or brand changes.
+ * {@code before} is null for a newly created product and {@code after} is null for a deleted one.
+ *
+ * @param before the product state before the change
+ * @param after  the product state after the change
+ */
+public record ProductChangedEvent(
+        ProductPriceInfo before,
+        ProductPriceInfo after
+) {
+
+    public static ProductChangedEvent created(ProductPriceInfo after) {
+        return new ProductChangedEvent(null, after);
+    }
+
+    public static ProductChangedEvent updated(ProductPriceInfo before, ProductPriceInfo after) {
+        return new ProductChangedEvent(before, after);
+    }
+
+    public static ProductChangedEvent deleted(ProductPriceInfo before) {
+        return new ProductChangedEvent(before, null);
+    }
+}
@@ -0,0 +1,240 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.common.price.MinorUnits;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandPriceSummary;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Dense brand x category matrix of minimum prices with a running total per brand.
+ * Cells and totals are primitive longs in minor units, so totals and ranking comparisons need no BigDecimal math;
+ * a change still allocates a little, for the per-cell price counts and the brand's new ranking entry.
+ * Brands that have a product in every category are kept in a set ordered by total price,
+ * brand name and brand ID, so the lowest-total brand is found in O(log n) and each product
+ * change only touches one cell of one brand row.
+ */
+@Component
+public class BrandCategoryPriceMatrix {
+
+    private static final Comparator<BrandRank> RANK_ORDER = Comparator
+            .comparingLong(BrandRank::totalPrice)
+            .thenComparing(BrandRank::brandName)
+            .thenComparing(BrandRank::brandId);
+
+    private final Map<Long, Integer> categorySlots = new HashMap<>();
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<String> categoryNames = new ArrayList<>();
+    private final Map<Long, BrandRow> rows = new HashMap<>();
+    private final NavigableSet<BrandRank> ranking = new TreeSet<>(RANK_ORDER);
+    private volatile boolean loaded;
+
+    /**
+     * Replaces the whole matrix.
+     *
+     * @param categories every category, including those without products
+     * @param products   every product currently stored
+     */
+    public synchronized void load(Collection<Category> categories, Collection<ProductPriceInfo> products) {
+        categorySlots.clear();
+        categoryIds.clear();
+        categoryNames.clear();
+        rows.clear();
+        ranking.clear();
+
+        categories.forEach(category -> slotOf(category.getId(), category.getName()));
+        products.forEach(this::addProduct);
+        loaded = true;
+    }
+
+    /**
+     * Applies a single product change.
+     *
+     * @param before the product state before the change, or null when created
+     * @param after  the product state after the change, or null when deleted
+     */
+    public synchronized void apply(ProductPriceInfo before, ProductPriceInfo after) {
+        if (before != null) {
+            removeProduct(before);
+        }
+        if (after != null) {
+            addProduct(after);
+        }
+    }
+
+    public synchronized void renameBrand(Long brandId, String name) {
+        BrandRow row = rows.get(brandId);
+        if (row == null) {
+            return;
+        }
+        unrank(row);
+        row.brandName = name;
+        rank(row);
+    }
+
+    /**
+     * Finds the brand with the lowest total price among brands that cover every category.
+     *
+     * @return the brand summary, or empty when no brand covers every category
+     */
+    public synchronized Optional<BrandPriceSummary> findLowestTotalBrand() {
+        if (ranking.isEmpty()) {
+            return Optional.empty();
+        }
+
+        BrandRow row = rows.get(ranking.first().brandId());
+        List<BrandCategoryPriceInfo> categoryPrices = new ArrayList<>(categoryIds.size());
+        for (int slot = 0; slot < categoryIds.size(); slot++) {
+            categoryPrices.add(new BrandCategoryPriceInfo(
+                    row.brandId, row.brandName,
+                    categoryIds.get(slot), categoryNames.get(slot),
+                    MinorUnits.toBigDecimal(row.minPrices[slot])));
+        }
+        return Optional.of(new BrandPriceSummary(
+                row.brandId, row.brandName, MinorUnits.toBigDecimal(row.totalPrice), categoryPrices));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    private void addProduct(ProductPriceInfo product) {
+        int slot = slotOf(product.categoryId(), product.categoryName());
+        BrandRow row = rows.computeIfAbsent(product.brandId(), id -> new BrandRow(id, categoryIds.size()));
+
+        unrank(row);
+        row.brandName = product.brandName();
+        row.addPrice(slot, MinorUnits.of(product.price()));
+        rank(row);
+    }
+
+    private void removeProduct(ProductPriceInfo product) {
+        Integer slot = categorySlots.get(product.categoryId());
+        BrandRow row = rows.get(product.brandId());
+        if (slot == null || row == null) {
+            return;
+        }
+
+        unrank(row);
+        row.removePrice(slot, MinorUnits.of(product.price()));
+        if (row.coveredCategories == 0) {
+            rows.remove(product.brandId());
+        } else {
+            rank(row);
+        }
+    }
+
+    private int slotOf(Long categoryId, String categoryName) {
+        Integer slot = categorySlots.get(categoryId);
+        if (slot != null) {
+            return slot;
+        }
+
+        int newSlot = categoryIds.size();
+        categorySlots.put(categoryId, newSlot);
+        categoryIds.add(categoryId);
+        categoryNames.add(categoryName);
+        // A new category means no brand covers every category anymore until it gets a product there
+        ranking.clear();
+        rows.values().forEach(row -> {
+            row.rank = null;
+            rank(row);
+        });
+        return newSlot;
+    }
+
+    private void rank(BrandRow row) {
+        if (row.coveredCategories == categoryIds.size()) {
+            row.rank = new BrandRank(row.totalPrice, row.brandName, row.brandId);
+            ranking.add(row.rank);
+        }
+    }
+
+    private void unrank(BrandRow row) {
+        if (row.rank != null) {
+            ranking.remove(row.rank);
+            row.rank = null;
+        }
+    }
+
+    private record BrandRank(long totalPrice, String brandName, Long brandId) {
+    }
+
+    private static final class BrandRow {
+
+        private static final long NO_PRICE = -1L;
+
+        private final Long brandId;
+        private final Map<Integer, NavigableMap<Long, Integer>> pricesBySlot = new HashMap<>();
+        private String brandName;
+        private long[] minPrices;
+        private long totalPrice;
+        private int coveredCategories;
+        private BrandRank rank;
+
+        private BrandRow(Long brandId, int categoryCount) {
+            this.brandId = brandId;
+            this.minPrices = newCells(0, categoryCount);
+        }
+
+        private void addPrice(int slot, long price) {
+            pricesBySlot.computeIfAbsent(slot, s -> new TreeMap<>()).merge(price, 1, Integer::sum);
+            refreshMin(slot);
+        }
+
+        private void removePrice(int slot, long price) {
+            NavigableMap<Long, Integer> prices = pricesBySlot.get(slot);
+            if (prices == null) {
+                return;
+            }
+
+            prices.computeIfPresent(price, (p, count) -> count > 1 ? count - 1 : null);
+            if (prices.isEmpty()) {
+                pricesBySlot.remove(slot);
+            }
+            refreshMin(slot);
+        }
+
+        private void refreshMin(int slot) {
+            if (slot >= minPrices.length) {
+                long[] grown = newCells(minPrices.length, slot + 1);
+                System.arraycopy(minPrices, 0, grown, 0, minPrices.length);
+                minPrices = grown;
+            }
+
+            NavigableMap<Long, Integer> prices = pricesBySlot.get(slot);
+            long previous = minPrices[slot];
+            long current = prices == null ? NO_PRICE : prices.firstKey();
+
+            if (previous != NO_PRICE) {
+                totalPrice = MinorUnits.subtract(totalPrice, previous);
+                coveredCategories--;
+            }
+            if (current != NO_PRICE) {
+                totalPrice = MinorUnits.add(totalPrice, current);
+                coveredCategories++;
+            }
+            minPrices[slot] = current;
+        }
+
+        private static long[] newCells(int from, int length) {
+            long[] cells = new long[length];
+            Arrays.fill(cells, from, length, NO_PRICE);
+            return cells;
+        }
+    }
+}
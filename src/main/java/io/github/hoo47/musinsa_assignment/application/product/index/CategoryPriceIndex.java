@@ -0,0 +1,159 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.common.price.MinorUnits;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * In-memory index of products per category, ordered by price and then product ID.
+ * Prices are held in minor units so ordering compares primitives instead of BigDecimals.
+ * This is the writer-side structure: readers are served from the immutable
+ * {@link PricingSnapshot} that is derived from it after every change.
+ */
+@Component
+public class CategoryPriceIndex {
+
+    private static final Comparator<PriceEntry> PRICE_ORDER = Comparator
+            .comparingLong(PriceEntry::price)
+            .thenComparingLong(PriceEntry::productId);
+
+    private final Map<Long, NavigableSet<PriceEntry>> entriesByCategory = new HashMap<>();
+    private final Map<Long, PriceEntry> entriesByProduct = new HashMap<>();
+    private final Map<Long, String> categoryNames = new TreeMap<>();
+    private final Map<Long, String> brandNames = new HashMap<>();
+    private boolean loaded;
+
+    /**
+     * Replaces the whole index with the given products.
+     *
+     * @param categories every category, including those without products
+     * @param products   every product currently stored
+     */
+    public synchronized void load(Collection<Category> categories, Collection<ProductPriceInfo> products) {
+        entriesByCategory.clear();
+        entriesByProduct.clear();
+        categoryNames.clear();
+        brandNames.clear();
+
+        categories.forEach(category -> categoryNames.put(category.getId(), category.getName()));
+        products.forEach(this::upsert);
+        loaded = true;
+    }
+
+    /**
+     * Adds a product or moves an existing one to its new category and price.
+     *
+     * @param product the current product state
+     */
+    public synchronized void upsert(ProductPriceInfo product) {
+        remove(product.productId());
+        PriceEntry entry = PriceEntry.from(product);
+        entriesByCategory.computeIfAbsent(entry.categoryId(), id -> new TreeSet<>(PRICE_ORDER)).add(entry);
+        entriesByProduct.put(entry.productId(), entry);
+        categoryNames.put(product.categoryId(), product.categoryName());
+        brandNames.put(product.brandId(), product.brandName());
+    }
+
+    /**
+     * Removes a product from the index. Unknown IDs are ignored.
+     *
+     * @param productId the product ID
+     */
+    public synchronized void remove(Long productId) {
+        PriceEntry previous = entriesByProduct.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        NavigableSet<PriceEntry> entries = entriesByCategory.get(previous.categoryId());
+        if (entries != null) {
+            entries.remove(previous);
+        }
+    }
+
+    public synchronized void renameBrand(Long brandId, String name) {
+        brandNames.put(brandId, name);
+    }
+
+    /**
+     * Finds the cheapest product of a category. Ties on price are broken by the lowest product ID.
+     *
+     * @param categoryId the category ID
+     * @return the cheapest product, or empty when the category has no products
+     */
+    public synchronized Optional<ProductPriceInfo> findCheapest(Long categoryId) {
+        return entries(categoryId).stream()
+                .findFirst()
+                .map(this::toPriceInfo);
+    }
+
+    /**
+     * Collects the lowest- and highest-priced products of every known category, in category ID order.
+     * Every product sharing the extreme price is included, ordered by product ID.
+     *
+     * @return the price range of each category
+     */
+    public synchronized List<CategoryPriceRange> findPriceRanges() {
+        List<CategoryPriceRange> ranges = new ArrayList<>(categoryNames.size());
+        categoryNames.forEach((categoryId, categoryName) -> {
+            NavigableSet<PriceEntry> entries = entries(categoryId);
+            List<ProductPriceInfo> highest = ties(entries.descendingIterator());
+            Collections.reverse(highest);
+            ranges.add(new CategoryPriceRange(categoryId, categoryName, ties(entries.iterator()), highest));
+        });
+        return ranges;
+    }
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    private NavigableSet<PriceEntry> entries(Long categoryId) {
+        return entriesByCategory.getOrDefault(categoryId, Collections.emptyNavigableSet());
+    }
+
+    private List<ProductPriceInfo> ties(Iterator<PriceEntry> entries) {
+        List<ProductPriceInfo> ties = new ArrayList<>();
+        long extremePrice = 0;
+        while (entries.hasNext()) {
+            PriceEntry entry = entries.next();
+            if (!ties.isEmpty() && entry.price() != extremePrice) {
+                break;
+            }
+            extremePrice = entry.price();
+            ties.add(toPriceInfo(entry));
+        }
+        return ties;
+    }
+
+    private ProductPriceInfo toPriceInfo(PriceEntry entry) {
+        return new ProductPriceInfo(
+                entry.productId(),
+                entry.categoryId(),
+                categoryNames.get(entry.categoryId()),
+                entry.brandId(),
+                brandNames.get(entry.brandId()),
+                MinorUnits.toBigDecimal(entry.price())
+        );
+    }
+
+    private record PriceEntry(long productId, Long categoryId, Long brandId, long price) {
+
+        static PriceEntry from(ProductPriceInfo product) {
+            return new PriceEntry(product.productId(), product.categoryId(), product.brandId(), MinorUnits.of(product.price()));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lowest- and highest-priced products of a category.
+ * Both lists hold every product sharing the extreme price, ordered by product ID, and are empty
+ * when the category has no products.
+ *
+ * @param categoryId   the category ID
+ * @param categoryName the category name
+ * @param lowest       the products with the lowest price
+ * @param highest      the products with the highest price
+ */
+public record CategoryPriceRange(
+        Long categoryId,
+        String categoryName,
+        List<ProductPriceInfo> lowest,
+        List<ProductPriceInfo> highest
+) {
+
+    public CategoryPriceRange {
+        lowest = List.copyOf(lowest);
+        highest = List.copyOf(highest);
+    }
+
+    /**
+     * @return the cheapest product, ties broken by the lowest product ID
+     */
+    public Optional<ProductPriceInfo> cheapest() {
+        return lowest.stream().findFirst();
+    }
+}
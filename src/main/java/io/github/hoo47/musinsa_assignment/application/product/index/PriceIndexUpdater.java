@@ -0,0 +1,158 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hoo47.musinsa_assignment.application.brand.event.BrandRenamedEvent;
+import io.github.hoo47.musinsa_assignment.application.product.event.ProductChangedEvent;
+import io.github.hoo47.musinsa_assignment.common.cache.CacheInvalidationListener;
+import io.github.hoo47.musinsa_assignment.common.cache.CacheInvalidationPublisher;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps the in-memory price index and brand x category price matrix in sync with the products table.
+ * Both are rebuilt once at startup, before any other ready listener such as the cache warm-up,
+ * and then updated after each committed product change.
+ * Rebuild and updates are serialized so that a change committed during the rebuild is never lost,
+ * and each of them ends by publishing the next {@link PricingSnapshot} for readers.
+ * Change listeners run first among the after-commit listeners so that caches refilled after an
+ * eviction are computed from the new snapshot.
+ * Changes committed on other nodes arrive on the invalidation channel as {@link #PRODUCT_CHANGE} and
+ * {@link #BRAND_RENAME} messages carrying the event itself, and are applied the same way as local ones.
+ * Since pub/sub delivery is at-most-once and unordered across nodes, the index is also rebuilt
+ * periodically from the database so that a missed or reordered message is repaired.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceIndexUpdater implements CacheInvalidationListener {
+
+    public static final String PRODUCT_CHANGE = "pricingSnapshot:product";
+    public static final String BRAND_RENAME = "pricingSnapshot:brand";
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryPriceIndex categoryPriceIndex;
+    private final BrandCategoryPriceMatrix brandCategoryPriceMatrix;
+    private final PricingReadModel pricingReadModel;
+    private final ObjectProvider<CacheInvalidationPublisher> invalidationPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${pricing.index.enabled:true}")
+    private boolean enabled;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<Category> categories = categoryRepository.findAll();
+        List<ProductPriceInfo> products = productRepository.findAllPriceInfos();
+        categoryPriceIndex.load(categories, products);
+        brandCategoryPriceMatrix.load(categories, products);
+        PricingSnapshot snapshot = publishSnapshot();
+
+        log.info("가격 인덱스 재구성 완료: {}개 상품, 버전 {}, {}ms",
+                products.size(), snapshot.version(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @Scheduled(initialDelayString = "${pricing.index.reconcile-interval:PT5M}",
+            fixedDelayString = "${pricing.index.reconcile-interval:PT5M}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    @Override
+    public void onInvalidation(String cacheName, String key) {
+        if (PRODUCT_CHANGE.equals(cacheName)) {
+            applyProductChange(read(key, ProductChangedEvent.class));
+        } else if (BRAND_RENAME.equals(cacheName)) {
+            applyBrandRename(read(key, BrandRenamedEvent.class));
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (applyProductChange(event)) {
+            publishRemote(PRODUCT_CHANGE, event);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBrandRenamed(BrandRenamedEvent event) {
+        if (applyBrandRename(event)) {
+            publishRemote(BRAND_RENAME, event);
+        }
+    }
+
+    private synchronized boolean applyProductChange(ProductChangedEvent event) {
+        if (!categoryPriceIndex.isLoaded()) {
+            return false;
+        }
+
+        if (event.after() == null) {
+            categoryPriceIndex.remove(event.before().productId());
+        } else {
+            categoryPriceIndex.upsert(event.after());
+        }
+        brandCategoryPriceMatrix.apply(event.before(), event.after());
+        publishSnapshot();
+        return true;
+    }
+
+    private synchronized boolean applyBrandRename(BrandRenamedEvent event) {
+        if (!categoryPriceIndex.isLoaded()) {
+            return false;
+        }
+
+        categoryPriceIndex.renameBrand(event.brandId(), event.name());
+        brandCategoryPriceMatrix.renameBrand(event.brandId(), event.name());
+        publishSnapshot();
+        return true;
+    }
+
+    private void publishRemote(String name, Object event) {
+        invalidationPublisher.ifAvailable(publisher -> {
+            try {
+                publisher.publish(name, objectMapper.writeValueAsString(event));
+            } catch (JsonProcessingException e) {
+                log.warn("가격 변경 메시지를 만들 수 없습니다: 다른 노드는 다음 재구성 때 반영합니다. {}", event, e);
+            }
+        });
+    }
+
+    private <T> T read(String message, Class<T> type) {
+        try {
+            return objectMapper.readValue(message, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("가격 변경 메시지를 해석할 수 없습니다: " + message, e);
+        }
+    }
+
+    private PricingSnapshot publishSnapshot() {
+        return pricingReadModel.publish(
+                categoryPriceIndex.findPriceRanges(),
+                brandCategoryPriceMatrix.findLowestTotalBrand().orElse(null));
+    }
+}
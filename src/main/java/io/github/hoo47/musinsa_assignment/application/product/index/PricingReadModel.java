@@ -0,0 +1,42 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandPriceSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link PricingSnapshot}.
+ * Readers take the current snapshot with a single volatile read and never block; a writer builds
+ * the next snapshot off to the side and publishes it with one atomic reference swap, so a reader
+ * sees either the previous or the next version and never a half-applied change.
+ */
+@Component
+public class PricingReadModel {
+
+    private final AtomicReference<PricingSnapshot> current = new AtomicReference<>(PricingSnapshot.EMPTY);
+
+    public PricingSnapshot current() {
+        return current.get();
+    }
+
+    public long version() {
+        return current.get().version();
+    }
+
+    public boolean isLoaded() {
+        return current.get().loaded();
+    }
+
+    /**
+     * Publishes a new snapshot whose version is one higher than the current one.
+     *
+     * @param categories       the price range of every category, in category ID order
+     * @param lowestTotalBrand the brand with the lowest total price, or null when none covers every category
+     * @return the published snapshot
+     */
+    public PricingSnapshot publish(List<CategoryPriceRange> categories, BrandPriceSummary lowestTotalBrand) {
+        return current.updateAndGet(previous -> PricingSnapshot.of(previous.version() + 1, categories, lowestTotalBrand));
+    }
+}
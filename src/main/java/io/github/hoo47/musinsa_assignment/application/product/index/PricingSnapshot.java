@@ -0,0 +1,98 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.common.price.MinorUnits;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandPriceSummary;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable version of the pricing read model: the price range of every category and the
+ * lowest-total brand, with lookups by category ID and name.
+ * The total of the cheapest product of every category is summed in minor units once, when the snapshot is
+ * published, so that readers only convert it for the response.
+ * A snapshot is never modified after construction, so it can be shared with any number of readers
+ * without locking; writers publish a new snapshot through {@link PricingReadModel} instead.
+ */
+public final class PricingSnapshot {
+
+    public static final PricingSnapshot EMPTY = new PricingSnapshot(0L, false, List.of(), null);
+
+    private final long version;
+    private final boolean loaded;
+    private final List<CategoryPriceRange> categories;
+    private final BrandPriceSummary lowestTotalBrand;
+    private final long cheapestTotal;
+    private final Map<Long, CategoryPriceRange> categoriesById;
+    private final Map<String, CategoryPriceRange> categoriesByName;
+
+    private PricingSnapshot(long version, boolean loaded, List<CategoryPriceRange> categories, BrandPriceSummary lowestTotalBrand) {
+        Map<Long, CategoryPriceRange> byId = new HashMap<>();
+        Map<String, CategoryPriceRange> byName = new HashMap<>();
+        long total = 0L;
+        for (CategoryPriceRange range : categories) {
+            byId.put(range.categoryId(), range);
+            byName.put(range.categoryName(), range);
+            if (range.cheapest().isPresent()) {
+                total = MinorUnits.add(total, MinorUnits.of(range.cheapest().get().price()));
+            }
+        }
+
+        this.version = version;
+        this.loaded = loaded;
+        this.categories = List.copyOf(categories);
+        this.lowestTotalBrand = lowestTotalBrand;
+        this.cheapestTotal = total;
+        this.categoriesById = Map.copyOf(byId);
+        this.categoriesByName = Map.copyOf(byName);
+    }
+
+    /**
+     * @param version          the snapshot version
+     * @param categories       the price range of every category, in category ID order
+     * @param lowestTotalBrand the brand with the lowest total price, or null when none covers every category
+     * @return a loaded snapshot
+     */
+    public static PricingSnapshot of(long version, List<CategoryPriceRange> categories, BrandPriceSummary lowestTotalBrand) {
+        return new PricingSnapshot(version, true, categories, lowestTotalBrand);
+    }
+
+    /**
+     * @return monotonically increasing version, 0 until the read model is first loaded
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return whether the snapshot reflects the products table
+     */
+    public boolean loaded() {
+        return loaded;
+    }
+
+    public List<CategoryPriceRange> categories() {
+        return categories;
+    }
+
+    /**
+     * @return the sum of the cheapest price of every category, in minor units
+     */
+    public long cheapestTotal() {
+        return cheapestTotal;
+    }
+
+    public Optional<CategoryPriceRange> findCategory(Long categoryId) {
+        return Optional.ofNullable(categoriesById.get(categoryId));
+    }
+
+    public Optional<CategoryPriceRange> findCategoryByName(String categoryName) {
+        return Optional.ofNullable(categoriesByName.get(categoryName));
+    }
+
+    public Optional<BrandPriceSummary> findLowestTotalBrand() {
+        return Optional.ofNullable(lowestTotalBrand);
+    }
+}
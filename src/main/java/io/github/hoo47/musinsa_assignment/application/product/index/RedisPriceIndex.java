@@ -0,0 +1,495 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.common.cache.CircuitBreaker;
+import io.github.hoo47.musinsa_assignment.common.price.MinorUnits;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * {@link SharedPriceIndex} kept on Redis.
+ * <ul>
+ *     <li>{@code pricing:category:{categoryId}}: sorted set of the category's products scored by price in minor units.
+ *     Members are the zero-padded product ID and the brand ID, so equal prices are ordered by product ID.</li>
+ *     <li>{@code pricing:brand:{brandId}:category:{categoryId}}: the same, for the products of one brand.</li>
+ *     <li>{@code pricing:brand:{brandId}}: hash of category ID to the brand's cheapest price in that category.</li>
+ *     <li>{@code pricing:categories}, {@code pricing:category-ids}, {@code pricing:brands}: ID/name lookups.</li>
+ * </ul>
+ * Each product, brand or category change is applied by one script, so readers never see it half-applied,
+ * and each lookup is a single script call: one round trip that resolves the price ties and names on the server.
+ * Every change also increments {@code pricing:changes}. A rebuild writes the index under temporary keys and
+ * swaps them in with one script that first checks the counter still holds the value read before the products
+ * were read from the database, so a change applied by another node in the meantime is never overwritten.
+ * Reads and writes go through the Redis circuit breaker; lookups report the index as unavailable while it is open.
+ * The index only counts as built while the {@code pricing:loaded} marker exists. A failed or skipped update
+ * removes the marker so readers fall back to the database, or, when Redis cannot be reached to remove it,
+ * leaves a repair request for {@link RedisPriceIndexUpdater} to remove it and rebuild once Redis is back.
+ * <p>
+ * The lookup scripts derive the sorted set and hash keys they read from the values of the ID hashes instead of
+ * declaring them in KEYS, so the index requires a standalone (or single-shard) Redis, not Redis Cluster.
+ */
+@Slf4j
+public class RedisPriceIndex implements SharedPriceIndex {
+
+    private static final String PREFIX = "pricing:";
+    private static final String LOADED = PREFIX + "loaded";
+    private static final String LOADING = PREFIX + "loading";
+    private static final String CHANGES = PREFIX + "changes";
+    private static final String BUILD_PREFIX = PREFIX + "build:";
+    private static final Duration BUILD_KEY_TTL = Duration.ofMinutes(10);
+    private static final String CATEGORIES = PREFIX + "categories";
+    private static final String CATEGORY_IDS = PREFIX + "category-ids";
+    private static final String BRANDS = PREFIX + "brands";
+    private static final String CATEGORY_PREFIX = PREFIX + "category:";
+    private static final String BRAND_PREFIX = PREFIX + "brand:";
+
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            local function refreshMinimum(zset, hash, field)
+              local lowest = redis.call('ZRANGE', zset, 0, 0, 'WITHSCORES')
+              if lowest[2] then redis.call('HSET', hash, field, lowest[2]) else redis.call('HDEL', hash, field) end
+            end
+            if ARGV[1] ~= '' then
+              redis.call('ZREM', KEYS[1], ARGV[1])
+              redis.call('ZREM', KEYS[2], ARGV[1])
+              refreshMinimum(KEYS[2], KEYS[3], ARGV[2])
+            end
+            if ARGV[3] ~= '' then
+              redis.call('ZADD', KEYS[4], ARGV[4], ARGV[3])
+              redis.call('ZADD', KEYS[5], ARGV[4], ARGV[3])
+              refreshMinimum(KEYS[5], KEYS[6], ARGV[5])
+              redis.call('HSET', KEYS[7], ARGV[5], ARGV[6])
+              redis.call('HSET', KEYS[8], ARGV[6], ARGV[5])
+              redis.call('HSET', KEYS[9], ARGV[7], ARGV[8])
+            end
+            redis.call('INCR', KEYS[10])
+            return 1
+            """, Long.class);
+
+    // 이름이 바뀐 카테고리는 이전 이름의 조회 항목을 지우고, ARGV[2]가 비어 있으면 카테고리를 삭제한다
+    private static final RedisScript<Long> CATEGORY_SCRIPT = new DefaultRedisScript<>("""
+            local previous = redis.call('HGET', KEYS[1], ARGV[1])
+            if previous and previous ~= ARGV[2] then redis.call('HDEL', KEYS[2], previous) end
+            if ARGV[2] == '' then
+              redis.call('HDEL', KEYS[1], ARGV[1])
+              redis.call('DEL', KEYS[4])
+            else
+              redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+              redis.call('HSET', KEYS[2], ARGV[2], ARGV[1])
+            end
+            redis.call('INCR', KEYS[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RENAME_BRAND_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('INCR', KEYS[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: [변경 카운터, 마커, 구성 잠금, 지울 키..., 임시 키, 대상 키, ...], ARGV: [구성 전에 읽은 변경 카운터, 지울 키 수]
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            local staleEnd = 3 + tonumber(ARGV[2])
+            if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then
+              for i = staleEnd + 1, #KEYS, 2 do redis.call('DEL', KEYS[i]) end
+              redis.call('DEL', KEYS[3])
+              return 0
+            end
+            for i = 4, staleEnd do redis.call('DEL', KEYS[i]) end
+            for i = staleEnd + 1, #KEYS, 2 do
+              redis.call('RENAME', KEYS[i], KEYS[i + 1])
+              redis.call('PERSIST', KEYS[i + 1])
+            end
+            redis.call('SET', KEYS[2], '1')
+            redis.call('DEL', KEYS[3])
+            return 1
+            """, Long.class);
+
+    // 결과: [카테고리 ID, 카테고리명, 멤버, 브랜드명, 점수] 반복
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CHEAPEST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return false end
+            local result = {}
+            local categories = redis.call('HGETALL', KEYS[2])
+            for i = 1, #categories, 2 do
+              local lowest = redis.call('ZRANGE', ARGV[1] .. categories[i], 0, 0, 'WITHSCORES')
+              if lowest[1] then
+                local brandName = redis.call('HGET', KEYS[3], string.match(lowest[1], ':(%d+)$')) or ''
+                for _, value in ipairs({categories[i], categories[i + 1], lowest[1], brandName, lowest[2]}) do
+                  table.insert(result, value)
+                end
+              end
+            end
+            return result
+            """, List.class);
+
+    // 결과: [] (없는 카테고리) 또는 [카테고리 ID, 최저가 목록, 최고가 목록], 목록은 [점수, 멤버, 브랜드명, 멤버, 브랜드명, ...]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RANGE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return false end
+            local categoryId = redis.call('HGET', KEYS[2], ARGV[2])
+            if not categoryId then return {} end
+            local key = ARGV[1] .. categoryId
+            local function ties(edge)
+              local result = {}
+              if not edge[2] then return result end
+              table.insert(result, edge[2])
+              for _, member in ipairs(redis.call('ZRANGEBYSCORE', key, edge[2], edge[2])) do
+                table.insert(result, member)
+                table.insert(result, redis.call('HGET', KEYS[3], string.match(member, ':(%d+)$')) or '')
+              end
+              return result
+            end
+            return {categoryId,
+                    ties(redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')),
+                    ties(redis.call('ZREVRANGE', key, 0, 0, 'WITHSCORES'))}
+            """, List.class);
+
+    // 결과: [카테고리 수, [브랜드 ID, 브랜드명, 카테고리 ID, 카테고리명, 점수] 반복]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> BRAND_MINIMUMS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return false end
+            local result = {}
+            local brands = redis.call('HGETALL', KEYS[2])
+            for i = 1, #brands, 2 do
+              local prices = redis.call('HGETALL', ARGV[1] .. brands[i])
+              for j = 1, #prices, 2 do
+                local categoryName = redis.call('HGET', KEYS[3], prices[j]) or ''
+                for _, value in ipairs({brands[i], brands[i + 1], prices[j], categoryName, prices[j + 1]}) do
+                  table.insert(result, value)
+                end
+              end
+            end
+            return {tostring(redis.call('HLEN', KEYS[3])), result}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final AtomicBoolean repairRequested = new AtomicBoolean();
+
+    public RedisPriceIndex(StringRedisTemplate redisTemplate, CircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Optional<List<ProductPriceInfo>> findCheapestPerCategory() {
+        return lookup(() -> redisTemplate.execute(CHEAPEST_SCRIPT, List.of(LOADED, CATEGORIES, BRANDS), CATEGORY_PREFIX))
+                .map(values -> {
+                    List<ProductPriceInfo> products = new ArrayList<>();
+                    for (int i = 0; i < values.size(); i += 5) {
+                        products.add(priceInfo(Long.valueOf(string(values, i)), string(values, i + 1),
+                                string(values, i + 2), string(values, i + 3), string(values, i + 4)));
+                    }
+                    products.sort(Comparator.comparing(ProductPriceInfo::categoryId));
+                    return products;
+                });
+    }
+
+    @Override
+    public Optional<CategoryPriceRange> findPriceRange(String categoryName) {
+        return lookup(() -> redisTemplate.execute(RANGE_SCRIPT, List.of(LOADED, CATEGORY_IDS, BRANDS),
+                CATEGORY_PREFIX, categoryName))
+                .map(values -> {
+                    if (values.isEmpty()) {
+                        return new CategoryPriceRange(null, categoryName, List.of(), List.of());
+                    }
+                    Long categoryId = Long.valueOf(string(values, 0));
+                    return new CategoryPriceRange(categoryId, categoryName,
+                            ties(categoryId, categoryName, (List<?>) values.get(1)),
+                            ties(categoryId, categoryName, (List<?>) values.get(2)));
+                });
+    }
+
+    @Override
+    public Optional<BrandCategoryMinimums> findBrandCategoryMinimums() {
+        return lookup(() -> redisTemplate.execute(BRAND_MINIMUMS_SCRIPT, List.of(LOADED, BRANDS, CATEGORIES), BRAND_PREFIX))
+                .map(values -> {
+                    List<?> rows = (List<?>) values.get(1);
+                    List<BrandCategoryPriceInfo> prices = new ArrayList<>(rows.size() / 5);
+                    for (int i = 0; i < rows.size(); i += 5) {
+                        prices.add(new BrandCategoryPriceInfo(Long.valueOf(string(rows, i)), string(rows, i + 1),
+                                Long.valueOf(string(rows, i + 2)), string(rows, i + 3), price(string(rows, i + 4))));
+                    }
+                    return new BrandCategoryMinimums(Long.parseLong(string(values, 0)), prices);
+                });
+    }
+
+    /**
+     * @return whether a complete index is on Redis
+     */
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(LOADED));
+    }
+
+    /**
+     * Claims the rebuild so that only one node loads the index when several start at once.
+     *
+     * @param ttl how long the claim is held
+     * @return whether this node should build the index
+     */
+    public boolean tryStartBuild(Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOADING, "1", ttl));
+    }
+
+    /**
+     * Reads the change counter. Read it before reading the products a rebuild loads, and pass it to
+     * {@link #load(Collection, Collection, long)}.
+     *
+     * @return how many changes have been applied to the index
+     */
+    public long changeCount() {
+        String changes = redisTemplate.opsForValue().get(CHANGES);
+        return changes == null ? 0L : Long.parseLong(changes);
+    }
+
+    /**
+     * Replaces the index with the given products and marks it as built, unless a change was applied since
+     * the change counter was read. The new index is written under temporary keys in one pipelined round trip
+     * and swapped in by a single script, so readers see either the previous index or the new one.
+     *
+     * @param categories      every category, including those without products
+     * @param products        every product currently stored
+     * @param expectedChanges the change counter read before the categories and products were
+     * @return whether the index was replaced; false when another change got in between and the build was discarded
+     */
+    public boolean load(Collection<Category> categories, Collection<ProductPriceInfo> products, long expectedChanges) {
+        Map<String, Set<ZSetOperations.TypedTuple<String>>> sortedSets = new HashMap<>();
+        Map<String, Map<String, String>> hashes = new HashMap<>();
+        Map<String, String> brandNames = new HashMap<>();
+        for (ProductPriceInfo product : products) {
+            long price = MinorUnits.of(product.price());
+            ZSetOperations.TypedTuple<String> tuple = new DefaultTypedTuple<>(member(product), (double) price);
+            sortedSets.computeIfAbsent(CATEGORY_PREFIX + product.categoryId(), key -> new HashSet<>()).add(tuple);
+            sortedSets.computeIfAbsent(brandCategoryKey(product.brandId(), product.categoryId()), key -> new HashSet<>()).add(tuple);
+            hashes.computeIfAbsent(BRAND_PREFIX + product.brandId(), key -> new HashMap<>())
+                    .merge(String.valueOf(product.categoryId()), String.valueOf(price),
+                            (left, right) -> Long.parseLong(left) <= Long.parseLong(right) ? left : right);
+            brandNames.put(String.valueOf(product.brandId()), product.brandName());
+        }
+        Map<String, String> categoryNames = new HashMap<>();
+        Map<String, String> categoryIds = new HashMap<>();
+        for (Category category : categories) {
+            categoryNames.put(String.valueOf(category.getId()), category.getName());
+            categoryIds.put(category.getName(), String.valueOf(category.getId()));
+        }
+        putIfNotEmpty(hashes, CATEGORIES, categoryNames);
+        putIfNotEmpty(hashes, CATEGORY_IDS, categoryIds);
+        putIfNotEmpty(hashes, BRANDS, brandNames);
+
+        // 이전 인덱스에만 있던 카테고리와 브랜드의 키도 지워야 이후 갱신에서 남은 상품이 섞이지 않는다
+        Set<String> categoryIdsToClear = new HashSet<>(categoryNames.keySet());
+        redisTemplate.opsForHash().keys(CATEGORIES).forEach(categoryId -> categoryIdsToClear.add(String.valueOf(categoryId)));
+        Set<String> brandIdsToClear = new HashSet<>(brandNames.keySet());
+        redisTemplate.opsForHash().keys(BRANDS).forEach(brandId -> brandIdsToClear.add(String.valueOf(brandId)));
+        List<String> staleKeys = new ArrayList<>(List.of(CATEGORIES, CATEGORY_IDS, BRANDS));
+        for (String categoryId : categoryIdsToClear) {
+            staleKeys.add(CATEGORY_PREFIX + categoryId);
+            brandIdsToClear.forEach(brandId -> staleKeys.add(brandCategoryKey(brandId, categoryId)));
+        }
+        brandIdsToClear.forEach(brandId -> staleKeys.add(BRAND_PREFIX + brandId));
+
+        // 구성이 중간에 중단되어도 임시 키가 남지 않도록 만료 시간을 둔다
+        String buildPrefix = BUILD_PREFIX + UUID.randomUUID() + ":";
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                sortedSets.forEach((key, tuples) -> {
+                    redis.opsForZSet().add(buildPrefix + key, tuples);
+                    redis.expire(buildPrefix + key, BUILD_KEY_TTL);
+                });
+                hashes.forEach((key, fields) -> {
+                    redis.opsForHash().putAll(buildPrefix + key, fields);
+                    redis.expire(buildPrefix + key, BUILD_KEY_TTL);
+                });
+                return null;
+            }
+        });
+
+        List<String> keys = new ArrayList<>(List.of(CHANGES, LOADED, LOADING));
+        keys.addAll(staleKeys);
+        for (String key : sortedSets.keySet()) {
+            keys.add(buildPrefix + key);
+            keys.add(key);
+        }
+        for (String key : hashes.keySet()) {
+            keys.add(buildPrefix + key);
+            keys.add(key);
+        }
+        Long swapped = redisTemplate.execute(SWAP_SCRIPT, keys,
+                String.valueOf(expectedChanges), String.valueOf(staleKeys.size()));
+        return Long.valueOf(1L).equals(swapped);
+    }
+
+    /**
+     * Applies a committed product change.
+     *
+     * @param before the product before the change, or null when it was created
+     * @param after  the product after the change, or null when it was deleted
+     */
+    public void apply(ProductPriceInfo before, ProductPriceInfo after) {
+        ProductPriceInfo any = after != null ? after : before;
+        ProductPriceInfo removed = before != null ? before : any;
+        List<String> keys = List.of(
+                CATEGORY_PREFIX + removed.categoryId(), brandCategoryKey(removed.brandId(), removed.categoryId()),
+                BRAND_PREFIX + removed.brandId(),
+                CATEGORY_PREFIX + any.categoryId(), brandCategoryKey(any.brandId(), any.categoryId()),
+                BRAND_PREFIX + any.brandId(),
+                CATEGORIES, CATEGORY_IDS, BRANDS, CHANGES);
+        String[] args = {
+                before == null ? "" : member(before), String.valueOf(removed.categoryId()),
+                after == null ? "" : member(after), after == null ? "" : String.valueOf(MinorUnits.of(after.price())),
+                String.valueOf(any.categoryId()), any.categoryName(),
+                String.valueOf(any.brandId()), any.brandName()};
+        update(() -> redisTemplate.execute(APPLY_SCRIPT, keys, (Object[]) args));
+    }
+
+    public void renameBrand(Long brandId, String name) {
+        update(() -> redisTemplate.execute(RENAME_BRAND_SCRIPT, List.of(BRANDS, CHANGES), String.valueOf(brandId), name));
+    }
+
+    /**
+     * Registers a created or renamed category, so that categories without products are counted as well.
+     *
+     * @param categoryId the category ID
+     * @param name       the current category name
+     */
+    public void putCategory(Long categoryId, String name) {
+        update(() -> redisTemplate.execute(CATEGORY_SCRIPT,
+                List.of(CATEGORIES, CATEGORY_IDS, CHANGES, CATEGORY_PREFIX + categoryId), String.valueOf(categoryId), name));
+    }
+
+    public void removeCategory(Long categoryId) {
+        update(() -> redisTemplate.execute(CATEGORY_SCRIPT,
+                List.of(CATEGORIES, CATEGORY_IDS, CHANGES, CATEGORY_PREFIX + categoryId), String.valueOf(categoryId), ""));
+    }
+
+    /**
+     * Removes the built marker and increments the change counter, so readers fall back to the database and
+     * a rebuild that read the products before this call is discarded.
+     *
+     * @return whether the index was invalidated; false when the circuit breaker is open
+     */
+    public boolean invalidate() {
+        return circuitBreaker.call(() -> {
+            redisTemplate.execute(INVALIDATE_SCRIPT, List.of(LOADED, CHANGES));
+            return true;
+        }, () -> false);
+    }
+
+    /**
+     * Takes the repair request left by an update that could neither be applied nor invalidated.
+     *
+     * @return whether a repair was requested since the last call
+     */
+    public boolean takeRepairRequest() {
+        return repairRequested.getAndSet(false);
+    }
+
+    public void requestRepair() {
+        repairRequested.set(true);
+    }
+
+    private void update(Supplier<?> write) {
+        try {
+            if (circuitBreaker.call(() -> {
+                write.get();
+                return true;
+            }, () -> false)) {
+                return;
+            }
+            log.warn("Redis 회로 차단기가 열려 가격 인덱스 갱신을 건너뜁니다: 인덱스를 무효화하고 DB 조회로 전환합니다.");
+        } catch (DataAccessException e) {
+            log.warn("Redis 가격 인덱스 갱신 실패: 인덱스를 무효화하고 DB 조회로 전환합니다.", e);
+        }
+
+        try {
+            if (invalidate()) {
+                return;
+            }
+        } catch (DataAccessException ignored) {
+            // 아래의 복구 요청으로 처리한다
+        }
+        // 마커를 지우지 못했으므로 Redis에 다시 닿을 때 무효화하고 재구성하도록 남겨 둔다
+        requestRepair();
+    }
+
+    private Optional<List<?>> lookup(Supplier<List<?>> script) {
+        try {
+            return Optional.ofNullable(circuitBreaker.call(script, () -> null));
+        } catch (DataAccessException e) {
+            log.debug("Redis 가격 인덱스 조회 실패: DB에서 조회합니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    private List<ProductPriceInfo> ties(Long categoryId, String categoryName, List<?> values) {
+        List<ProductPriceInfo> products = new ArrayList<>();
+        for (int i = 1; i < values.size(); i += 2) {
+            products.add(priceInfo(categoryId, categoryName, string(values, i), string(values, i + 1), string(values, 0)));
+        }
+        return products;
+    }
+
+    private static ProductPriceInfo priceInfo(Long categoryId, String categoryName, String member, String brandName, String score) {
+        int separator = member.indexOf(':');
+        return new ProductPriceInfo(Long.valueOf(member.substring(0, separator)), categoryId, categoryName,
+                Long.valueOf(member.substring(separator + 1)), brandName, price(score));
+    }
+
+    /**
+     * @return the sorted set member of a product; zero-padding the product ID orders equal prices by product ID
+     */
+    static String member(ProductPriceInfo product) {
+        return String.format("%019d:%d", product.productId(), product.brandId());
+    }
+
+    private static BigDecimal price(String score) {
+        return MinorUnits.toBigDecimal(new BigDecimal(score).longValueExact());
+    }
+
+    private static String brandCategoryKey(Object brandId, Object categoryId) {
+        return BRAND_PREFIX + brandId + ":category:" + categoryId;
+    }
+
+    private static void putIfNotEmpty(Map<String, Map<String, String>> hashes, String key, Map<String, String> fields) {
+        if (!fields.isEmpty()) {
+            hashes.put(key, fields);
+        }
+    }
+
+    private static String string(List<?> values, int index) {
+        return String.valueOf(values.get(index));
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.application.brand.event.BrandRenamedEvent;
+import io.github.hoo47.musinsa_assignment.application.product.event.ProductChangedEvent;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryChangedEvent;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Keeps the {@link RedisPriceIndex} in sync with the products and categories tables.
+ * The index is built at startup only when no other node has built it yet, and then every node applies
+ * the changes it commits itself, right after the in-memory index and before the cache evictions.
+ * A periodic repair rebuilds the index whenever it is not built, e.g. after an update failed and removed
+ * the marker on any node, and first invalidates it when an update on this node could not even do that.
+ * Updates carry no product version, so two commits on the same product applied in reverse order leave the
+ * older price behind; a slower periodic reconcile rebuilds the built index from the database to bound that.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "pricing.redis-index.enabled", havingValue = "true")
+public class RedisPriceIndexUpdater {
+
+    private static final Duration BUILD_LOCK_TTL = Duration.ofMinutes(1);
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final RedisPriceIndex redisPriceIndex;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfAbsent() {
+        try {
+            if (redisPriceIndex.isBuilt() || !redisPriceIndex.tryStartBuild(BUILD_LOCK_TTL)) {
+                return;
+            }
+            build();
+        } catch (DataAccessException e) {
+            log.warn("Redis 가격 인덱스 구성 실패: 조회는 DB에서 처리됩니다.", e);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the database even when it is built, unless another node is building it.
+     */
+    @Scheduled(initialDelayString = "${pricing.redis-index.reconcile-interval:PT5M}",
+            fixedDelayString = "${pricing.redis-index.reconcile-interval:PT5M}")
+    public void reconcile() {
+        try {
+            if (redisPriceIndex.tryStartBuild(BUILD_LOCK_TTL)) {
+                build();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis 가격 인덱스 재구성 실패: 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * Invalidates the index if an update on this node could not, then rebuilds it if it is not built.
+     */
+    @Scheduled(initialDelayString = "${pricing.redis-index.repair-interval:PT10S}",
+            fixedDelayString = "${pricing.redis-index.repair-interval:PT10S}")
+    public void repair() {
+        if (redisPriceIndex.takeRepairRequest()) {
+            try {
+                if (!redisPriceIndex.invalidate()) {
+                    redisPriceIndex.requestRepair();
+                    return;
+                }
+            } catch (DataAccessException e) {
+                log.debug("Redis 가격 인덱스 무효화 실패: 다음 복구 주기에 다시 시도합니다.", e);
+                redisPriceIndex.requestRepair();
+                return;
+            }
+        }
+        buildIfAbsent();
+    }
+
+    private void build() {
+        long startedAt = System.nanoTime();
+        // 상품을 읽기 전에 변경 횟수를 읽어야 그 사이 다른 노드가 반영한 변경을 덮어쓰지 않는다
+        long changes = redisPriceIndex.changeCount();
+        List<Category> categories = categoryRepository.findAll();
+        List<ProductPriceInfo> products = productRepository.findAllPriceInfos();
+        if (!redisPriceIndex.load(categories, products, changes)) {
+            log.info("Redis 가격 인덱스 구성 중 다른 변경이 반영되어 구성을 취소합니다: 다음 복구 주기에 다시 구성합니다.");
+            return;
+        }
+        log.info("Redis 가격 인덱스 구성 완료: {}개 상품, {}ms", products.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        redisPriceIndex.apply(event.before(), event.after());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBrandRenamed(BrandRenamedEvent event) {
+        redisPriceIndex.renameBrand(event.brandId(), event.name());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        try {
+            categoryRepository.findById(event.categoryId()).ifPresentOrElse(
+                    category -> redisPriceIndex.putCategory(category.getId(), category.getName()),
+                    () -> redisPriceIndex.removeCategory(event.categoryId()));
+        } catch (DataAccessException e) {
+            log.warn("변경된 카테고리를 조회하지 못해 Redis 가격 인덱스를 다시 구성합니다: categoryId={}", event.categoryId(), e);
+            redisPriceIndex.requestRepair();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Price read model shared by every node, consulted when this node's {@link PricingSnapshot} is not loaded
+ * and before falling back to the relational store.
+ * Every lookup returns empty when the shared index is disabled, not built yet or unreachable,
+ * in which case the caller queries the database instead.
+ */
+public interface SharedPriceIndex {
+
+    /**
+     * Index that is never available, used when the shared read model is disabled.
+     */
+    SharedPriceIndex NONE = new SharedPriceIndex() {
+        @Override
+        public Optional<List<ProductPriceInfo>> findCheapestPerCategory() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<CategoryPriceRange> findPriceRange(String categoryName) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<BrandCategoryMinimums> findBrandCategoryMinimums() {
+            return Optional.empty();
+        }
+    };
+
+    /**
+     * @return the cheapest product of every category that has products, in category ID order,
+     * ties broken by the lowest product ID
+     */
+    Optional<List<ProductPriceInfo>> findCheapestPerCategory();
+
+    /**
+     * @param categoryName the category name
+     * @return the price range of the category; a known index without the category yields a range
+     * with a null ID and empty lists
+     */
+    Optional<CategoryPriceRange> findPriceRange(String categoryName);
+
+    /**
+     * @return the cheapest price of every brand in every category it has products in
+     */
+    Optional<BrandCategoryMinimums> findBrandCategoryMinimums();
+
+    /**
+     * @param categoryCount the number of categories, with or without products
+     * @param prices        the cheapest price per brand and category
+     */
+    record BrandCategoryMinimums(long categoryCount, List<BrandCategoryPriceInfo> prices) {
+    }
+}
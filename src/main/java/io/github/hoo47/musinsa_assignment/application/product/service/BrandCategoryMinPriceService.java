@@ -0,0 +1,149 @@
+package io.github.hoo47.musinsa_assignment.application.product.service;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.hoo47.musinsa_assignment.domain.product.BrandCategoryMinPrice;
+import io.github.hoo47.musinsa_assignment.domain.product.BrandCategoryMinPriceRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the brand_category_min_price table in step with product writes.
+ * Each method runs in the transaction of the product write, after the product change has been applied
+ * to the persistence context, so the table commits or rolls back together with the products table.
+ * The minimum is recomputed from products only when the product holding it is removed or raised;
+ * every other change is applied to the locked row directly.
+ * A product moved between pairs locks both rows in key order, so opposite moves cannot deadlock.
+ * The row of a pair's first product is inserted empty in a short transaction of its own and then locked
+ * like any other row, so concurrent first products of a pair wait for each other instead of one failing
+ * on the primary key, using only portable JPQL.
+ */
+@Slf4j
+@Service
+public class BrandCategoryMinPriceService {
+
+    private static final Comparator<ProductPriceInfo> PAIR_ORDER = Comparator
+            .comparing(ProductPriceInfo::brandId)
+            .thenComparing(ProductPriceInfo::categoryId);
+
+    private final BrandCategoryMinPriceRepository brandCategoryMinPriceRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate rowInsertTransaction;
+
+    public BrandCategoryMinPriceService(BrandCategoryMinPriceRepository brandCategoryMinPriceRepository,
+                                        ProductRepository productRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.brandCategoryMinPriceRepository = brandCategoryMinPriceRepository;
+        this.productRepository = productRepository;
+        this.rowInsertTransaction = new TransactionTemplate(transactionManager);
+        this.rowInsertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onProductCreated(ProductPriceInfo product) {
+        add(product);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onProductUpdated(ProductPriceInfo before, ProductPriceInfo after) {
+        if (!before.brandId().equals(after.brandId()) || !before.categoryId().equals(after.categoryId())) {
+            if (PAIR_ORDER.compare(before, after) < 0) {
+                remove(before);
+                add(after);
+            } else {
+                add(after);
+                remove(before);
+            }
+            return;
+        }
+
+        Optional<BrandCategoryMinPrice> row = brandCategoryMinPriceRepository.findForUpdate(after.brandId(), after.categoryId());
+        if (row.isEmpty()) {
+            resync(after.brandId(), after.categoryId());
+        } else if (row.get().changePrice(before.price(), after.price())) {
+            recomputeMinPrice(row.get());
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onProductDeleted(ProductPriceInfo product) {
+        remove(product);
+    }
+
+    /**
+     * Rebuilds the whole table from the products table, for products written outside {@link ProductCommandService}.
+     */
+    @Transactional
+    public void rebuild() {
+        brandCategoryMinPriceRepository.deleteAllInBatch();
+        brandCategoryMinPriceRepository.insertFromProducts();
+    }
+
+    private void add(ProductPriceInfo product) {
+        lockOrInsert(product.brandId(), product.categoryId(), product.price()).add(product.price());
+    }
+
+    private void remove(ProductPriceInfo product) {
+        Optional<BrandCategoryMinPrice> found = brandCategoryMinPriceRepository.findForUpdate(product.brandId(), product.categoryId());
+        if (found.isEmpty()) {
+            resync(product.brandId(), product.categoryId());
+            return;
+        }
+
+        BrandCategoryMinPrice row = found.get();
+        boolean heldMinPrice = row.remove(product.price());
+        if (row.isEmpty()) {
+            brandCategoryMinPriceRepository.delete(row);
+        } else if (heldMinPrice) {
+            recomputeMinPrice(row);
+        }
+    }
+
+    /**
+     * Recreates a missing row from the products table, e.g. for a pair whose products were written
+     * outside {@link ProductCommandService}.
+     */
+    private void resync(Long brandId, Long categoryId) {
+        log.warn("브랜드×카테고리 최저가 행이 없어 상품 테이블에서 다시 계산합니다: brandId={}, categoryId={}", brandId, categoryId);
+        long productCount = productRepository.countByBrandIdAndCategoryId(brandId, categoryId);
+        if (productCount > 0) {
+            BigDecimal minPrice = productRepository.findMinPriceByBrandIdAndCategoryId(brandId, categoryId);
+            lockOrInsert(brandId, categoryId, minPrice).reset(minPrice, productCount);
+        }
+    }
+
+    /**
+     * Locks the row of a pair, inserting it empty first when the pair has none.
+     * The row can be deleted by the last product's removal between the insert and the lock, hence the loop.
+     */
+    private BrandCategoryMinPrice lockOrInsert(Long brandId, Long categoryId, BigDecimal price) {
+        Optional<BrandCategoryMinPrice> row = brandCategoryMinPriceRepository.findForUpdate(brandId, categoryId);
+        while (row.isEmpty()) {
+            try {
+                rowInsertTransaction.executeWithoutResult(status ->
+                        brandCategoryMinPriceRepository.insertEmpty(brandId, categoryId, price));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 트랜잭션이 같은 브랜드×카테고리의 첫 상품으로 먼저 만든 경우
+                log.debug("브랜드×카테고리 최저가 행이 이미 있습니다: brandId={}, categoryId={}", brandId, categoryId);
+            }
+            row = brandCategoryMinPriceRepository.findForUpdate(brandId, categoryId);
+        }
+        return row.get();
+    }
+
+    private void recomputeMinPrice(BrandCategoryMinPrice row) {
+        BigDecimal minPrice = productRepository.findMinPriceByBrandIdAndCategoryId(row.getBrandId(), row.getCategoryId());
+        row.updateMinPrice(minPrice);
+    }
+}
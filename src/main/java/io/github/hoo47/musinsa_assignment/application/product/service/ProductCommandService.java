@@ -2,19 +2,23 @@ package io.github.hoo47.musinsa_assignment.application.product.service;
 
 import java.math.BigDecimal;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.github.hoo47.musinsa_assignment.application.product.dto.request.ProductCreateRequest;
 import io.github.hoo47.musinsa_assignment.application.product.dto.request.ProductUpdateRequest;
+import io.github.hoo47.musinsa_assignment.application.product.event.ProductChangedEvent;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessErrorCode;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessException;
+import io.github.hoo47.musinsa_assignment.common.price.MinorUnits;
 import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
 import io.github.hoo47.musinsa_assignment.domain.brand.BrandRepository;
 import io.github.hoo47.musinsa_assignment.domain.category.Category;
 import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
 import io.github.hoo47.musinsa_assignment.domain.product.Product;
 import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -25,7 +29,8 @@ public class ProductCommandService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final BrandRepository brandRepository;
-    private final ProductQueryService productQueryService;
+    private final BrandCategoryMinPriceService brandCategoryMinPriceService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Product createProduct(ProductCreateRequest request) {
         Category category = categoryRepository.findById(request.categoryId())
@@ -34,9 +39,7 @@ public class ProductCommandService {
         Brand brand = brandRepository.findById(request.brandId())
                 .orElseThrow(() -> new BusinessException(BusinessErrorCode.BRAND_NOT_FOUND));
 
-        if (request.price().compareTo(BigDecimal.ZERO) < 0) {
-            throw new BusinessException(BusinessErrorCode.INVALID_PRICE);
-        }
+        validatePrice(request.price());
 
         Product product = Product.builder()
                 .price(request.price())
@@ -45,15 +48,18 @@ public class ProductCommandService {
                 .build();
         
         Product savedProduct = productRepository.save(product);
+        ProductPriceInfo created = ProductPriceInfo.from(savedProduct);
+        brandCategoryMinPriceService.onProductCreated(created);
         
-        // Invalidate price cache
-        productQueryService.clearPriceCache();
+        // Affected cache entries are evicted after commit (PriceCacheEvictor)
+        eventPublisher.publishEvent(ProductChangedEvent.created(created));
         
         return savedProduct;
     }
 
     public Product updateProduct(Long productId, ProductUpdateRequest request) {
         Product product = findProductWithLock(productId);
+        ProductPriceInfo before = ProductPriceInfo.from(product);
         boolean priceChanged = false;
         boolean categoryChanged = false;
         boolean brandChanged = false;
@@ -77,18 +83,18 @@ public class ProductCommandService {
         }
 
         if (request.price() != null) {
-            if (request.price().compareTo(BigDecimal.ZERO) < 0) {
-                throw new BusinessException(BusinessErrorCode.INVALID_PRICE);
-            }
+            validatePrice(request.price());
             if (request.price().compareTo(product.getPrice()) != 0) {
                 product.updatePrice(request.price());
                 priceChanged = true;
             }
         }
         
-        // Only invalidate cache when price, category, or brand changes
+        // Only update the price summary and invalidate cache when price, category, or brand changes
         if (priceChanged || categoryChanged || brandChanged) {
-            productQueryService.clearPriceCache();
+            ProductPriceInfo after = ProductPriceInfo.from(product);
+            brandCategoryMinPriceService.onProductUpdated(before, after);
+            eventPublisher.publishEvent(ProductChangedEvent.updated(before, after));
         }
 
         return product;
@@ -98,12 +104,27 @@ public class ProductCommandService {
         Product product = findProductWithLock(productId);
 
         productRepository.deleteById(productId);
+        ProductPriceInfo deleted = ProductPriceInfo.from(product);
+        brandCategoryMinPriceService.onProductDeleted(deleted);
         
-        // Invalidate price cache
-        productQueryService.clearPriceCache();
+        // Affected cache entries are evicted after commit (PriceCacheEvictor)
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(deleted));
         return product;
     }
 
+    /**
+     * Rejects negative prices and prices above {@link MinorUnits#MAX_PRICE}, which the pricing index
+     * could not add up in minor units.
+     */
+    private void validatePrice(BigDecimal price) {
+        if (price.compareTo(BigDecimal.ZERO) < 0) {
+            throw new BusinessException(BusinessErrorCode.INVALID_PRICE);
+        }
+        if (price.compareTo(MinorUnits.MAX_PRICE) > 0) {
+            throw new BusinessException(BusinessErrorCode.PRICE_OUT_OF_RANGE);
+        }
+    }
+
     /**
      * Retrieves a product by its ID with a pessimistic read lock.
      * Used for update and delete operations to prevent concurrent modifications.
@@ -1,23 +1,19 @@
 package io.github.hoo47.musinsa_assignment.application.product.service;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import io.github.hoo47.musinsa_assignment.domain.product.Product;
+import io.github.hoo47.musinsa_assignment.application.product.index.CategoryPriceRange;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingSnapshot;
 import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
 import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
-import io.github.hoo47.musinsa_assignment.domain.product.dto.CategoryMinPrice;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.CategoryExtremePrice;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -26,119 +22,88 @@ import lombok.RequiredArgsConstructor;
 public class ProductQueryService {
 
     private final ProductRepository productRepository;
+    private final PricingReadModel pricingReadModel;
     
-    private static final int DEFAULT_PAGE_SIZE = 100;
-    private static final String PRICE_INFO_CACHE = "priceInfoCache";
+    /**
+     * Tie cap that returns every product at the lowest and highest price.
+     */
+    public static final int ALL_TIES = Integer.MAX_VALUE;
 
     /**
      * Find the cheapest product in each category.
-     * This method is optimized to reduce database load by executing two separate queries:
-     * 1. First, get the minimum price for each category
-     * 2. Then, fetch each product with the minimum price
+     * Served from the current pricing snapshot once it is loaded, so no database access is needed.
+     * Until then it falls back to a single query ranking the products of each category,
+     * which returns the lowest-priced product, ties broken by the lowest product ID.
      *
      * @param categoryIds List of category IDs to search
      * @return List of products with the lowest price in each category
      */
-    @Cacheable(value = PRICE_INFO_CACHE, key = "'cheapestInCategories:' + #categoryIds")
-    public List<Product> getCheapestProductInCategory(List<Long> categoryIds) {
+    public List<ProductPriceInfo> getCheapestProductInCategory(List<Long> categoryIds) {
         if (categoryIds == null || categoryIds.isEmpty()) {
             return List.of();
         }
+
+        PricingSnapshot snapshot = pricingReadModel.current();
+        if (snapshot.loaded()) {
+            return categoryIds.stream()
+                    .map(snapshot::findCategory)
+                    .flatMap(Optional::stream)
+                    .map(CategoryPriceRange::cheapest)
+                    .flatMap(Optional::stream)
+                    .toList();
+        }
         
         try {
-            // Get min prices for each category
-            List<CategoryMinPrice> minPrices = productRepository.findMinPricesByCategories(categoryIds);
-
-            // Get products with min prices - Optimization: process multiple categories at once
-            return minPrices.stream()
-                .flatMap(minPrice -> productRepository.findProductsByCategoryIdAndPrice(
-                        minPrice.categoryId(), minPrice.minPrice()).stream()
-                        .limit(1)) // Get only the first product for each category
-                .collect(Collectors.toList());
+            return productRepository.findCheapestPerCategory(categoryIds);
         } catch (DataAccessException e) {
             return List.of();
         }
     }
 
     /**
-     * Find the cheapest products grouped by brand and category.
-     * This is optimized for large datasets by implementing pagination.
+     * Find the minimum prices per brand and category that come after the given key.
+     * Rows are ordered by brand ID, then category ID, and each call seeks directly past the given key.
+     * Database failures are not turned into an empty page, which a client would read as the end of the listing.
      *
-     * @return List of price information grouped by brand and category
+     * @param brandId    Brand ID of the last row already returned, 0 for the first page
+     * @param categoryId Category ID of the last row already returned, 0 for the first page
+     * @param size       Maximum number of rows to return
+     * @return Price information grouped by brand and category
      */
-    @Cacheable(value = PRICE_INFO_CACHE, key = "'cheapestGroupByBrandCategory'")
-    public List<BrandCategoryPriceInfo> findCheapestProductsGroupByBrandAndCategory() {
-        try {
-            // Direct query for small datasets
-            long count = productRepository.count();
-            if (count < 10000) { // Threshold setting
-                return productRepository.findCheapestProductsGroupByBrandAndCategory();
-            }
-            
-            // Pagination for large datasets
-            List<BrandCategoryPriceInfo> results = new ArrayList<>();
-            int pageNumber = 0;
-            Page<BrandCategoryPriceInfo> page;
-            
-            do {
-                Pageable pageable = PageRequest.of(pageNumber++, DEFAULT_PAGE_SIZE);
-                page = productRepository.findCheapestProductsGroupByBrandAndCategoryPaged(pageable);
-                results.addAll(page.getContent());
-            } while (page.hasNext());
-            
-            return results;
-        } catch (DataAccessException e) {
-            return List.of();
-        }
+    public List<BrandCategoryPriceInfo> findBrandCategoryPricesAfter(Long brandId, Long categoryId, int size) {
+        return productRepository.findBrandCategoryPricesAfter(brandId, categoryId, size);
     }
 
     /**
-     * Find the cheapest products by category name.
-     * This is optimized by first getting the minimum price, then fetching the products.
+     * Find the per-category minimum prices of the brand with the lowest total price.
+     * The brand is ranked in the database, keeping only brands that cover every category,
+     * so only that brand's category rows are loaded regardless of the number of brands.
      *
-     * @param categoryName The category name to search
-     * @return List of products with the lowest price in the category
+     * @param categoryCount Total number of categories a brand has to cover
+     * @return Price information of the lowest-total brand, or an empty list when no brand covers every category
      */
-    @Cacheable(value = PRICE_INFO_CACHE, key = "'cheapestByCategory:' + #categoryName")
-    public List<Product> findCheapestByCategoryName(String categoryName) {
+    public List<BrandCategoryPriceInfo> findLowestTotalBrandPrices(long categoryCount) {
         try {
-            BigDecimal minPrice = productRepository.findMinPriceByCategoryName(categoryName);
-            if (minPrice == null) {
-                return List.of();
-            }
-
-            return productRepository.findProductsByCategoryNameAndPrice(categoryName, minPrice);
+            return productRepository.findLowestTotalBrandPrices(categoryCount);
         } catch (DataAccessException e) {
             return List.of();
         }
     }
 
     /**
-     * Find the most expensive products by category name.
-     * This is optimized by first getting the maximum price, then fetching the products.
+     * Find the lowest and highest priced products of a category by name in one round trip.
+     * Replaces a minimum and a maximum price lookup each followed by a product lookup,
+     * and returns only the brand name and price of each product.
      *
      * @param categoryName The category name to search
-     * @return List of products with the highest price in the category
+     * @param maxTies      Maximum number of products returned for each price, or {@link #ALL_TIES}
+     * @return Products at the lowest or highest price, ordered by price, then product ID
      */
-    @Cacheable(value = PRICE_INFO_CACHE, key = "'expensiveByCategory:' + #categoryName")
-    public List<Product> findMostExpensiveByCategoryName(String categoryName) {
+    public List<CategoryExtremePrice> findExtremePricesByCategoryName(String categoryName, int maxTies) {
         try {
-            BigDecimal maxPrice = productRepository.findMaxPriceByCategoryName(categoryName);
-            if (maxPrice == null) {
-                return List.of();
-            }
-
-            return productRepository.findProductsByCategoryNameAndPrice(categoryName, maxPrice);
+            return productRepository.findExtremePricesByCategoryName(categoryName, maxTies);
         } catch (DataAccessException e) {
             return List.of();
         }
     }
-    
-    /**
-     * Cache invalidation method
-     * Called when product data changes to invalidate related caches.
-     */
-    @CacheEvict(value = PRICE_INFO_CACHE, allEntries = true)
-    public void clearPriceCache() {
-    }
 }
@@ -0,0 +1,75 @@
+package io.github.hoo47.musinsa_assignment.application.usecase;
+
+import io.github.hoo47.musinsa_assignment.application.brand.dto.response.BrandCategoryPricePageResponse;
+import io.github.hoo47.musinsa_assignment.application.product.service.ProductQueryService;
+import io.github.hoo47.musinsa_assignment.common.exception.BusinessErrorCode;
+import io.github.hoo47.musinsa_assignment.common.exception.BusinessException;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class BrandCategoryPricePageUsecase {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final ProductQueryService productQueryService;
+
+    /**
+     * Get one page of the minimum prices per brand and category, ordered by brand ID, then category ID.
+     * The cursor is an opaque encoding of the last (brand ID, category ID) of the previous page, and the
+     * page is read by seeking past it, so later pages cost the same as the first and no total count is computed.
+     * 한 건을 더 조회해 다음 페이지가 있을 때만 다음 커서를 반환합니다.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the maximum number of rows, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return the page with the cursor of the next page, which is null on the last page
+     */
+    public BrandCategoryPricePageResponse getPage(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(BusinessErrorCode.INVALID_INPUT);
+        }
+
+        Cursor after = cursor == null || cursor.isBlank() ? Cursor.START : decodeCursor(cursor);
+        List<BrandCategoryPriceInfo> rows = productQueryService.findBrandCategoryPricesAfter(
+                after.brandId(), after.categoryId(), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<BrandCategoryPriceInfo> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1)) : null;
+
+        return new BrandCategoryPricePageResponse(
+                content.stream()
+                        .map(info -> new BrandCategoryPricePageResponse.BrandCategoryPrice(
+                                info.brandId(), info.brandName(), info.categoryId(), info.categoryName(), info.price()))
+                        .toList(),
+                nextCursor);
+    }
+
+    static String encodeCursor(BrandCategoryPriceInfo last) {
+        String key = last.brandId() + ":" + last.categoryId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf(':');
+            return new Cursor(Long.parseLong(key.substring(0, separator)), Long.parseLong(key.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException(BusinessErrorCode.INVALID_INPUT);
+        }
+    }
+
+    /**
+     * Last (brand ID, category ID) of the previous page.
+     */
+    record Cursor(long brandId, long categoryId) {
+        static final Cursor START = new Cursor(0L, 0L);
+    }
+}
@@ -2,55 +2,105 @@ package io.github.hoo47.musinsa_assignment.application.usecase;
 
 import io.github.hoo47.musinsa_assignment.application.category.service.CategoryQueryService;
 import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingSnapshot;
+import io.github.hoo47.musinsa_assignment.application.product.index.SharedPriceIndex;
 import io.github.hoo47.musinsa_assignment.application.product.service.ProductQueryService;
 import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandPriceSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class BrandLowestPriceUsecase {
 
     private final CategoryQueryService categoryQueryService;
     private final ProductQueryService productQueryService;
+    private final PricingReadModel pricingReadModel;
+    private final SharedPriceIndex sharedPriceIndex;
 
     /**
      * Find the brand with the lowest total price across all categories.
-     * This method is optimized to use efficient data structures and stream operations.
+     * Once the pricing snapshot is loaded the answer is read from it without opening a transaction;
+     * until then the minimum prices are read from the shared price index and aggregated in memory,
+     * or, when that is unavailable, the brand is ranked by the database and only its rows are read.
      * 결과는 캐시에 저장되어 반복 요청 시 DB 쿼리 없이 빠르게 응답합니다.
      *
      * @return a summary of the brand with the lowest total price
      */
-    @Cacheable(value = "brandLowestPriceCache")
+    @Cacheable(value = "brandLowestPriceCache", sync = true)
     public BrandProductSummaryResponse getBrandWithLowestTotalPrice() {
-        // 1. Get minimum price products by brand and category
-        List<BrandCategoryPriceInfo> results = productQueryService.findCheapestProductsGroupByBrandAndCategory();
+        PricingSnapshot snapshot = pricingReadModel.current();
+        if (snapshot.loaded()) {
+            return getBrandWithLowestTotalPrice(snapshot);
+        }
+
+        Optional<SharedPriceIndex.BrandCategoryMinimums> shared = sharedPriceIndex.findBrandCategoryMinimums();
+        if (shared.isPresent()) {
+            return findLowestTotal(shared.get().prices(), shared.get().categoryCount());
+        }
+
+        // 1. Get total number of categories
+        long totalCategories = categoryQueryService.getCategoryCount();
+
+        // 2. Get the minimum prices of the lowest-total brand, ranked in the database
+        List<BrandCategoryPriceInfo> results = productQueryService.findLowestTotalBrandPrices(totalCategories);
 
         if (results.isEmpty()) {
             return null;
         }
 
-        // 2. Get total number of categories
-        long totalCategories = categoryQueryService.getCategoryCount();
+        return findLowestTotal(results, totalCategories);
+    }
+
+    /**
+     * Find the brand with the lowest total price in the given pricing snapshot, bypassing the cache.
+     *
+     * @param snapshot a loaded pricing snapshot
+     * @return a summary of the brand with the lowest total price, or null when no brand covers every category
+     */
+    public BrandProductSummaryResponse getBrandWithLowestTotalPrice(PricingSnapshot snapshot) {
+        return snapshot.findLowestTotalBrand()
+                .map(this::toResponse)
+                .orElse(null);
+    }
 
+    /**
+     * Recomputes the lowest-total brand and writes it to the cache, or evicts the entry
+     * when no brand covers every category anymore. Called after a product change is committed.
+     *
+     * @return the recomputed summary, or null when no brand covers every category
+     */
+    @Caching(
+            put = @CachePut(value = "brandLowestPriceCache", unless = "#result == null"),
+            evict = @CacheEvict(value = "brandLowestPriceCache", condition = "#result == null")
+    )
+    public BrandProductSummaryResponse refreshBrandWithLowestTotalPrice() {
+        return getBrandWithLowestTotalPrice();
+    }
+
+    /**
+     * Ranks brands from per-request rows of the shared index or the database; the snapshot path never gets here,
+     * it takes the total that {@code BrandCategoryPriceMatrix} keeps in minor units and converts it once.
+     */
+    private BrandProductSummaryResponse findLowestTotal(List<BrandCategoryPriceInfo> results, long totalCategories) {
         // 3. Group by brand and collect category prices
         Map<Long, List<BrandCategoryPriceInfo>> brandCategoryMap = results.stream()
                 .collect(Collectors.groupingBy(BrandCategoryPriceInfo::brandId));
 
         // 4. Find brands that have all categories and calculate total prices
-        record BrandSummary(Long brandId, String brandName, BigDecimal totalPrice,
-                            List<BrandCategoryPriceInfo> categoryPrices) {
-        }
-
         // Using a stream to find the brand with lowest price
         return brandCategoryMap.entrySet().stream()
                 .filter(entry -> entry.getValue().size() == totalCategories) // Only brands with all categories
@@ -60,23 +110,25 @@ public class BrandLowestPriceUsecase {
                     BigDecimal totalPrice = categoryPrices.stream()
                             .map(BrandCategoryPriceInfo::price)
                             .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    return new BrandSummary(entry.getKey(), brandName, totalPrice, categoryPrices);
-                })
-                .min(Comparator.comparing(BrandSummary::totalPrice)
-                        .thenComparing(BrandSummary::brandName))
-                .map(summary -> {
-                    // Transform to response format
-                    List<BrandProductSummaryResponse.CategoryPrice> prices = summary.categoryPrices().stream()
-                            .map(info -> new BrandProductSummaryResponse.CategoryPrice(
-                                    info.categoryName(), info.price()))
-                            .sorted(Comparator.comparing(BrandProductSummaryResponse.CategoryPrice::categoryName))
-                            .toList();
-
-                    return BrandProductSummaryResponse.of(
-                            summary.brandName(),
-                            prices,
-                            summary.totalPrice());
+                    return new BrandPriceSummary(entry.getKey(), brandName, totalPrice, categoryPrices);
                 })
+                .min(Comparator.comparing(BrandPriceSummary::totalPrice)
+                        .thenComparing(BrandPriceSummary::brandName))
+                .map(this::toResponse)
                 .orElse(null);
     }
+
+    private BrandProductSummaryResponse toResponse(BrandPriceSummary summary) {
+        // Transform to response format
+        List<BrandProductSummaryResponse.CategoryPrice> prices = summary.categoryPrices().stream()
+                .map(info -> new BrandProductSummaryResponse.CategoryPrice(
+                        info.categoryName(), info.price()))
+                .sorted(Comparator.comparing(BrandProductSummaryResponse.CategoryPrice::categoryName))
+                .toList();
+
+        return BrandProductSummaryResponse.of(
+                summary.brandName(),
+                prices,
+                summary.totalPrice());
+    }
 }
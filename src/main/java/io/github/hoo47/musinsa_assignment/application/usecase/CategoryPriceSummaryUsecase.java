@@ -1,45 +1,101 @@
 package io.github.hoo47.musinsa_assignment.application.usecase;
 
 import io.github.hoo47.musinsa_assignment.application.brand.dto.response.CategoryPriceSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.index.CategoryPriceRange;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingSnapshot;
+import io.github.hoo47.musinsa_assignment.application.product.index.SharedPriceIndex;
 import io.github.hoo47.musinsa_assignment.application.product.service.ProductQueryService;
-import io.github.hoo47.musinsa_assignment.domain.product.Product;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.CategoryExtremePrice;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CategoryPriceSummaryUsecase {
 
     private final ProductQueryService productQueryService;
+    private final PricingReadModel pricingReadModel;
+    private final SharedPriceIndex sharedPriceIndex;
 
     /**
      * Get price summary (lowest and highest prices) for a specific category
-     * This method uses optimized repository queries to retrieve data efficiently.
+     * Once the pricing snapshot is loaded both lists are read from it without opening a transaction;
+     * until then the shared price index is consulted, and when that is unavailable too
+     * this method reads both price lists from the database with a single summary query.
      * 결과는 캐시에 저장되어 동일한 카테고리 요청 시 DB 쿼리 없이 빠르게 응답합니다.
      *
      * @param categoryName the name of the category to get price summary for
      * @return a CategoryPriceSummaryResponse containing the category name, lowest prices, and highest prices
      */
-    @Cacheable(value = "priceSummaryCache", key = "#categoryName")
+    @Cacheable(value = "priceSummaryCache", key = "#categoryName", sync = true)
     public CategoryPriceSummaryResponse getPriceSummaryByCategoryName(String categoryName) {
-        // Get all products with the lowest price for the category
-        List<Product> cheapestProducts = productQueryService.findCheapestByCategoryName(categoryName);
-        // Get all products with the highest price for the category
-        List<Product> expensiveProducts = productQueryService.findMostExpensiveByCategoryName(categoryName);
+        PricingSnapshot snapshot = pricingReadModel.current();
+        if (snapshot.loaded()) {
+            return getPriceSummaryByCategoryName(snapshot, categoryName);
+        }
 
-        List<CategoryPriceSummaryResponse.PriceInfo> lowestPrices = cheapestProducts.stream()
-                .map(p -> new CategoryPriceSummaryResponse.PriceInfo(p.getBrand().getName(), p.getPrice()))
-                .toList();
+        Optional<CategoryPriceRange> shared = sharedPriceIndex.findPriceRange(categoryName);
+        if (shared.isPresent()) {
+            return toResponse(categoryName, shared.get());
+        }
+
+        // Get the products at both the lowest and the highest price of the category in one query
+        List<CategoryExtremePrice> extremes = productQueryService.findExtremePricesByCategoryName(
+                categoryName, ProductQueryService.ALL_TIES);
+
+        return new CategoryPriceSummaryResponse(categoryName,
+                toPriceInfos(extremes, CategoryExtremePrice::lowest),
+                toPriceInfos(extremes, CategoryExtremePrice::highest));
+    }
+
+    /**
+     * Get price summary for a specific category from the given pricing snapshot, bypassing the cache.
+     *
+     * @param snapshot     a loaded pricing snapshot
+     * @param categoryName the name of the category to get price summary for
+     * @return the price summary, with empty lists when the category is unknown
+     */
+    public CategoryPriceSummaryResponse getPriceSummaryByCategoryName(PricingSnapshot snapshot, String categoryName) {
+        return snapshot.findCategoryByName(categoryName)
+                .map(range -> toResponse(categoryName, range))
+                .orElseGet(() -> new CategoryPriceSummaryResponse(categoryName, List.of(), List.of()));
+    }
 
-        List<CategoryPriceSummaryResponse.PriceInfo> highestPrices = expensiveProducts.stream()
-                .map(p -> new CategoryPriceSummaryResponse.PriceInfo(p.getBrand().getName(), p.getPrice()))
+    /**
+     * Recomputes the price summary of a category and writes it to the cache.
+     * Called after a product change is committed.
+     *
+     * @param categoryName the name of the category to refresh
+     * @return the recomputed price summary
+     */
+    @CachePut(value = "priceSummaryCache", key = "#categoryName")
+    public CategoryPriceSummaryResponse refreshPriceSummary(String categoryName) {
+        return getPriceSummaryByCategoryName(categoryName);
+    }
+
+    private CategoryPriceSummaryResponse toResponse(String categoryName, CategoryPriceRange range) {
+        return new CategoryPriceSummaryResponse(categoryName, toPriceInfos(range.lowest()), toPriceInfos(range.highest()));
+    }
+
+    private List<CategoryPriceSummaryResponse.PriceInfo> toPriceInfos(List<CategoryExtremePrice> extremes,
+                                                                      Predicate<CategoryExtremePrice> filter) {
+        return extremes.stream()
+                .filter(filter)
+                .map(e -> new CategoryPriceSummaryResponse.PriceInfo(e.brandName(), e.price()))
                 .toList();
+    }
 
-        return new CategoryPriceSummaryResponse(categoryName, lowestPrices, highestPrices);
+    private List<CategoryPriceSummaryResponse.PriceInfo> toPriceInfos(List<ProductPriceInfo> products) {
+        return products.stream()
+                .map(p -> new CategoryPriceSummaryResponse.PriceInfo(p.brandName(), p.price()))
+                .toList();
     }
 }
@@ -2,38 +2,56 @@ package io.github.hoo47.musinsa_assignment.application.usecase;
 
 import io.github.hoo47.musinsa_assignment.application.category.service.CategoryQueryService;
 import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.index.CategoryPriceRange;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingSnapshot;
+import io.github.hoo47.musinsa_assignment.application.product.index.SharedPriceIndex;
 import io.github.hoo47.musinsa_assignment.application.product.service.ProductQueryService;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessException;
-import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
+import io.github.hoo47.musinsa_assignment.common.price.MinorUnits;
 import io.github.hoo47.musinsa_assignment.domain.category.Category;
-import io.github.hoo47.musinsa_assignment.domain.product.Product;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CategoryProductPriceUsecase {
 
     private final ProductQueryService productQueryService;
     private final CategoryQueryService categoryQueryService;
+    private final PricingReadModel pricingReadModel;
+    private final SharedPriceIndex sharedPriceIndex;
 
     /**
      * 모든 카테고리의 최저가 상품과 총액을 계산하여 반환합니다.
+     * 가격 스냅샷이 로드된 이후에는 트랜잭션이나 DB 커넥션 없이 스냅샷에서 바로 계산합니다.
+     * 스냅샷이 없으면 공유 가격 인덱스(Redis)를, 그마저 사용할 수 없으면 DB를 조회합니다.
      * 결과는 캐시에 저장되어 반복 요청 시 DB 쿼리 없이 빠르게 응답합니다.
      *
      * @return 각 카테고리별 최저가 상품 정보와 총액
      * @throws BusinessException 데이터 조회 중 오류가 발생한 경우
      */
-    @Cacheable(value = "categoryPricingCache")
+    @Cacheable(value = "categoryPricingCache", sync = true)
     public CategoryProductSummaryResponse getCategoryPricing() {
+        PricingSnapshot snapshot = pricingReadModel.current();
+        if (snapshot.loaded()) {
+            return getCategoryPricing(snapshot);
+        }
+
+        Optional<List<ProductPriceInfo>> shared = sharedPriceIndex.findCheapestPerCategory();
+        if (shared.isPresent()) {
+            return toResponse(shared.get());
+        }
+
         List<Category> categories = categoryQueryService.getAllCategories();
         if (categories.isEmpty()) {
             return new CategoryProductSummaryResponse(
@@ -42,12 +60,53 @@ public class CategoryProductPriceUsecase {
             );
         }
 
-        List<Product> products = productQueryService.getCheapestProductInCategory(
+        List<ProductPriceInfo> products = productQueryService.getCheapestProductInCategory(
                 categories.stream()
                         .map(Category::getId)
                         .toList()
         );
 
+        return toResponse(products);
+    }
+
+    /**
+     * 주어진 가격 스냅샷에서 모든 카테고리의 최저가 상품과 총액을 계산합니다. 캐시를 거치지 않습니다.
+     *
+     * @param snapshot 로드된 가격 스냅샷
+     * @return 각 카테고리별 최저가 상품 정보와 총액
+     */
+    public CategoryProductSummaryResponse getCategoryPricing(PricingSnapshot snapshot) {
+        var categoryProductInfos = snapshot.categories().stream()
+                .map(CategoryPriceRange::cheapest)
+                .flatMap(Optional::stream)
+                .map(this::toPriceInfo)
+                .toList();
+
+        if (categoryProductInfos.isEmpty()) {
+            return new CategoryProductSummaryResponse(
+                    Collections.emptyList(),
+                    BigDecimal.ZERO
+            );
+        }
+
+        // 총액은 스냅샷 게시 시 최소 단위(long)로 합산되어 있으므로 응답을 만들 때 한 번만 변환
+        return new CategoryProductSummaryResponse(
+                categoryProductInfos,
+                MinorUnits.toBigDecimal(snapshot.cheapestTotal())
+        );
+    }
+
+    /**
+     * 최저가 응답을 다시 계산하여 캐시에 기록합니다. 상품 변경이 커밋된 뒤 호출됩니다.
+     *
+     * @return 다시 계산된 카테고리별 최저가 상품 정보와 총액
+     */
+    @CachePut(value = "categoryPricingCache")
+    public CategoryProductSummaryResponse refreshCategoryPricing() {
+        return getCategoryPricing();
+    }
+
+    private CategoryProductSummaryResponse toResponse(List<ProductPriceInfo> products) {
         if (products.isEmpty()) {
             return new CategoryProductSummaryResponse(
                     Collections.emptyList(),
@@ -57,18 +116,7 @@ public class CategoryProductPriceUsecase {
 
         var categoryProductInfos = products.stream()
                 .filter(Objects::nonNull)
-                .map(product -> {
-                    Category category = product.getCategory();
-                    Brand brand = product.getBrand();
-                    BigDecimal price = product.getPrice();
-                    return new CategoryProductSummaryResponse.CategoryProductPriceInfo(
-                            category.getId(),
-                            category.getName(),
-                            brand.getId(),
-                            brand.getName(),
-                            price
-                    );
-                })
+                .map(this::toPriceInfo)
                 .toList();
 
         if (categoryProductInfos.isEmpty()) {
@@ -87,4 +135,14 @@ public class CategoryProductPriceUsecase {
                 total
         );
     }
+
+    private CategoryProductSummaryResponse.CategoryProductPriceInfo toPriceInfo(ProductPriceInfo product) {
+        return new CategoryProductSummaryResponse.CategoryProductPriceInfo(
+                product.categoryId(),
+                product.categoryName(),
+                product.brandId(),
+                product.brandName(),
+                product.price()
+        );
+    }
 }
@@ -0,0 +1,19 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+/**
+ * Hand-written binary encoding of one cached value type, stored by {@link BinaryRedisSerializer}.
+ * The encoding is positional, so any change to it must come with a new {@link #schemaVersion()}.
+ *
+ * @param <T> the value type
+ */
+public interface BinaryCodec<T> {
+
+    /**
+     * @return the version written in front of every value, between 1 and 127
+     */
+    int schemaVersion();
+
+    void write(T value, BinaryWriter writer);
+
+    T read(BinaryReader reader);
+}
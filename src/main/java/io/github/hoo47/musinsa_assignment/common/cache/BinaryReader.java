@@ -0,0 +1,104 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads the encodings written by {@link BinaryWriter}.
+ * Reading past the end or an unknown marker throws {@link IllegalArgumentException}.
+ */
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalArgumentException("Unexpected end of input at " + position);
+        }
+        return buffer[position++];
+    }
+
+    public int readVarInt() {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Variable-length integer out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length integer at " + position);
+    }
+
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public Long readNullableLong() {
+        return readBoolean() ? readSignedVarLong() : null;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer, position, checkedLength(length), StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public BigDecimal readBigDecimal() {
+        int marker = readByte();
+        return switch (marker) {
+            case 0 -> null;
+            case 1 -> {
+                int scale = Math.toIntExact(readSignedVarLong());
+                yield BigDecimal.valueOf(readSignedVarLong(), scale);
+            }
+            case 2 -> {
+                int scale = Math.toIntExact(readSignedVarLong());
+                int length = checkedLength(readVarInt());
+                BigInteger unscaled = new BigInteger(Arrays.copyOfRange(buffer, position, position + length));
+                position += length;
+                yield new BigDecimal(unscaled, scale);
+            }
+            default -> throw new IllegalArgumentException("Unknown decimal marker: " + marker);
+        };
+    }
+
+    /**
+     * @return whether every byte was consumed
+     */
+    public boolean isExhausted() {
+        return position == buffer.length;
+    }
+
+    private int checkedLength(int length) {
+        if (length > buffer.length - position) {
+            throw new IllegalArgumentException("Length " + length + " exceeds remaining input at " + position);
+        }
+        return length;
+    }
+}
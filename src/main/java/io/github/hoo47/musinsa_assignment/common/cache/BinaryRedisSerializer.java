@@ -0,0 +1,60 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * {@link RedisSerializer} writing a schema version byte followed by the {@link BinaryCodec} encoding.
+ * A value written with another schema version, or in another format such as JSON, reads as null,
+ * which the cache treats as a miss: the value is loaded again and overwritten in the current schema.
+ *
+ * @param <T> the value type
+ */
+@Slf4j
+public class BinaryRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final BinaryCodec<T> codec;
+
+    public BinaryRedisSerializer(BinaryCodec<T> codec) {
+        if (codec.schemaVersion() < 1 || codec.schemaVersion() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Schema version must be between 1 and 127: " + codec.schemaVersion());
+        }
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        BinaryWriter writer = new BinaryWriter(INITIAL_CAPACITY);
+        writer.writeByte(codec.schemaVersion());
+        codec.write(value, writer);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != codec.schemaVersion()) {
+            log.debug("캐시 값의 스키마 버전이 달라 캐시 미스로 처리합니다: {} (현재 {})", bytes[0], codec.schemaVersion());
+            return null;
+        }
+
+        try {
+            BinaryReader reader = new BinaryReader(bytes, 1);
+            T value = codec.read(reader);
+            if (!reader.isExhausted()) {
+                throw new SerializationException("Trailing bytes after cached value");
+            }
+            return value;
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new SerializationException("Cannot decode cached value", e);
+        }
+    }
+}
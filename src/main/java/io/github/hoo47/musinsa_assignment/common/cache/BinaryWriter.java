@@ -0,0 +1,111 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer with the primitive encodings used by {@link BinaryCodec}s.
+ * Integers are written as variable-length quantities, so small counts and IDs take one or two bytes,
+ * and strings as UTF-8 prefixed by their length.
+ */
+public final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * @param value a non-negative integer
+     */
+    public void writeVarInt(int value) {
+        writeVarLong(Integer.toUnsignedLong(value));
+    }
+
+    /**
+     * @param value a value read back as unsigned, so negative values take ten bytes; use {@link #writeSignedVarLong}
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeNullableLong(Long value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeSignedVarLong(value);
+        }
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Writes the length plus one, so that null is a single zero byte.
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        writeBytes(bytes);
+    }
+
+    /**
+     * Writes the scale and the unscaled value, as a variable-length integer when it fits in a long.
+     */
+    public void writeBigDecimal(BigDecimal value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            writeByte(1);
+            writeSignedVarLong(value.scale());
+            writeSignedVarLong(unscaled.longValue());
+        } else {
+            writeByte(2);
+            writeSignedVarLong(value.scale());
+            byte[] bytes = unscaled.toByteArray();
+            writeVarInt(bytes.length);
+            writeBytes(bytes);
+        }
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+/**
+ * Shared generation number of each cache, embedded in its keys so that a clear is a single increment.
+ */
+public interface CacheGenerations {
+
+    /**
+     * @param cacheName the cache name
+     * @return the current generation, 0 before the cache was first cleared
+     */
+    long current(String cacheName);
+
+    /**
+     * Moves the cache to a new generation, orphaning every entry of the previous one.
+     *
+     * @param cacheName the cache name
+     * @return the new generation
+     */
+    long next(String cacheName);
+}
@@ -0,0 +1,17 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+/**
+ * Receives the invalidations published by other nodes.
+ * Besides cache names, a listener may handle names of its own for in-process state that is not a cache,
+ * such as a read model that has to apply a change another node made to the data behind it.
+ */
+@FunctionalInterface
+public interface CacheInvalidationListener {
+
+    /**
+     * @param cacheName the cache name
+     * @param key       the normalized cache key, or null when every entry of the cache is dropped;
+     *                  for a listener's own names, the payload it published
+     */
+    void onInvalidation(String cacheName, String key);
+}
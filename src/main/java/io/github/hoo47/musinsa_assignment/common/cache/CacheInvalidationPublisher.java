@@ -0,0 +1,14 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+/**
+ * Tells the other nodes to drop entries from their L1 caches.
+ */
+@FunctionalInterface
+public interface CacheInvalidationPublisher {
+
+    /**
+     * @param cacheName the cache name
+     * @param key       the normalized cache key, or null to drop every entry of the cache
+     */
+    void publish(String cacheName, String key);
+}
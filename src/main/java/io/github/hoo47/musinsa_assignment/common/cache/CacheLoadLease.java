@@ -0,0 +1,37 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import java.time.Duration;
+
+/**
+ * Short-lived, cluster-wide lease that lets a single node load a missing cache entry.
+ */
+public interface CacheLoadLease {
+
+    /**
+     * Lease that is always granted, for a single node or when no shared store is available.
+     */
+    CacheLoadLease LOCAL = new CacheLoadLease() {
+        @Override
+        public boolean tryAcquire(String name, Duration ttl) {
+            return true;
+        }
+
+        @Override
+        public void release(String name) {
+        }
+    };
+
+    /**
+     * @param name the lease name, unique per cache entry
+     * @param ttl  how long the lease is held unless released earlier
+     * @return whether this node now holds the lease
+     */
+    boolean tryAcquire(String name, Duration ttl);
+
+    /**
+     * Releases the lease if this node still holds it.
+     *
+     * @param name the lease name
+     */
+    void release(String name);
+}
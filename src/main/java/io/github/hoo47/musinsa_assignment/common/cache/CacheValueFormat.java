@@ -0,0 +1,17 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+/**
+ * Encoding of values stored in the shared cache.
+ */
+public enum CacheValueFormat {
+
+    /**
+     * Jackson JSON, readable with redis-cli.
+     */
+    JSON,
+
+    /**
+     * Schema-versioned {@link BinaryCodec} encoding, for caches that have a codec; others stay on JSON.
+     */
+    BINARY
+}
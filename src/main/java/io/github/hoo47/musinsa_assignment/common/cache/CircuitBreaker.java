@@ -0,0 +1,195 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Count-based circuit breaker guarding calls to a shared store such as Redis.
+ * While closed every call goes through and its outcome and duration are recorded in a sliding window.
+ * When the failure or slow-call rate of the window reaches its threshold the breaker opens and calls are
+ * short-circuited to their fallback without touching the store, so callers no longer wait for timeouts.
+ * Once the open duration has passed a few probe calls are let through (half-open): the breaker closes
+ * when all of them succeed and opens again as soon as one fails or is slow.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final CircuitBreakerSpec spec;
+    private final Predicate<RuntimeException> failurePredicate;
+    private final LongSupplier clock;
+    private final byte[] outcomes;
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    private State state = State.CLOSED;
+    private int position;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    public CircuitBreaker(String name, CircuitBreakerSpec spec, Predicate<RuntimeException> failurePredicate) {
+        this(name, spec, failurePredicate, System::nanoTime);
+    }
+
+    /**
+     * @param name             name used in logs
+     * @param spec             trip and recovery policy
+     * @param failurePredicate whether an exception thrown by a call means the store failed;
+     *                         other exceptions are rethrown and recorded as successful calls
+     * @param clock            nanosecond clock, {@link System#nanoTime()} outside tests
+     */
+    CircuitBreaker(String name, CircuitBreakerSpec spec, Predicate<RuntimeException> failurePredicate, LongSupplier clock) {
+        this.name = name;
+        this.spec = spec;
+        this.failurePredicate = failurePredicate;
+        this.clock = clock;
+        this.outcomes = new byte[spec.windowSize()];
+    }
+
+    /**
+     * Runs a call unless the breaker is open.
+     *
+     * @param call     the call to the guarded store
+     * @param fallback the result to use when the call is short-circuited
+     * @return the result of the call, or of the fallback when short-circuited
+     */
+    public <T> T call(Supplier<T> call, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            shortCircuited.increment();
+            return fallback.get();
+        }
+
+        long startedAt = clock.getAsLong();
+        try {
+            T result = call.get();
+            record(false, clock.getAsLong() - startedAt);
+            return result;
+        } catch (RuntimeException e) {
+            record(failurePredicate.test(e), clock.getAsLong() - startedAt);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a call unless the breaker is open, in which case it is skipped.
+     *
+     * @param call the call to the guarded store
+     */
+    public void run(Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        }, () -> null);
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * @return how many calls were skipped because the breaker was open
+     */
+    public long shortCircuitCount() {
+        return shortCircuited.sum();
+    }
+
+    /**
+     * @return how many times the breaker opened
+     */
+    public long openCount() {
+        return opened.sum();
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < spec.openDuration().toNanos()) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesStarted = 0;
+            probesSucceeded = 0;
+            log.info("{} 회로 차단기 반개방: 시험 호출 {}건으로 복구 여부를 확인합니다.", name, spec.halfOpenProbes());
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= spec.halfOpenProbes()) {
+                return false;
+            }
+            probesStarted++;
+        }
+        return true;
+    }
+
+    private synchronized void record(boolean failed, long elapsedNanos) {
+        boolean slow = elapsedNanos >= spec.slowCallThreshold().toNanos();
+        switch (state) {
+            case HALF_OPEN -> {
+                if (failed || slow) {
+                    open("시험 호출 " + (failed ? "실패" : "지연"));
+                } else if (++probesSucceeded >= spec.halfOpenProbes()) {
+                    state = State.CLOSED;
+                    resetWindow();
+                    log.info("{} 회로 차단기 닫힘: 시험 호출이 모두 성공했습니다.", name);
+                }
+            }
+            case CLOSED -> {
+                add((byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0)));
+                if (recorded < spec.minimumCalls()) {
+                    return;
+                }
+                double failureRate = (double) failures / recorded;
+                double slowCallRate = (double) slowCalls / recorded;
+                if (failureRate >= spec.failureRateThreshold() || slowCallRate >= spec.slowCallRateThreshold()) {
+                    open(String.format("최근 %d건 중 실패율 %.0f%%, 지연 호출 비율 %.0f%%",
+                            recorded, failureRate * 100, slowCallRate * 100));
+                }
+            }
+            default -> {
+                // 차단기가 열리기 전에 시작된 호출의 결과는 무시한다
+            }
+        }
+    }
+
+    private void add(byte outcome) {
+        if (recorded == outcomes.length) {
+            byte evicted = outcomes[position];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        outcomes[position] = outcome;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+        position = (position + 1) % outcomes.length;
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        opened.increment();
+        resetWindow();
+        log.warn("{} 회로 차단기 열림: {}. {}ms 동안 호출을 건너뜁니다.", name, reason, spec.openDuration().toMillis());
+    }
+
+    private void resetWindow() {
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cache whose calls to the shared store go through a {@link CircuitBreaker}.
+ * While the breaker is open reads miss and writes are skipped immediately, so a {@link TwoTierCache}
+ * in front of it serves and fills its in-process L1 alone instead of waiting for store timeouts.
+ * Evictions and clears skipped while the breaker is open are remembered and applied by the next call
+ * the breaker lets through, before that call touches the store, so entries written before the outage
+ * are not served again once it ends. Past {@value #MAX_SKIPPED_EVICTIONS} remembered keys the whole
+ * cache is cleared instead.
+ */
+public class CircuitBreakerCache implements Cache {
+
+    static final int MAX_SKIPPED_EVICTIONS = 1_000;
+
+    private final Cache delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Set<Object> skippedEvictions = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean clearSkipped = new AtomicBoolean();
+
+    public CircuitBreakerCache(Cache delegate, CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * @return the guarded cache
+     */
+    public Cache delegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return circuitBreaker.call(() -> {
+            replaySkippedInvalidations();
+            return delegate.get(key);
+        }, () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return circuitBreaker.call(() -> {
+            replaySkippedInvalidations();
+            return delegate.get(key, type);
+        }, () -> null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 로더 실행 시간이 저장소 지연으로 집계되지 않도록 조회와 저장을 나누어 호출한다
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        circuitBreaker.run(() -> {
+            replaySkippedInvalidations();
+            delegate.put(key, value);
+        });
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return circuitBreaker.call(() -> {
+            replaySkippedInvalidations();
+            return delegate.putIfAbsent(key, value);
+        }, () -> null);
+    }
+
+    @Override
+    public void evict(Object key) {
+        circuitBreaker.call(() -> {
+            replaySkippedInvalidations();
+            delegate.evict(key);
+            return null;
+        }, () -> {
+            skipEviction(key);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return circuitBreaker.call(() -> {
+            replaySkippedInvalidations();
+            return delegate.evictIfPresent(key);
+        }, () -> {
+            skipEviction(key);
+            return false;
+        });
+    }
+
+    @Override
+    public void clear() {
+        circuitBreaker.call(() -> {
+            delegate.clear();
+            forgetSkippedInvalidations();
+            return null;
+        }, () -> {
+            clearSkipped.set(true);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean invalidate() {
+        return circuitBreaker.call(() -> {
+            boolean invalidated = delegate.invalidate();
+            forgetSkippedInvalidations();
+            return invalidated;
+        }, () -> {
+            clearSkipped.set(true);
+            return false;
+        });
+    }
+
+    private void skipEviction(Object key) {
+        if (skippedEvictions.size() >= MAX_SKIPPED_EVICTIONS) {
+            clearSkipped.set(true);
+            skippedEvictions.clear();
+            return;
+        }
+        skippedEvictions.add(key);
+    }
+
+    /**
+     * Applies the invalidations skipped while the breaker was open. Runs inside a call the breaker let through;
+     * an invalidation that fails again stays remembered and the failure propagates like the call's own would.
+     */
+    private void replaySkippedInvalidations() {
+        if (clearSkipped.get()) {
+            delegate.clear();
+            forgetSkippedInvalidations();
+            return;
+        }
+        for (Object key : skippedEvictions) {
+            delegate.evict(key);
+            skippedEvictions.remove(key);
+        }
+    }
+
+    // 저장소를 비웠으므로 그 전에 건너뛴 무효화는 모두 반영되었다
+    private void forgetSkippedInvalidations() {
+        clearSkipped.set(false);
+        skippedEvictions.clear();
+    }
+}
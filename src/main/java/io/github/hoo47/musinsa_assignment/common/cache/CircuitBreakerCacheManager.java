@@ -0,0 +1,43 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decorates every cache of a cache manager with a {@link CircuitBreakerCache} sharing one {@link CircuitBreaker},
+ * since all of them fail together when the shared store does.
+ */
+public class CircuitBreakerCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final ConcurrentMap<String, CircuitBreakerCache> caches = new ConcurrentHashMap<>();
+
+    public CircuitBreakerCacheManager(CacheManager delegate, CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        CircuitBreakerCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new CircuitBreakerCache(target, circuitBreaker));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import java.time.Duration;
+
+/**
+ * Trip and recovery policy of a {@link CircuitBreaker}.
+ * The breaker opens when, over the last {@code windowSize} calls and once at least {@code minimumCalls}
+ * were recorded, the share of failed calls or of calls slower than {@code slowCallThreshold} reaches its rate.
+ * After {@code openDuration} it lets {@code halfOpenProbes} calls through and closes again if all of them succeed.
+ *
+ * @param windowSize            number of most recent calls the rates are computed over
+ * @param minimumCalls          number of recorded calls required before the breaker may open
+ * @param failureRateThreshold  share of failed calls that opens the breaker, in (0, 1]
+ * @param slowCallThreshold     duration from which a call counts as slow
+ * @param slowCallRateThreshold share of slow calls that opens the breaker, in (0, 1]
+ * @param openDuration          how long calls are short-circuited before probing again
+ * @param halfOpenProbes        number of probe calls that must succeed to close the breaker
+ */
+public record CircuitBreakerSpec(
+        int windowSize,
+        int minimumCalls,
+        double failureRateThreshold,
+        Duration slowCallThreshold,
+        double slowCallRateThreshold,
+        Duration openDuration,
+        int halfOpenProbes
+) {
+
+    public CircuitBreakerSpec {
+        if (minimumCalls <= 0 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be in [1, windowSize]: " + minimumCalls);
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1 || slowCallRateThreshold <= 0 || slowCallRateThreshold > 1) {
+            throw new IllegalArgumentException("rate thresholds must be in (0, 1]");
+        }
+        if (halfOpenProbes <= 0) {
+            throw new IllegalArgumentException("halfOpenProbes must be positive: " + halfOpenProbes);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache whose keys embed the cache's current generation, e.g. {@code g3:상의} in {@code priceSummaryCache}.
+ * A clear moves the cache to the next generation instead of deleting keys, so its cost does not depend
+ * on how many entries exist; entries of older generations are no longer reachable and expire by their TTL.
+ * The generation is remembered for at most {@code generationMaxAge} and forgotten as soon as this node
+ * learns that another node cleared the cache.
+ */
+public class GenerationalCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheGenerations generations;
+    private final long generationMaxAgeNanos;
+    private volatile CachedGeneration generation;
+
+    public GenerationalCache(Cache delegate, CacheGenerations generations, Duration generationMaxAge) {
+        this.delegate = delegate;
+        this.generations = generations;
+        this.generationMaxAgeNanos = generationMaxAge.toNanos();
+    }
+
+    /**
+     * @param key the cache key
+     * @return the key the entry is stored under in the current generation
+     */
+    public String versionedKey(Object key) {
+        return "g" + generation() + ":" + TwoTierCache.normalize(key);
+    }
+
+    /**
+     * Forgets the remembered generation so the next access reads it again, in response to a clear on another node.
+     */
+    public void forgetGeneration() {
+        generation = null;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(versionedKey(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(versionedKey(key), type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(versionedKey(key), valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(versionedKey(key), value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(versionedKey(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(versionedKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(versionedKey(key));
+    }
+
+    @Override
+    public void clear() {
+        long next = generations.next(getName());
+        generation = new CachedGeneration(next, System.nanoTime());
+    }
+
+    @Override
+    public boolean invalidate() {
+        clear();
+        return true;
+    }
+
+    private long generation() {
+        CachedGeneration cached = generation;
+        long now = System.nanoTime();
+        if (cached == null || now - cached.readAt() >= generationMaxAgeNanos) {
+            cached = new CachedGeneration(generations.current(getName()), now);
+            generation = cached;
+        }
+        return cached.value();
+    }
+
+    private record CachedGeneration(long value, long readAt) {
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decorates the named caches of a cache manager with a {@link GenerationalCache}; other caches are returned as is.
+ */
+public class GenerationalCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Set<String> generationalCacheNames;
+    private final CacheGenerations generations;
+    private final Duration generationMaxAge;
+    private final ConcurrentMap<String, GenerationalCache> caches = new ConcurrentHashMap<>();
+
+    public GenerationalCacheManager(CacheManager delegate, Set<String> generationalCacheNames,
+                                    CacheGenerations generations, Duration generationMaxAge) {
+        this.delegate = delegate;
+        this.generationalCacheNames = Set.copyOf(generationalCacheNames);
+        this.generations = generations;
+        this.generationMaxAge = generationMaxAge;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null || !generationalCacheNames.contains(name)) {
+            return target;
+        }
+        return caches.computeIfAbsent(name, n -> new GenerationalCache(target, generations, generationMaxAge));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
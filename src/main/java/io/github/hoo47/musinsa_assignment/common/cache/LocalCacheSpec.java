@@ -0,0 +1,15 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import java.time.Duration;
+
+/**
+ * Bounds of an in-process L1 cache.
+ *
+ * @param maximumSize the maximum number of entries
+ * @param timeToLive  how long an entry is kept after it was written
+ */
+public record LocalCacheSpec(
+        long maximumSize,
+        Duration timeToLive
+) {
+}
@@ -0,0 +1,204 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cache that records its activity as meters tagged with the cache name.
+ * <ul>
+ *     <li>{@code app.cache.gets}: reads, tagged {@code result=hit|miss}. A synchronized read is a miss
+ *     only when the caller ran the loader itself; reads served by a load running elsewhere are hits.</li>
+ *     <li>{@code app.cache.loads}: loader latency histogram, tagged {@code result=success|failure};
+ *     includes background reloads.</li>
+ *     <li>{@code app.cache.puts} and {@code app.cache.evictions}, the latter tagged {@code operation=evict|clear}.</li>
+ *     <li>{@code app.cache.errors}: exceptions thrown by the cache itself, tagged with the operation.</li>
+ * </ul>
+ * Payload sizes are recorded where values are serialized, see {@link MeteredRedisSerializer}.
+ */
+public class MeteredCache implements Cache {
+
+    private final Cache delegate;
+    private final MeterRegistry meterRegistry;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter evictions;
+    private final Counter clears;
+    private final Timer loadSuccesses;
+    private final Timer loadFailures;
+
+    public MeteredCache(Cache delegate, MeterRegistry meterRegistry) {
+        String name = delegate.getName();
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.hits = meterRegistry.counter("app.cache.gets", "cache", name, "result", "hit");
+        this.misses = meterRegistry.counter("app.cache.gets", "cache", name, "result", "miss");
+        this.puts = meterRegistry.counter("app.cache.puts", "cache", name);
+        this.evictions = meterRegistry.counter("app.cache.evictions", "cache", name, "operation", "evict");
+        this.clears = meterRegistry.counter("app.cache.evictions", "cache", name, "operation", "clear");
+        this.loadSuccesses = loadTimer(name, "success", meterRegistry);
+        this.loadFailures = loadTimer(name, "failure", meterRegistry);
+    }
+
+    private static Timer loadTimer(String name, String result, MeterRegistry meterRegistry) {
+        return Timer.builder("app.cache.loads")
+                .description("Time spent computing values missing from the cache")
+                .tags("cache", name, "result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper;
+        try {
+            wrapper = delegate.get(key);
+        } catch (RuntimeException e) {
+            error("get");
+            throw e;
+        }
+        (wrapper == null ? misses : hits).increment();
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value;
+        try {
+            value = delegate.get(key, type);
+        } catch (RuntimeException e) {
+            error("get");
+            throw e;
+        }
+        (value == null ? misses : hits).increment();
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Thread caller = Thread.currentThread();
+        AtomicBoolean loadedByCaller = new AtomicBoolean();
+        Callable<T> timedLoader = () -> {
+            if (Thread.currentThread() == caller) {
+                loadedByCaller.set(true);
+            }
+            long startedAt = System.nanoTime();
+            try {
+                T value = valueLoader.call();
+                loadSuccesses.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return value;
+            } catch (Exception e) {
+                loadFailures.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        };
+
+        try {
+            T value = delegate.get(key, timedLoader);
+            (loadedByCaller.get() ? misses : hits).increment();
+            return value;
+        } catch (ValueRetrievalException e) {
+            misses.increment();
+            throw e;
+        } catch (RuntimeException e) {
+            error("get");
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        try {
+            delegate.put(key, value);
+        } catch (RuntimeException e) {
+            error("put");
+            throw e;
+        }
+        puts.increment();
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing;
+        try {
+            existing = delegate.putIfAbsent(key, value);
+        } catch (RuntimeException e) {
+            error("put");
+            throw e;
+        }
+        if (existing == null) {
+            puts.increment();
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        try {
+            delegate.evict(key);
+        } catch (RuntimeException e) {
+            error("evict");
+            throw e;
+        }
+        evictions.increment();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted;
+        try {
+            evicted = delegate.evictIfPresent(key);
+        } catch (RuntimeException e) {
+            error("evict");
+            throw e;
+        }
+        if (evicted) {
+            evictions.increment();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        try {
+            delegate.clear();
+        } catch (RuntimeException e) {
+            error("clear");
+            throw e;
+        }
+        clears.increment();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated;
+        try {
+            invalidated = delegate.invalidate();
+        } catch (RuntimeException e) {
+            error("clear");
+            throw e;
+        }
+        clears.increment();
+        return invalidated;
+    }
+
+    private void error(String operation) {
+        meterRegistry.counter("app.cache.errors", "cache", getName(), "operation", operation).increment();
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Records the size of every value written to Redis as {@code app.cache.payload.size}, tagged with the cache name.
+ *
+ * @param <T> the value type
+ */
+public class MeteredRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final RedisSerializer<T> delegate;
+    private final DistributionSummary payloadSize;
+
+    public MeteredRedisSerializer(RedisSerializer<T> delegate, String cacheName, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.payloadSize = DistributionSummary.builder("app.cache.payload.size")
+                .description("Size of values written to the shared cache")
+                .baseUnit("bytes")
+                .tag("cache", cacheName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes != null) {
+            payloadSize.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        return delegate.deserialize(bytes);
+    }
+}
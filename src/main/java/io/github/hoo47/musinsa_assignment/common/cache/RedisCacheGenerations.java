@@ -0,0 +1,32 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * {@link CacheGenerations} kept as counters on Redis, advanced with {@code INCR}.
+ */
+public class RedisCacheGenerations implements CacheGenerations {
+
+    private static final String KEY_PREFIX = "cache:generation:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisCacheGenerations(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long current(String cacheName) {
+        String generation = redisTemplate.opsForValue().get(KEY_PREFIX + cacheName);
+        return generation == null ? 0L : Long.parseLong(generation);
+    }
+
+    @Override
+    public long next(String cacheName) {
+        Long generation = redisTemplate.opsForValue().increment(KEY_PREFIX + cacheName);
+        if (generation == null) {
+            throw new IllegalStateException("INCR returned no value for cache generation: " + cacheName);
+        }
+        return generation;
+    }
+}
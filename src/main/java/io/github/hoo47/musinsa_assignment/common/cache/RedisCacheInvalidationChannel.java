@@ -0,0 +1,78 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Broadcasts L1 invalidations to every node through Redis pub/sub.
+ * Messages carry the publishing node's ID so a node ignores its own invalidations.
+ * Pub/sub delivery is at-most-once, so a node that misses a message relies on the L1 time-to-live;
+ * the same applies to messages skipped while the Redis circuit breaker is open.
+ */
+@Slf4j
+public class RedisCacheInvalidationChannel implements CacheInvalidationPublisher {
+
+    public static final ChannelTopic TOPIC = new ChannelTopic("cache:invalidation");
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreaker circuitBreaker;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisCacheInvalidationChannel(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                         CircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        try {
+            String message = objectMapper.writeValueAsString(new Invalidation(nodeId, cacheName, key));
+            circuitBreaker.run(() -> redisTemplate.convertAndSend(TOPIC.getTopic(), message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("캐시 무효화 메시지 발행 실패: {} {}. 다른 노드의 로컬 캐시는 TTL 만료 후 갱신됩니다.", cacheName, key, e);
+        }
+    }
+
+    /**
+     * Creates the listener that applies invalidations published by other nodes.
+     * Every listener receives every invalidation and ignores the names it does not own.
+     *
+     * @param listeners the listeners applying the invalidations on this node, such as the L1 cache manager
+     * @return the message listener to subscribe to {@link #TOPIC}
+     */
+    public MessageListener listener(List<CacheInvalidationListener> listeners) {
+        return (message, pattern) -> {
+            Invalidation invalidation;
+            try {
+                invalidation = objectMapper.readValue(message.getBody(), Invalidation.class);
+            } catch (IOException e) {
+                log.warn("캐시 무효화 메시지를 해석할 수 없습니다.", e);
+                return;
+            }
+            if (nodeId.equals(invalidation.origin())) {
+                return;
+            }
+            for (CacheInvalidationListener listener : listeners) {
+                try {
+                    listener.onInvalidation(invalidation.cacheName(), invalidation.key());
+                } catch (RuntimeException e) {
+                    log.warn("캐시 무효화 메시지 처리 실패: {} {}", invalidation.cacheName(), invalidation.key(), e);
+                }
+            }
+        };
+    }
+
+    record Invalidation(String origin, String cacheName, String key) {
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link CacheLoadLease} backed by {@code SET NX PX} on Redis.
+ * The lease value is this node's ID, so a node only releases a lease it still holds.
+ * If Redis cannot be reached, or its circuit breaker is open, the lease is granted, falling back to per-node loading.
+ */
+@Slf4j
+public class RedisCacheLoadLease implements CacheLoadLease {
+
+    private static final String KEY_PREFIX = "cache:lease:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisCacheLoadLease(StringRedisTemplate redisTemplate, CircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public boolean tryAcquire(String name, Duration ttl) {
+        try {
+            return circuitBreaker.call(
+                    () -> Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, nodeId, ttl)),
+                    () -> true);
+        } catch (RuntimeException e) {
+            log.warn("캐시 로드 임대 획득 실패: {}. 이 노드에서 직접 로드합니다.", name, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void release(String name) {
+        try {
+            circuitBreaker.run(() -> redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + name), nodeId));
+        } catch (RuntimeException e) {
+            log.warn("캐시 로드 임대 해제 실패: {}. 임대는 만료 시간 이후 해제됩니다.", name, e);
+        }
+    }
+}
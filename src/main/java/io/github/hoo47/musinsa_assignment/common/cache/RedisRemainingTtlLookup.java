@@ -0,0 +1,30 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RemainingTtlLookup} backed by {@code PTTL} on the keys written by {@code RedisCache},
+ * which are the cache name and the key joined by {@code ::}.
+ * While the circuit breaker is open the remaining time is unknown.
+ */
+public class RedisRemainingTtlLookup implements RemainingTtlLookup {
+
+    private final StringRedisTemplate redisTemplate;
+    private final CircuitBreaker circuitBreaker;
+
+    public RedisRemainingTtlLookup(StringRedisTemplate redisTemplate, CircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Duration remaining(String cacheName, String key) {
+        Long millis = circuitBreaker.call(
+                () -> redisTemplate.getExpire(cacheName + "::" + key, TimeUnit.MILLISECONDS), () -> null);
+        // -2: 키 없음, -1: 만료 시간 없음
+        return millis == null || millis < 0 ? null : Duration.ofMillis(millis);
+    }
+}
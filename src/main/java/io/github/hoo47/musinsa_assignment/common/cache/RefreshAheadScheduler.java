@@ -0,0 +1,147 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs refresh-ahead reloads in the background.
+ * At most one reload per key runs on a node, and across nodes only the holder of a {@link CacheLoadLease} reloads;
+ * the others pick up its result through the usual L1 invalidation. Reloads that do not fit in the executor are
+ * dropped, leaving the entry to be refreshed by a later read. A failed reload leaves the current entry in place.
+ * While the scheduler is inactive, for instance because reads are served from another source, nothing is reloaded.
+ */
+@Slf4j
+public class RefreshAheadScheduler implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final CacheLoadLease lease;
+    private final Duration leaseTtl;
+    private final RemainingTtlLookup remainingTtlLookup;
+    private final BooleanSupplier active;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param executor           bounded executor running the reloads
+     * @param lease              lease electing the node that reloads a key
+     * @param leaseTtl           how long a reload may hold the lease
+     * @param remainingTtlLookup derives the age of entries read from the shared cache
+     */
+    public RefreshAheadScheduler(ExecutorService executor, CacheLoadLease lease, Duration leaseTtl,
+                                 RemainingTtlLookup remainingTtlLookup) {
+        this(executor, lease, leaseTtl, remainingTtlLookup, () -> true);
+    }
+
+    /**
+     * @param executor           bounded executor running the reloads
+     * @param lease              lease electing the node that reloads a key
+     * @param leaseTtl           how long a reload may hold the lease
+     * @param remainingTtlLookup derives the age of entries read from the shared cache
+     * @param active             whether reloads are scheduled at all, checked on every read past the refresh point
+     */
+    public RefreshAheadScheduler(ExecutorService executor, CacheLoadLease lease, Duration leaseTtl,
+                                 RemainingTtlLookup remainingTtlLookup, BooleanSupplier active) {
+        this.executor = executor;
+        this.lease = lease;
+        this.leaseTtl = leaseTtl;
+        this.remainingTtlLookup = remainingTtlLookup;
+        this.active = active;
+    }
+
+    /**
+     * Schedules a reload of the entry unless one is already running for the key or the scheduler is inactive.
+     *
+     * @param cache  the cache to store the reloaded value in
+     * @param key    the cache key
+     * @param loader computes the new value
+     */
+    public void schedule(Cache cache, Object key, Callable<?> loader) {
+        if (!active.getAsBoolean()) {
+            return;
+        }
+        String flightKey = "refresh:" + cache.getName() + ":" + TwoTierCache.normalize(key);
+        if (!inFlight.add(flightKey)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh(cache, key, flightKey, loader);
+                } finally {
+                    inFlight.remove(flightKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(flightKey);
+            rejections.increment();
+            log.debug("캐시 선갱신 대기열이 가득 차 건너뜁니다: {}", flightKey);
+        }
+    }
+
+    /**
+     * @param cacheName the cache name
+     * @param key       the normalized cache key
+     * @return the remaining time-to-live of the entry in the shared cache, or null when unknown
+     */
+    public Duration remainingTtl(String cacheName, String key) {
+        try {
+            return remainingTtlLookup.remaining(cacheName, key);
+        } catch (RuntimeException e) {
+            log.debug("캐시 항목의 남은 TTL을 조회하지 못했습니다: {} {}", cacheName, key, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return how many reloads stored a new value
+     */
+    public long refreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * @return how many reloads failed, leaving the current entry in place
+     */
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return how many reloads were dropped because the executor was full
+     */
+    public long rejectionCount() {
+        return rejections.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void refresh(Cache cache, Object key, String flightKey, Callable<?> loader) {
+        if (!lease.tryAcquire(flightKey, leaseTtl)) {
+            return;
+        }
+        try {
+            cache.put(key, loader.call());
+            refreshes.increment();
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("캐시 선갱신 실패: {}. 기존 값을 계속 사용합니다.", flightKey, e);
+        } finally {
+            lease.release(flightKey);
+        }
+    }
+}
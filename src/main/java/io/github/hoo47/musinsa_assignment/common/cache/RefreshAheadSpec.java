@@ -0,0 +1,40 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import java.time.Duration;
+
+/**
+ * Refresh-ahead policy of a cache.
+ * Once an entry is older than {@code refreshFraction} of its time-to-live, a read still returns it but
+ * schedules a background reload. The entry is kept in the shared cache for an extra {@code staleWindow}
+ * past its time-to-live, so it can still be served while a failed reload is retried.
+ *
+ * @param timeToLive      how long an entry is considered fresh
+ * @param refreshFraction fraction of the time-to-live after which a read schedules a reload, in (0, 1]
+ * @param staleWindow     how long an entry may be served past its time-to-live while reloads keep failing
+ */
+public record RefreshAheadSpec(
+        Duration timeToLive,
+        double refreshFraction,
+        Duration staleWindow
+) {
+
+    public RefreshAheadSpec {
+        if (refreshFraction <= 0 || refreshFraction > 1) {
+            throw new IllegalArgumentException("refreshFraction must be in (0, 1]: " + refreshFraction);
+        }
+    }
+
+    /**
+     * @return the age after which a read schedules a reload
+     */
+    public Duration refreshAfter() {
+        return Duration.ofNanos((long) (timeToLive.toNanos() * refreshFraction));
+    }
+
+    /**
+     * @return the time-to-live to configure on the shared cache, including the stale window
+     */
+    public Duration entryTimeToLive() {
+        return timeToLive.plus(staleWindow);
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import java.time.Duration;
+
+/**
+ * Looks up how long an entry has left in the shared cache, from which its age is derived.
+ */
+@FunctionalInterface
+public interface RemainingTtlLookup {
+
+    /**
+     * Never looks anything up, so entries read from the shared cache are never refreshed ahead.
+     */
+    RemainingTtlLookup NONE = (cacheName, key) -> null;
+
+    /**
+     * @param cacheName the cache name
+     * @param key       the key the entry is stored under in the shared cache
+     * @return the remaining time-to-live, or null when the entry is missing or has no expiry
+     */
+    Duration remaining(String cacheName, String key);
+}
@@ -0,0 +1,173 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent loads of the same missing cache entry.
+ * On a node, the first caller for a key loads it while later callers wait on the same future.
+ * Across nodes, the loading node holds a short {@link CacheLoadLease}; a node that cannot get the lease
+ * polls the shared cache for the holder's result and only loads itself if the lease runs out first.
+ */
+@Slf4j
+public class SingleFlightLoader {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final CacheLoadLease lease;
+    private final Duration leaseTtl;
+    private final Duration pollInterval;
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder localCoalesced = new LongAdder();
+    private final LongAdder remoteCoalesced = new LongAdder();
+
+    public SingleFlightLoader(CacheLoadLease lease, Duration leaseTtl, Duration pollInterval) {
+        this.lease = lease;
+        this.leaseTtl = leaseTtl;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Returns the entry from the shared cache, loading and storing it there at most once per key at a time.
+     *
+     * @param cache  the shared cache
+     * @param key    the cache key
+     * @param loader computes the value on a miss
+     * @return the cached or loaded value
+     * @throws Cache.ValueRetrievalException if the loader fails
+     */
+    public Object load(Cache cache, Object key, Callable<?> loader) {
+        return load(cache, key, loader, true);
+    }
+
+    /**
+     * Same as {@link #load(Cache, Object, Callable)} for a caller that has just read the shared cache and missed,
+     * so the shared cache is not read again before the lease is taken.
+     *
+     * @param cache  the shared cache
+     * @param key    the cache key
+     * @param loader computes the value
+     * @return the loaded value, or the value another node stored meanwhile
+     * @throws Cache.ValueRetrievalException if the loader fails
+     */
+    public Object loadAfterMiss(Cache cache, Object key, Callable<?> loader) {
+        return load(cache, key, loader, false);
+    }
+
+    private Object load(Cache cache, Object key, Callable<?> loader, boolean checkCache) {
+        String flightKey = cache.getName() + ":" + TwoTierCache.normalize(key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, future);
+        if (existing != null) {
+            localCoalesced.increment();
+            return await(existing, key, loader);
+        }
+
+        try {
+            future.complete(loadOnce(cache, key, flightKey, loader, checkCache));
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(flightKey, future);
+        }
+        return await(future, key, loader);
+    }
+
+    /**
+     * @return how many times a loader actually ran
+     */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * @return how many callers waited for a load already running on this node
+     */
+    public long localCoalescedCount() {
+        return localCoalesced.sum();
+    }
+
+    /**
+     * @return how many loads were skipped because another node loaded the entry
+     */
+    public long remoteCoalescedCount() {
+        return remoteCoalesced.sum();
+    }
+
+    private Object loadOnce(Cache cache, Object key, String flightKey, Callable<?> loader, boolean checkCache) throws Exception {
+        Cache.ValueWrapper cached = checkCache ? getQuietly(cache, key) : null;
+        if (cached != null) {
+            return cached.get();
+        }
+
+        boolean leased = lease.tryAcquire(flightKey, leaseTtl);
+        try {
+            if (!leased) {
+                Cache.ValueWrapper loaded = awaitOtherNode(cache, key);
+                if (loaded != null) {
+                    remoteCoalesced.increment();
+                    return loaded.get();
+                }
+            }
+            return loadAndStore(cache, key, loader);
+        } finally {
+            if (leased) {
+                lease.release(flightKey);
+            }
+        }
+    }
+
+    private Object loadAndStore(Cache cache, Object key, Callable<?> loader) throws Exception {
+        Object value = loader.call();
+        loads.increment();
+        try {
+            cache.put(key, value);
+        } catch (RuntimeException e) {
+            log.debug("로드한 값을 캐시에 저장하지 못했습니다: {} {}", cache.getName(), key, e);
+        }
+        return value;
+    }
+
+    private Cache.ValueWrapper awaitOtherNode(Cache cache, Object key) {
+        long deadline = System.nanoTime() + leaseTtl.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                TimeUnit.NANOSECONDS.sleep(pollInterval.toNanos());
+                Cache.ValueWrapper loaded = getQuietly(cache, key);
+                if (loaded != null) {
+                    return loaded;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private static Cache.ValueWrapper getQuietly(Cache cache, Object key) {
+        try {
+            return cache.get(key);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future, Object key, Callable<?> loader) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Cache.ValueRetrievalException retrievalException) {
+                throw retrievalException;
+            }
+            throw new Cache.ValueRetrievalException(key, loader, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with a bounded in-process L1 in front of a shared L2 (Redis).
+ * Reads are served from L1 when possible and fall through to L2 on a miss, filling L1 on the way back.
+ * Every write to L2 drops the entry from L1 and is broadcast so other nodes drop it from their L1 as well;
+ * the L1 time-to-live bounds staleness should a broadcast be lost.
+ * Synchronized loads ({@code @Cacheable(sync = true)}) that miss both tiers go through a {@link SingleFlightLoader}
+ * so that concurrent misses for the same key run the loader once.
+ * With a {@link RefreshAheadSpec}, synchronized loads of an entry past its refresh point still return it
+ * but schedule a background reload, so callers do not pay the load latency when the entry expires.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> local;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final SingleFlightLoader singleFlightLoader;
+    private final RefreshAheadSpec refreshSpec;
+    private final RefreshAheadScheduler refreshScheduler;
+
+    public TwoTierCache(Cache remote, LocalCacheSpec localSpec, CacheInvalidationPublisher invalidationPublisher,
+                        SingleFlightLoader singleFlightLoader) {
+        this(remote, localSpec, invalidationPublisher, singleFlightLoader, null, null);
+    }
+
+    /**
+     * @param refreshSpec      refresh-ahead policy, or null to only load on a miss; the L1 time-to-live must
+     *                         be longer than its refresh point
+     * @param refreshScheduler runs the background reloads, required when a refresh-ahead policy is given
+     */
+    public TwoTierCache(Cache remote, LocalCacheSpec localSpec, CacheInvalidationPublisher invalidationPublisher,
+                        SingleFlightLoader singleFlightLoader, RefreshAheadSpec refreshSpec,
+                        RefreshAheadScheduler refreshScheduler) {
+        if (refreshSpec != null && refreshScheduler == null) {
+            throw new IllegalArgumentException("A refresh-ahead policy requires a scheduler: " + remote.getName());
+        }
+        if (refreshSpec != null && localSpec.timeToLive().compareTo(refreshSpec.refreshAfter()) <= 0) {
+            // L1 항목이 선갱신 시점 전에 만료되면 L1 적중으로는 선갱신이 일어나지 않는다
+            throw new IllegalArgumentException("The L1 time-to-live must exceed the refresh point: " + remote.getName());
+        }
+        this.remote = remote;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localSpec.maximumSize())
+                .expireAfterWrite(localSpec.timeToLive())
+                .build();
+        this.invalidationPublisher = invalidationPublisher;
+        this.singleFlightLoader = singleFlightLoader;
+        this.refreshSpec = refreshSpec;
+        this.refreshScheduler = refreshScheduler;
+    }
+
+    /**
+     * Converts a cache key to the form shared by every node, e.g. {@code SimpleKey []} for no-argument methods.
+     *
+     * @param key the cache key
+     * @return the normalized key
+     */
+    public static String normalize(Object key) {
+        return String.valueOf(key);
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = normalize(key);
+        LocalEntry cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return new SimpleValueWrapper(cached.value());
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            local.put(localKey, fromRemote(localKey, wrapper.get()));
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = normalize(key);
+        LocalEntry entry = local.getIfPresent(localKey);
+        if (entry == null) {
+            entry = loadEntry(key, localKey, valueLoader);
+            local.put(localKey, entry);
+        }
+
+        if (entry.refreshDue(System.nanoTime())) {
+            refreshScheduler.schedule(this, key, valueLoader);
+        }
+        return (T) entry.value();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        invalidateLocal(key);
+        local.put(normalize(key), loaded(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing == null) {
+            invalidateLocal(key);
+            local.put(normalize(key), loaded(value));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        invalidateLocal(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        invalidateLocal(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        invalidationPublisher.publish(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        clearLocal();
+        invalidationPublisher.publish(getName(), null);
+        return invalidated;
+    }
+
+    /**
+     * Drops an entry from this node's L1 only, in response to a write on another node.
+     *
+     * @param key the normalized cache key
+     */
+    public void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    /**
+     * Drops every entry from this node's L1 only, in response to a clear on another node.
+     */
+    public void clearLocal() {
+        if (unwrap(remote) instanceof GenerationalCache generational) {
+            generational.forgetGeneration();
+        }
+        local.invalidateAll();
+    }
+
+    private void invalidateLocal(Object key) {
+        String localKey = normalize(key);
+        local.invalidate(localKey);
+        invalidationPublisher.publish(getName(), localKey);
+    }
+
+    private LocalEntry loadEntry(Object key, String localKey, Callable<?> valueLoader) {
+        if (refreshSpec != null) {
+            // 선갱신 시점을 알려면 L2 항목의 나이가 필요하므로 먼저 직접 조회한다
+            ValueWrapper cached = getRemoteQuietly(key);
+            if (cached != null) {
+                return fromRemote(localKey, cached.get());
+            }
+            return loaded(singleFlightLoader.loadAfterMiss(remote, key, valueLoader));
+        }
+        return loaded(singleFlightLoader.load(remote, key, valueLoader));
+    }
+
+    private LocalEntry loaded(Object value) {
+        if (refreshSpec == null) {
+            return new LocalEntry(value, LocalEntry.NEVER);
+        }
+        return new LocalEntry(value, System.nanoTime() + refreshSpec.refreshAfter().toNanos());
+    }
+
+    private LocalEntry fromRemote(String localKey, Object value) {
+        if (refreshSpec == null) {
+            return new LocalEntry(value, LocalEntry.NEVER);
+        }
+        String remoteKey = unwrap(remote) instanceof GenerationalCache generational ? generational.versionedKey(localKey) : localKey;
+        Duration remaining = refreshScheduler.remainingTtl(getName(), remoteKey);
+        if (remaining == null) {
+            return new LocalEntry(value, LocalEntry.NEVER);
+        }
+        // 나이 = L2 TTL - 남은 TTL 이므로, 나이가 refreshAfter에 도달하는 시점을 계산한다
+        Duration untilRefresh = remaining.minus(refreshSpec.entryTimeToLive()).plus(refreshSpec.refreshAfter());
+        return new LocalEntry(value, System.nanoTime() + untilRefresh.toNanos());
+    }
+
+    private static Cache unwrap(Cache cache) {
+        return cache instanceof CircuitBreakerCache guarded ? guarded.delegate() : cache;
+    }
+
+    private ValueWrapper getRemoteQuietly(Object key) {
+        try {
+            return remote.get(key);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * L1 entry: the cached value, with {@link NullValue} standing in for null, and the
+     * {@link System#nanoTime()} at which a synchronized load should schedule a reload.
+     */
+    private record LocalEntry(Object storeValue, long refreshAt) {
+
+        static final long NEVER = Long.MAX_VALUE;
+
+        LocalEntry {
+            storeValue = storeValue == null ? NullValue.INSTANCE : storeValue;
+        }
+
+        Object value() {
+            return storeValue == NullValue.INSTANCE ? null : storeValue;
+        }
+
+        boolean refreshDue(long now) {
+            return refreshAt != NEVER && now - refreshAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decorates every cache of the shared (L2) cache manager with a {@link TwoTierCache}.
+ * L1 bounds are looked up per cache name, falling back to a default; caches with a {@link RefreshAheadSpec}
+ * are refreshed ahead of expiry.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, LocalCacheSpec> localSpecs;
+    private final LocalCacheSpec defaultLocalSpec;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final SingleFlightLoader singleFlightLoader;
+    private final Map<String, RefreshAheadSpec> refreshSpecs;
+    private final RefreshAheadScheduler refreshScheduler;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, Map<String, LocalCacheSpec> localSpecs,
+                               LocalCacheSpec defaultLocalSpec, CacheInvalidationPublisher invalidationPublisher,
+                               SingleFlightLoader singleFlightLoader) {
+        this(remoteCacheManager, localSpecs, defaultLocalSpec, invalidationPublisher, singleFlightLoader, Map.of(), null);
+    }
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, Map<String, LocalCacheSpec> localSpecs,
+                               LocalCacheSpec defaultLocalSpec, CacheInvalidationPublisher invalidationPublisher,
+                               SingleFlightLoader singleFlightLoader, Map<String, RefreshAheadSpec> refreshSpecs,
+                               RefreshAheadScheduler refreshScheduler) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localSpecs = Map.copyOf(localSpecs);
+        this.defaultLocalSpec = defaultLocalSpec;
+        this.invalidationPublisher = invalidationPublisher;
+        this.singleFlightLoader = singleFlightLoader;
+        this.refreshSpecs = Map.copyOf(refreshSpecs);
+        this.refreshScheduler = refreshScheduler;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(
+                remote, localSpecs.getOrDefault(n, defaultLocalSpec), invalidationPublisher, singleFlightLoader,
+                refreshSpecs.get(n), refreshScheduler));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * Applies an invalidation broadcast by another node to this node's L1.
+     *
+     * @param cacheName the cache name
+     * @param key       the normalized cache key, or null to drop every entry of the cache
+     */
+    public void evictLocal(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+}
@@ -21,6 +21,7 @@ public enum BusinessErrorCode {
     // Product
     INVALID_PRICE("PRODUCT-001", "상품 가격은 0보다 크거나 같아야 합니다.", HttpStatus.BAD_REQUEST),
     PRODUCT_NOT_FOUND("PRODUCT-002", "존재하지 않는 상품입니다.", HttpStatus.NOT_FOUND),
+    PRICE_OUT_OF_RANGE("PRODUCT-003", "상품 가격이 허용 범위를 초과했습니다.", HttpStatus.BAD_REQUEST),
 
     INTERNAL_SERVER_ERROR("INTERNAL-001", "서버 내부 오류입니다.", HttpStatus.INTERNAL_SERVER_ERROR),;
 
@@ -0,0 +1,60 @@
+package io.github.hoo47.musinsa_assignment.common.price;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point price arithmetic on primitive longs.
+ * A price is represented by its amount in minor units (1/100 of the currency unit, matching the
+ * DECIMAL(19, 2) price column), so aggregation and comparison need no BigDecimal allocation.
+ * Values are converted back to BigDecimal only when they leave the application through the API.
+ */
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+
+    /**
+     * Largest price the application accepts. Far below what a long holds, so that the totals of
+     * thousands of prices still fit; the price column itself would accept more.
+     */
+    public static final BigDecimal MAX_PRICE = new BigDecimal("9999999999999.99");
+
+    private MinorUnits() {
+    }
+
+    /**
+     * Converts a price to minor units, rounding the same way the price column stores it.
+     *
+     * @param price the price
+     * @return the price in minor units
+     * @throws ArithmeticException if the price does not fit into a long, which cannot happen for prices
+     *                             up to {@link #MAX_PRICE}
+     */
+    public static long of(BigDecimal price) {
+        return price.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts minor units back to a price with the column scale.
+     *
+     * @param minorUnits the price in minor units
+     * @return the price
+     */
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Adds two prices, failing instead of silently overflowing.
+     */
+    public static long add(long left, long right) {
+        return Math.addExact(left, right);
+    }
+
+    /**
+     * Subtracts two prices, failing instead of silently overflowing.
+     */
+    public static long subtract(long left, long right) {
+        return Math.subtractExact(left, right);
+    }
+}
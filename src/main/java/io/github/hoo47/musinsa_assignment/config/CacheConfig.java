@@ -1,7 +1,21 @@
 package io.github.hoo47.musinsa_assignment.config;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.cache.CacheManager;
@@ -12,7 +26,9 @@ import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.cache.interceptor.SimpleCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -21,22 +37,45 @@ import org.springframework.data.redis.connection.lettuce.LettuceClientConfigurat
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.github.hoo47.musinsa_assignment.application.product.cache.PriceResponseCodecs;
 import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
-import io.github.hoo47.musinsa_assignment.domain.product.Product;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.common.cache.BinaryCodec;
+import io.github.hoo47.musinsa_assignment.common.cache.BinaryRedisSerializer;
+import io.github.hoo47.musinsa_assignment.common.cache.CacheInvalidationListener;
+import io.github.hoo47.musinsa_assignment.common.cache.CacheValueFormat;
+import io.github.hoo47.musinsa_assignment.common.cache.CircuitBreaker;
+import io.github.hoo47.musinsa_assignment.common.cache.CircuitBreakerCacheManager;
+import io.github.hoo47.musinsa_assignment.common.cache.CircuitBreakerSpec;
+import io.github.hoo47.musinsa_assignment.common.cache.GenerationalCacheManager;
+import io.github.hoo47.musinsa_assignment.common.cache.LocalCacheSpec;
+import io.github.hoo47.musinsa_assignment.common.cache.MeteredCacheManager;
+import io.github.hoo47.musinsa_assignment.common.cache.MeteredRedisSerializer;
+import io.github.hoo47.musinsa_assignment.common.cache.RedisCacheGenerations;
+import io.github.hoo47.musinsa_assignment.common.cache.RedisCacheInvalidationChannel;
+import io.github.hoo47.musinsa_assignment.common.cache.RedisCacheLoadLease;
+import io.github.hoo47.musinsa_assignment.common.cache.RedisRemainingTtlLookup;
+import io.github.hoo47.musinsa_assignment.common.cache.RefreshAheadScheduler;
+import io.github.hoo47.musinsa_assignment.common.cache.RefreshAheadSpec;
+import io.github.hoo47.musinsa_assignment.common.cache.SingleFlightLoader;
+import io.github.hoo47.musinsa_assignment.common.cache.TwoTierCacheManager;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Cache configuration class
- * Enhances performance using Redis cache.
+ * Enhances performance using a local L1 cache in front of the shared Redis cache.
  * Not applied in test environment
  */
 @Slf4j
@@ -59,7 +98,32 @@ public class CacheConfig implements CachingConfigurer {
     
     @Value("${spring.data.redis.client-name:musinsa-cache}")
     private String clientName;
+
+    @Value("${cache.redis.value-format:binary}")
+    private CacheValueFormat valueFormat;
+
+    // 로컬 캐시는 다른 노드의 무효화 메시지를 놓쳤을 때의 지연을 제한하기 위해 Redis TTL보다 짧게 유지하되,
+    // 선갱신 캐시는 L1 적중으로도 선갱신이 일어나도록 선갱신 시점(REFRESH_SPECS)보다 길게 유지
+    private static final LocalCacheSpec DEFAULT_LOCAL_SPEC = new LocalCacheSpec(1_000, Duration.ofSeconds(10));
+    private static final Map<String, LocalCacheSpec> LOCAL_SPECS = Map.of(
+            "categoryPricingCache", new LocalCacheSpec(16, Duration.ofSeconds(20)),
+            "brandLowestPriceCache", new LocalCacheSpec(16, Duration.ofSeconds(60)),
+            "priceSummaryCache", new LocalCacheSpec(256, Duration.ofSeconds(30))
+    );
+    // 전체 삭제가 키 스캔 대신 세대 번호 INCR 한 번으로 끝나도록 키에 세대를 포함하는 캐시
+    private static final Set<String> GENERATIONAL_CACHES =
+            Set.of("categoryPricingCache", "brandLowestPriceCache", "priceSummaryCache");
+    // TTL의 75%가 지나면 조회 시 백그라운드로 다시 계산하고, 재계산이 실패해도 stale 구간 동안은 기존 값을 제공
+    private static final Map<String, RefreshAheadSpec> REFRESH_SPECS = Map.of(
+            "categoryPricingCache", new RefreshAheadSpec(Duration.ofSeconds(20), 0.75, Duration.ofSeconds(10)),
+            "brandLowestPriceCache", new RefreshAheadSpec(Duration.ofSeconds(60), 0.75, Duration.ofSeconds(30)),
+            "priceSummaryCache", new RefreshAheadSpec(Duration.ofSeconds(30), 0.75, Duration.ofSeconds(15))
+    );
     
+    // 최근 20건 중 절반 이상이 실패하거나 250ms 이상 걸리면 10초 동안 Redis 호출을 건너뛰고 로컬 캐시만 사용
+    private static final CircuitBreakerSpec REDIS_CIRCUIT_BREAKER_SPEC = new CircuitBreakerSpec(
+            20, 10, 0.5, Duration.ofMillis(250), 0.5, Duration.ofSeconds(10), 3);
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
@@ -92,14 +156,16 @@ public class CacheConfig implements CachingConfigurer {
      * Uses short TTL because data in commerce services may change frequently.
      * 
      * @param redisConnectionFactory Redis connection factory
+     * @param meterRegistry registry recording the payload sizes of the price caches
      * @return Configured Redis cache manager
      */
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
+    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper,
+                                          MeterRegistry meterRegistry) {
         Jackson2JsonRedisSerializer<CategoryProductSummaryResponse> categorySerializer = 
             new Jackson2JsonRedisSerializer<>(objectMapper, CategoryProductSummaryResponse.class);
-        Jackson2JsonRedisSerializer<Product> productSerializer = 
-            new Jackson2JsonRedisSerializer<>(objectMapper, Product.class);
+
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
 
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofSeconds(timeToLive))
@@ -107,40 +173,216 @@ public class CacheConfig implements CachingConfigurer {
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper))
+                        RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer)
                 )
                 .disableCachingNullValues();
 
         // 각 캐시별로 다른 직렬화 설정 적용
         RedisCacheConfiguration categoryConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofSeconds(20))
-                .serializeKeysWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
-                )
-                .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(categorySerializer)
-                );
-
-        RedisCacheConfiguration productConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofSeconds(120))
+                .entryTtl(REFRESH_SPECS.get("categoryPricingCache").entryTimeToLive())
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
-                .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(productSerializer)
-                );
+                .serializeValuesWith(valueSerializer("categoryPricingCache", categorySerializer, PriceResponseCodecs.CATEGORY_PRICING, meterRegistry));
 
         return RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("categoryPricingCache", categoryConfig)
-                .withCacheConfiguration("priceInfoCache", productConfig)
                 .withCacheConfiguration("priceSummaryCache", 
-                        defaultConfig.entryTtl(Duration.ofSeconds(30)))
+                        defaultConfig.entryTtl(REFRESH_SPECS.get("priceSummaryCache").entryTimeToLive())
+                                .serializeValuesWith(valueSerializer("priceSummaryCache", jsonSerializer,
+                                        PriceResponseCodecs.PRICE_SUMMARY, meterRegistry)))
                 .withCacheConfiguration("brandLowestPriceCache", 
-                        defaultConfig.entryTtl(Duration.ofSeconds(60)))
+                        defaultConfig.entryTtl(REFRESH_SPECS.get("brandLowestPriceCache").entryTimeToLive())
+                                .serializeValuesWith(valueSerializer("brandLowestPriceCache", jsonSerializer,
+                                        PriceResponseCodecs.BRAND_LOWEST_PRICE, meterRegistry)))
                 .build();
     }
+
+    /**
+     * Picks the value serializer of a cache according to {@code cache.redis.value-format}.
+     * Values written in the other format read as misses or fail to decode, and are loaded again.
+     * The size of every written value is recorded per cache.
+     *
+     * @param cacheName name of the cache
+     * @param jsonSerializer serializer used in JSON mode
+     * @param codec binary codec used in binary mode
+     * @param meterRegistry registry recording the payload sizes
+     * @return Value serialization pair of the cache
+     */
+    private RedisSerializationContext.SerializationPair<?> valueSerializer(String cacheName, RedisSerializer<?> jsonSerializer,
+                                                                           BinaryCodec<?> codec, MeterRegistry meterRegistry) {
+        RedisSerializer<?> serializer = valueFormat == CacheValueFormat.BINARY ? new BinaryRedisSerializer<>(codec) : jsonSerializer;
+        return RedisSerializationContext.SerializationPair.fromSerializer(
+                new MeteredRedisSerializer<>(serializer, cacheName, meterRegistry));
+    }
     
+    /**
+     * Guards every cache-related Redis call. Only data access failures such as connection errors and
+     * command timeouts count as failures; serialization errors of a single entry do not.
+     * While open, cacheable calls are served by the in-process L1 alone instead of waiting for the command timeout.
+     *
+     * @return Circuit breaker shared by the Redis cache, leases, TTL lookups and invalidation messages
+     */
+    @Bean
+    public CircuitBreaker redisCircuitBreaker() {
+        return new CircuitBreaker("Redis", REDIS_CIRCUIT_BREAKER_SPEC, DataAccessException.class::isInstance);
+    }
+
+    /**
+     * Configures the two-tier cache manager used by {@code @Cacheable}.
+     * Hot reads are served from the in-process L1 and fall through to Redis (L2) on a miss.
+     * The price caches keep a generation number in their Redis keys, so clearing one is a single INCR
+     * and the orphaned entries expire by their TTL.
+     * Redis calls go through a circuit breaker; while it is open the L1 is the only cache.
+     *
+     * @param redisCacheManager Redis cache manager used as L2
+     * @param stringRedisTemplate Redis template holding the cache generations
+     * @param redisCircuitBreaker circuit breaker guarding the L2 calls
+     * @param cacheInvalidationChannel channel broadcasting L1 invalidations to other nodes
+     * @param singleFlightLoader loader coalescing concurrent misses of the same key
+     * @param refreshAheadScheduler scheduler reloading entries ahead of expiry
+     * @return Configured two-tier cache manager
+     */
+    @Bean
+    public TwoTierCacheManager twoTierCacheManager(@Qualifier("redisCacheManager") CacheManager redisCacheManager,
+                                                   StringRedisTemplate stringRedisTemplate,
+                                                   CircuitBreaker redisCircuitBreaker,
+                                                   RedisCacheInvalidationChannel cacheInvalidationChannel,
+                                                   SingleFlightLoader singleFlightLoader,
+                                                   RefreshAheadScheduler refreshAheadScheduler) {
+        CacheManager generationalCacheManager = new GenerationalCacheManager(redisCacheManager, GENERATIONAL_CACHES,
+                new RedisCacheGenerations(stringRedisTemplate), Duration.ofSeconds(1));
+        CacheManager guardedCacheManager = new CircuitBreakerCacheManager(generationalCacheManager, redisCircuitBreaker);
+        return new TwoTierCacheManager(guardedCacheManager, LOCAL_SPECS, DEFAULT_LOCAL_SPEC, cacheInvalidationChannel,
+                singleFlightLoader, REFRESH_SPECS, refreshAheadScheduler);
+    }
+
+    /**
+     * Cache manager used by {@code @Cacheable}: the two-tier cache manager with hits, misses, load times,
+     * evictions and errors recorded per cache, exposed on {@code /actuator/prometheus}.
+     *
+     * @param twoTierCacheManager two-tier cache manager serving the caches
+     * @param meterRegistry registry the cache meters are registered in
+     * @return Metered cache manager
+     */
+    @Bean
+    @Primary
+    public CacheManager cacheManager(TwoTierCacheManager twoTierCacheManager, MeterRegistry meterRegistry) {
+        return new MeteredCacheManager(twoTierCacheManager, meterRegistry);
+    }
+
+    /**
+     * Exposes the counters of the cache building blocks shared by every cache.
+     *
+     * @param singleFlightLoader loader coalescing concurrent misses
+     * @param refreshAheadScheduler scheduler reloading entries ahead of expiry
+     * @param redisCircuitBreaker circuit breaker guarding the Redis calls
+     * @return Binder registering the meters
+     */
+    @Bean
+    public MeterBinder cacheInfrastructureMetrics(SingleFlightLoader singleFlightLoader,
+                                                  RefreshAheadScheduler refreshAheadScheduler,
+                                                  CircuitBreaker redisCircuitBreaker) {
+        return registry -> {
+            FunctionCounter.builder("app.cache.single.flight.loads", singleFlightLoader, SingleFlightLoader::loadCount)
+                    .register(registry);
+            FunctionCounter.builder("app.cache.single.flight.coalesced", singleFlightLoader, SingleFlightLoader::localCoalescedCount)
+                    .tag("scope", "local")
+                    .register(registry);
+            FunctionCounter.builder("app.cache.single.flight.coalesced", singleFlightLoader, SingleFlightLoader::remoteCoalescedCount)
+                    .tag("scope", "remote")
+                    .register(registry);
+            FunctionCounter.builder("app.cache.refresh.ahead", refreshAheadScheduler, RefreshAheadScheduler::refreshCount)
+                    .tag("result", "success")
+                    .register(registry);
+            FunctionCounter.builder("app.cache.refresh.ahead", refreshAheadScheduler, RefreshAheadScheduler::failureCount)
+                    .tag("result", "failure")
+                    .register(registry);
+            FunctionCounter.builder("app.cache.refresh.ahead", refreshAheadScheduler, RefreshAheadScheduler::rejectionCount)
+                    .tag("result", "rejected")
+                    .register(registry);
+            FunctionCounter.builder("app.cache.redis.short.circuited", redisCircuitBreaker, CircuitBreaker::shortCircuitCount)
+                    .register(registry);
+            FunctionCounter.builder("app.cache.redis.circuit.opened", redisCircuitBreaker, CircuitBreaker::openCount)
+                    .register(registry);
+            Gauge.builder("app.cache.redis.circuit.state", redisCircuitBreaker, breaker -> breaker.state().ordinal())
+                    .description("0: closed, 1: open, 2: half-open")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public RedisCacheInvalidationChannel cacheInvalidationChannel(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                                                  CircuitBreaker redisCircuitBreaker) {
+        return new RedisCacheInvalidationChannel(stringRedisTemplate, objectMapper, redisCircuitBreaker);
+    }
+
+    /**
+     * Coalesces concurrent {@code @Cacheable(sync = true)} misses per key, on this node and across nodes.
+     * The Redis lease is kept short so a node that dies while loading only delays the others briefly.
+     *
+     * @param stringRedisTemplate Redis template holding the load leases
+     * @param redisCircuitBreaker circuit breaker guarding the lease calls
+     * @return Single-flight loader shared by every cache
+     */
+    @Bean
+    public SingleFlightLoader singleFlightLoader(StringRedisTemplate stringRedisTemplate, CircuitBreaker redisCircuitBreaker) {
+        return new SingleFlightLoader(new RedisCacheLoadLease(stringRedisTemplate, redisCircuitBreaker),
+                Duration.ofSeconds(2), Duration.ofMillis(25));
+    }
+
+    /**
+     * Reloads entries of the refresh-ahead caches in the background.
+     * The executor is small and bounded: reloads that do not fit are dropped and retried by a later read.
+     * The refresh-ahead caches are the price response caches, which the read endpoints only use until the
+     * pricing snapshot is loaded, so nothing is reloaded after that.
+     *
+     * @param stringRedisTemplate Redis template holding the reload leases and answering remaining TTLs
+     * @param redisCircuitBreaker circuit breaker guarding the lease and TTL calls
+     * @param pricingReadModel read model whose snapshot replaces the price response caches once loaded
+     * @return Refresh-ahead scheduler shared by every cache
+     */
+    @Bean
+    public RefreshAheadScheduler refreshAheadScheduler(StringRedisTemplate stringRedisTemplate, CircuitBreaker redisCircuitBreaker,
+                                                       PricingReadModel pricingReadModel) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(32), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        return new RefreshAheadScheduler(executor, new RedisCacheLoadLease(stringRedisTemplate, redisCircuitBreaker),
+                Duration.ofSeconds(5), new RedisRemainingTtlLookup(stringRedisTemplate, redisCircuitBreaker),
+                () -> !pricingReadModel.isLoaded());
+    }
+
+    /**
+     * Subscribes to invalidations published by other nodes: L1 cache entries, and in-process read models
+     * such as the pricing snapshot that listen for names of their own.
+     *
+     * @param redisConnectionFactory Redis connection factory
+     * @param twoTierCacheManager two-tier cache manager owning the L1 caches
+     * @param cacheInvalidationChannel channel the invalidations are published on
+     * @param invalidationListeners other listeners applying invalidations on this node
+     * @return Listener container for the invalidation topic
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                           TwoTierCacheManager twoTierCacheManager,
+                                                                           RedisCacheInvalidationChannel cacheInvalidationChannel,
+                                                                           ObjectProvider<CacheInvalidationListener> invalidationListeners) {
+        List<CacheInvalidationListener> listeners = new ArrayList<>();
+        listeners.add(twoTierCacheManager::evictLocal);
+        invalidationListeners.orderedStream().forEach(listeners::add);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheInvalidationChannel.listener(listeners), RedisCacheInvalidationChannel.TOPIC);
+        return container;
+    }
+
     /**
      * Configures Redis template.
      * 
@@ -0,0 +1,99 @@
+package io.github.hoo47.musinsa_assignment.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hibernate second-level cache configuration.
+ * Brands and categories are cached as entities, and the brand x category aggregate queries are cached
+ * as query results. Query results are invalidated by Hibernate's update timestamps: any write to a table
+ * a cached query reads from makes its cached results stale on this node.
+ * The caches are local to each node, so the regions expire shortly after being written to bound how long
+ * a change committed on another node can go unseen. The aggregate results feed the response caches, whose
+ * local tier lives 10 seconds, so they expire sooner than that: a response recomputed after its local entry
+ * expired never reads aggregates cached before that entry was written, and cannot refill the shared Redis
+ * cache with a result older than the one it replaces.
+ * Applied in every profile; unlike the Redis caches it needs nothing but the JVM.
+ */
+@Slf4j
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String BRAND_REGION = "brands";
+    public static final String CATEGORY_REGION = "categories";
+    public static final String PRICE_AGGREGATE_REGION = "price-aggregates";
+
+    private static final Map<String, RegionSpec> REGIONS = Map.of(
+            BRAND_REGION, new RegionSpec(10_000, Duration.ofMinutes(10)),
+            CATEGORY_REGION, new RegionSpec(1_000, Duration.ofMinutes(10)),
+            PRICE_AGGREGATE_REGION, new RegionSpec(1_000, Duration.ofSeconds(5)),
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, new RegionSpec(1_000, Duration.ofSeconds(60)),
+            // 쿼리 결과의 유효성 판단 기준이므로 테이블별 한 항목만 두고 만료시키지 않는다
+            RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new RegionSpec(null, null));
+
+    /**
+     * Enables the second-level and query caches on a JCache manager backed by Caffeine.
+     * Every region is created up front and a region Hibernate asks for but that is not listed here fails
+     * the startup instead of being created without bounds.
+     *
+     * @return Customizer adding the cache settings to the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager());
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private CacheManager secondLevelCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        REGIONS.forEach((region, spec) -> {
+            if (cacheManager.getCache(region) != null) {
+                // 같은 JVM에서 다시 시작된 세션 팩토리는 이전에 적재된 항목을 신뢰하지 않는다
+                cacheManager.getCache(region).clear();
+                return;
+            }
+            cacheManager.createCache(region, spec.toConfiguration());
+        });
+        log.info("Hibernate 2차 캐시 리전 구성 완료: {}", REGIONS.keySet());
+        return cacheManager;
+    }
+
+    /**
+     * @param maximumSize       maximum number of entries, or null for unbounded
+     * @param expireAfterWrite  how long an entry lives after being written, or null to never expire
+     */
+    private record RegionSpec(Integer maximumSize, Duration expireAfterWrite) {
+
+        CaffeineConfiguration<Object, Object> toConfiguration() {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            if (maximumSize != null) {
+                configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            }
+            if (expireAfterWrite != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+            }
+            return configuration;
+        }
+    }
+}
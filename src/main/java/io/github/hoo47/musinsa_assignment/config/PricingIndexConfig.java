@@ -0,0 +1,41 @@
+package io.github.hoo47.musinsa_assignment.config;
+
+import io.github.hoo47.musinsa_assignment.application.product.index.RedisPriceIndex;
+import io.github.hoo47.musinsa_assignment.application.product.index.SharedPriceIndex;
+import io.github.hoo47.musinsa_assignment.common.cache.CircuitBreaker;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Price read model configuration.
+ * Scheduling is enabled for the periodic rebuilds that repair indexes which missed a change made on another node.
+ */
+@Configuration
+@EnableScheduling
+public class PricingIndexConfig {
+
+    /**
+     * Keeps the price read model on Redis so that every node shares one copy instead of querying the database.
+     *
+     * @param stringRedisTemplate Redis template holding the sorted sets
+     * @param redisCircuitBreaker circuit breaker guarding the lookups and updates
+     * @return Shared price index on Redis
+     */
+    @Bean
+    @ConditionalOnProperty(name = "pricing.redis-index.enabled", havingValue = "true")
+    public RedisPriceIndex redisPriceIndex(StringRedisTemplate stringRedisTemplate, CircuitBreaker redisCircuitBreaker) {
+        return new RedisPriceIndex(stringRedisTemplate, redisCircuitBreaker);
+    }
+
+    /**
+     * @return Shared price index that is never available, so lookups go straight to the database
+     */
+    @Bean
+    @ConditionalOnProperty(name = "pricing.redis-index.enabled", havingValue = "false", matchIfMissing = true)
+    public SharedPriceIndex sharedPriceIndex() {
+        return SharedPriceIndex.NONE;
+    }
+}
@@ -7,15 +7,22 @@ import com.github.fge.jsonpatch.JsonPatch;
 import com.github.fge.jsonpatch.JsonPatchException;
 import io.github.hoo47.musinsa_assignment.application.brand.dto.request.BrandCreateRequest;
 import io.github.hoo47.musinsa_assignment.application.brand.dto.request.BrandUpdateRequest;
+import io.github.hoo47.musinsa_assignment.application.brand.dto.response.BrandCategoryPricePageResponse;
 import io.github.hoo47.musinsa_assignment.application.brand.dto.response.BrandResponse;
 import io.github.hoo47.musinsa_assignment.application.brand.service.BrandCommandService;
-import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingSnapshot;
+import io.github.hoo47.musinsa_assignment.application.usecase.BrandCategoryPricePageUsecase;
 import io.github.hoo47.musinsa_assignment.application.usecase.BrandLowestPriceUsecase;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessErrorCode;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessException;
 import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
+import io.github.hoo47.musinsa_assignment.web.common.PricingHeaders;
+import io.github.hoo47.musinsa_assignment.web.common.PricingResponseCache;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RequestMapping("/api/v1/brands")
@@ -24,19 +31,49 @@ public class BrandController {
 
     private final BrandCommandService brandCommandService;
     private final BrandLowestPriceUsecase brandLowestPriceUsecase;
+    private final BrandCategoryPricePageUsecase brandCategoryPricePageUsecase;
+    private final PricingReadModel pricingReadModel;
+    private final PricingResponseCache pricingResponseCache;
     private final ObjectMapper objectMapper;
 
-    public BrandController(BrandCommandService brandCommandService, BrandLowestPriceUsecase brandLowestPriceUsecase) {
+    public BrandController(BrandCommandService brandCommandService, BrandLowestPriceUsecase brandLowestPriceUsecase,
+                           BrandCategoryPricePageUsecase brandCategoryPricePageUsecase,
+                           PricingReadModel pricingReadModel, PricingResponseCache pricingResponseCache) {
         this.brandCommandService = brandCommandService;
         this.brandLowestPriceUsecase = brandLowestPriceUsecase;
+        this.brandCategoryPricePageUsecase = brandCategoryPricePageUsecase;
+        this.pricingReadModel = pricingReadModel;
+        this.pricingResponseCache = pricingResponseCache;
         this.objectMapper = new ObjectMapper() ;
     }
 
 
 
     @GetMapping("/lowest-price")
-    public BrandProductSummaryResponse getLowestPriceBrand() {
-        return brandLowestPriceUsecase.getBrandWithLowestTotalPrice();
+    public ResponseEntity<?> getLowestPriceBrand(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ResponseEntity<byte[]> cached = pricingResponseCache.respond(
+                "brands/lowest-price", acceptEncoding, brandLowestPriceUsecase::getBrandWithLowestTotalPrice);
+        if (cached != null) {
+            return cached;
+        }
+
+        PricingSnapshot snapshot = pricingReadModel.current();
+        if (snapshot.loaded()) {
+            // 버전 헤더와 본문을 같은 스냅샷에서 만든다
+            return ResponseEntity.ok()
+                    .header(PricingHeaders.VERSION, String.valueOf(snapshot.version()))
+                    .body(brandLowestPriceUsecase.getBrandWithLowestTotalPrice(snapshot));
+        }
+        // 캐시에서 온 본문은 어느 스냅샷에서 계산되었는지 알 수 없으므로 버전 헤더를 붙이지 않는다
+        return ResponseEntity.ok(brandLowestPriceUsecase.getBrandWithLowestTotalPrice());
+    }
+
+    @GetMapping("/category-prices")
+    public BrandCategoryPricePageResponse getCategoryPrices(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return brandCategoryPricePageUsecase.getPage(cursor, size);
     }
 
     @PostMapping
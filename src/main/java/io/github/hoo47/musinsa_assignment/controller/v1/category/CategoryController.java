@@ -1,12 +1,20 @@
 package io.github.hoo47.musinsa_assignment.controller.v1.category;
 
-import io.github.hoo47.musinsa_assignment.application.brand.dto.response.CategoryPriceSummaryResponse;
-import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.category.index.CategoryNameRegistry;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingSnapshot;
 import io.github.hoo47.musinsa_assignment.application.usecase.CategoryPriceSummaryUsecase;
 import io.github.hoo47.musinsa_assignment.application.usecase.CategoryProductPriceUsecase;
+import io.github.hoo47.musinsa_assignment.common.exception.BusinessErrorCode;
+import io.github.hoo47.musinsa_assignment.common.exception.BusinessException;
+import io.github.hoo47.musinsa_assignment.web.common.PricingHeaders;
+import io.github.hoo47.musinsa_assignment.web.common.PricingResponseCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -17,14 +25,51 @@ public class CategoryController {
 
     private final CategoryProductPriceUsecase categoryProductPriceUsecase;
     private final CategoryPriceSummaryUsecase categoryPriceSummaryUsecase;
+    private final PricingReadModel pricingReadModel;
+    private final PricingResponseCache pricingResponseCache;
+    private final CategoryNameRegistry categoryNameRegistry;
 
     @GetMapping("/lowest-price-by-category")
-    public CategoryProductSummaryResponse getCategoryPricing() {
-        return categoryProductPriceUsecase.getCategoryPricing();
+    public ResponseEntity<?> getCategoryPricing(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ResponseEntity<byte[]> cached = pricingResponseCache.respond(
+                "lowest-price-by-category", acceptEncoding, categoryProductPriceUsecase::getCategoryPricing);
+        if (cached != null) {
+            return cached;
+        }
+
+        PricingSnapshot snapshot = pricingReadModel.current();
+        if (snapshot.loaded()) {
+            // 버전 헤더와 본문을 같은 스냅샷에서 만든다
+            return ResponseEntity.ok()
+                    .header(PricingHeaders.VERSION, String.valueOf(snapshot.version()))
+                    .body(categoryProductPriceUsecase.getCategoryPricing(snapshot));
+        }
+        // 캐시에서 온 본문은 어느 스냅샷에서 계산되었는지 알 수 없으므로 버전 헤더를 붙이지 않는다
+        return ResponseEntity.ok(categoryProductPriceUsecase.getCategoryPricing());
     }
 
     @GetMapping("/{categoryName}/price-summary")
-    public CategoryPriceSummaryResponse getCategoryPriceSummary(@PathVariable String categoryName) {
-        return categoryPriceSummaryUsecase.getPriceSummaryByCategoryName(categoryName);
+    public ResponseEntity<?> getCategoryPriceSummary(
+            @PathVariable String categoryName,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // 임의의 이름이 캐시 키를 늘리거나 DB 조회로 이어지지 않도록 캐시보다 먼저 확인
+        if (!categoryNameRegistry.exists(categoryName)) {
+            throw new BusinessException(BusinessErrorCode.CATEGORY_NOT_FOUND);
+        }
+
+        ResponseEntity<byte[]> cached = pricingResponseCache.respond("price-summary:" + categoryName, acceptEncoding,
+                snapshot -> categoryPriceSummaryUsecase.getPriceSummaryByCategoryName(snapshot, categoryName));
+        if (cached != null) {
+            return cached;
+        }
+
+        PricingSnapshot snapshot = pricingReadModel.current();
+        if (snapshot.loaded()) {
+            return ResponseEntity.ok()
+                    .header(PricingHeaders.VERSION, String.valueOf(snapshot.version()))
+                    .body(categoryPriceSummaryUsecase.getPriceSummaryByCategoryName(snapshot, categoryName));
+        }
+        return ResponseEntity.ok(categoryPriceSummaryUsecase.getPriceSummaryByCategoryName(categoryName));
     }
 }
@@ -0,0 +1,25 @@
+package io.github.hoo47.musinsa_assignment.domain.category;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Publishes a {@link CategoryChangedEvent} for every category write, whichever code path makes it.
+ * Instantiated by Hibernate through Spring's bean container; the event is published during the flush,
+ * so transactional listeners receive it once the transaction commits.
+ */
+@RequiredArgsConstructor
+public class CategoryChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Category category) {
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
+    }
+}
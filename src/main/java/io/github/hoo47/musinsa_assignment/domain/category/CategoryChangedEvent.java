@@ -0,0 +1,11 @@
+package io.github.hoo47.musinsa_assignment.domain.category;
+
+/**
+ * Published by {@link CategoryChangeListener} when a category is created, renamed or deleted.
+ *
+ * @param categoryId the category ID
+ */
+public record CategoryChangedEvent(
+        Long categoryId
+) {
+}
@@ -20,4 +20,6 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     @Lock(LockModeType.PESSIMISTIC_READ)
     @Query("SELECT c FROM Category c WHERE c.id = :id")
     Optional<Category> findByIdWithReadLock(@Param("id") Long id);
+
+    boolean existsByName(String name);
 }
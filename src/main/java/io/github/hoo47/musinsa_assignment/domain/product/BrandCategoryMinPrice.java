@@ -0,0 +1,104 @@
+package io.github.hoo47.musinsa_assignment.domain.product;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Minimum product price and product count of one brand and category pair.
+ * A row exists only while the pair has at least one product, except for a row inserted for the first
+ * product of the pair, which has no products until that product's transaction commits, or at all if it
+ * rolls back; reads skip such rows, and the next product of the pair is counted into it.
+ */
+@Entity
+@Table(
+    name = "brand_category_min_price",
+    indexes = {
+        @Index(name = "idx_brand_category_min_price_category", columnList = "category_id")
+    }
+)
+@IdClass(BrandCategoryMinPrice.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BrandCategoryMinPrice {
+
+    @Id
+    @Column(name = "brand_id")
+    private Long brandId;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "min_price", nullable = false)
+    private BigDecimal minPrice;
+
+    @Column(name = "product_count", nullable = false)
+    private long productCount;
+
+    /**
+     * Counts one product into the pair.
+     */
+    public void add(BigDecimal price) {
+        if (productCount <= 0 || price.compareTo(minPrice) < 0) {
+            minPrice = price;
+        }
+        productCount++;
+    }
+
+    /**
+     * Counts one product out of the pair.
+     *
+     * @return whether the removed product may have held the minimum price, so it has to be recomputed
+     */
+    public boolean remove(BigDecimal price) {
+        productCount--;
+        return price.compareTo(minPrice) == 0;
+    }
+
+    /**
+     * Applies a price change of a product that stays in the pair.
+     *
+     * @return whether the changed product may have held the minimum price, so it has to be recomputed
+     */
+    public boolean changePrice(BigDecimal before, BigDecimal after) {
+        if (after.compareTo(minPrice) <= 0) {
+            minPrice = after;
+            return false;
+        }
+        return before.compareTo(minPrice) == 0;
+    }
+
+    public void updateMinPrice(BigDecimal minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public void reset(BigDecimal minPrice, long productCount) {
+        this.minPrice = minPrice;
+        this.productCount = productCount;
+    }
+
+    public boolean isEmpty() {
+        return productCount <= 0;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long brandId;
+        private Long categoryId;
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.hoo47.musinsa_assignment.domain.product;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
+
+public interface BrandCategoryMinPriceRepository extends JpaRepository<BrandCategoryMinPrice, BrandCategoryMinPrice.Key> {
+
+    /**
+     * Retrieves the row of a brand and category pair with a pessimistic write lock.
+     * Serializes concurrent product writes to the same pair until the transaction ends.
+     *
+     * @param brandId    brand ID
+     * @param categoryId category ID
+     * @return the row of the pair (Optional)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM BrandCategoryMinPrice m WHERE m.brandId = :brandId AND m.categoryId = :categoryId")
+    Optional<BrandCategoryMinPrice> findForUpdate(@Param("brandId") Long brandId, @Param("categoryId") Long categoryId);
+
+    /**
+     * Inserts the row of a brand and category pair with no products counted yet,
+     * so that it can be locked with {@link #findForUpdate} and the first product counted into it.
+     * Fails with a duplicate key when the row already exists.
+     *
+     * @param brandId    brand ID
+     * @param categoryId category ID
+     * @param minPrice   placeholder minimum price, replaced by the price of the first product counted
+     * @return number of inserted rows
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO BrandCategoryMinPrice (brandId, categoryId, minPrice, productCount)
+            VALUES (:brandId, :categoryId, :minPrice, 0)
+            """)
+    int insertEmpty(@Param("brandId") Long brandId, @Param("categoryId") Long categoryId, @Param("minPrice") BigDecimal minPrice);
+
+    /**
+     * Inserts one row per brand and category pair aggregated from the products table.
+     * Expects the table to be empty.
+     *
+     * @return number of inserted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            INSERT INTO BrandCategoryMinPrice (brandId, categoryId, minPrice, productCount)
+            SELECT p.brand.id, p.category.id, MIN(p.price), COUNT(p)
+            FROM Product p
+            GROUP BY p.brand.id, p.category.id
+            """)
+    int insertFromProducts();
+}
@@ -1,11 +1,10 @@
 package io.github.hoo47.musinsa_assignment.domain.product;
 
 import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
-import io.github.hoo47.musinsa_assignment.domain.product.dto.CategoryMinPrice;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.CategoryExtremePrice;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -19,141 +18,165 @@ import java.util.Optional;
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     /**
-     * Get minimum prices for each category
+     * Find the cheapest product of each category in a single statement
+     * Ranks the products of each category by price, then by product ID, and keeps the first one,
+     * so exactly one deterministic row is returned for every category that has products
      *
      * @param categoryIds list of category IDs
-     * @return list of categories with their minimum prices
-     */
-    @Query("SELECT new io.github.hoo47.musinsa_assignment.domain.product.dto.CategoryMinPrice(" +
-            "p.category.id, MIN(p.price)) " +
-            "FROM Product p " +
-            "WHERE p.category.id IN :categoryIds " +
-            "GROUP BY p.category.id")
-    List<CategoryMinPrice> findMinPricesByCategories(@Param("categoryIds") List<Long> categoryIds);
-
-    /**
-     * Find products with the cheapest price in each category
-     *
-     * @param categoryId category ID
-     * @param price      minimum price for the category
-     * @return list of products with the given price in the given category
-     */
-    @Query("SELECT p FROM Product p " +
-            "JOIN FETCH p.brand " +
-            "JOIN FETCH p.category " +
-            "WHERE p.category.id = :categoryId AND p.price = :price")
-    List<Product> findProductsByCategoryIdAndPrice(@Param("categoryId") Long categoryId, @Param("price") BigDecimal price);
-
-    /**
-     * Find all products with minimum price per brand and category combination
-     * Optimized with pagination support for large datasets
-     *
-     * @return list of brand-category price info records
+     * @return the cheapest product of each category, ordered by category ID
      */
     @Query("""
-            SELECT new io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo(
-                b.id, b.name,
-                c.id, c.name,
-                minPrices.minPrice
+            SELECT new io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo(
+                ranked.productId,
+                ranked.categoryId, ranked.categoryName,
+                ranked.brandId, ranked.brandName,
+                ranked.price
             )
             FROM (
-                SELECT p.brand.id as brandId, p.category.id as categoryId, MIN(p.price) as minPrice
+                SELECT p.id AS productId,
+                       c.id AS categoryId, c.name AS categoryName,
+                       b.id AS brandId, b.name AS brandName,
+                       p.price AS price,
+                       ROW_NUMBER() OVER (PARTITION BY c.id ORDER BY p.price, p.id) AS priceRank
                 FROM Product p
-                GROUP BY p.brand.id, p.category.id
-            ) AS minPrices
-            JOIN Brand b ON b.id = minPrices.brandId
-            JOIN Category c ON c.id = minPrices.categoryId
-            ORDER BY b.id, c.id
+                JOIN p.category c
+                JOIN p.brand b
+                WHERE c.id IN :categoryIds
+            ) AS ranked
+            WHERE ranked.priceRank = 1
+            ORDER BY ranked.categoryId
             """)
-    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true")})
-    List<BrandCategoryPriceInfo> findCheapestProductsGroupByBrandAndCategory();
+    List<ProductPriceInfo> findCheapestPerCategory(@Param("categoryIds") List<Long> categoryIds);
 
     /**
-     * Find all products with minimum price per brand and category combination with pagination
-     * Optimized for large datasets by adding pagination support
+     * Find the minimum price per brand and category combination after the given key
+     * Keyset pagination: seeks past the last seen (brand ID, category ID) on the primary key of the
+     * brand_category_min_price summary table, so every page costs the same and no count query is needed
      *
-     * @param pageable pagination information
-     * @return page of brand-category price info records
+     * @param brandId    brand ID of the last seen row, 0 for the first page
+     * @param categoryId category ID of the last seen row, 0 for the first page
+     * @param size       maximum number of rows to return
+     * @return brand-category price info records ordered by brand ID, then category ID
      */
-    @Query(value = """
+    @Query("""
             SELECT new io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo(
                 b.id, b.name,
                 c.id, c.name,
-                minPrices.minPrice
+                m.minPrice
             )
-            FROM (
-                SELECT p.brand.id as brandId, p.category.id as categoryId, MIN(p.price) as minPrice
-                FROM Product p
-                GROUP BY p.brand.id, p.category.id
-            ) AS minPrices
-            JOIN Brand b ON b.id = minPrices.brandId
-            JOIN Category c ON c.id = minPrices.categoryId
-            ORDER BY b.id, c.id
-            """,
-            countQuery = """
-                    SELECT COUNT(*)
-                    FROM (
-                        SELECT p.brand.id as brandId, p.category.id as categoryId
-                        FROM Product p
-                        GROUP BY p.brand.id, p.category.id
-                    ) AS countQuery
-                    """)
-    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true")})
-    Page<BrandCategoryPriceInfo> findCheapestProductsGroupByBrandAndCategoryPaged(Pageable pageable);
+            FROM BrandCategoryMinPrice m
+            JOIN Brand b ON b.id = m.brandId
+            JOIN Category c ON c.id = m.categoryId
+            WHERE m.productCount > 0
+              AND (m.brandId > :brandId OR (m.brandId = :brandId AND m.categoryId > :categoryId))
+            ORDER BY m.brandId, m.categoryId
+            LIMIT :size
+            """)
+    List<BrandCategoryPriceInfo> findBrandCategoryPricesAfter(@Param("brandId") Long brandId,
+                                                              @Param("categoryId") Long categoryId,
+                                                              @Param("size") int size);
 
     /**
-     * Find products with minimum price per category for a specific brand
-     * This method is more efficient when filtering by a specific brand
+     * Find the per-category minimum prices of the brand with the lowest total price in a single statement
+     * Brands are ranked in the database by the sum of their per-category minimums, keeping only brands
+     * that have a product in every category, with ties broken by brand name; only the top brand's rows are returned
      *
-     * @param brandId brand ID to filter by
-     * @return list of brand-category price info records for the given brand
+     * @param categoryCount total number of categories a brand has to cover
+     * @return brand-category price info records of the lowest-total brand ordered by category ID,
+     * or an empty list when no brand covers every category
      */
     @Query("""
             SELECT new io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo(
-                :brandId, b.name,
+                b.id, b.name,
                 c.id, c.name,
-                MIN(p.price)
+                m.minPrice
+            )
+            FROM BrandCategoryMinPrice m
+            JOIN Brand b ON b.id = m.brandId
+            JOIN Category c ON c.id = m.categoryId
+            WHERE m.productCount > 0
+              AND m.brandId = (
+                SELECT totals.brandId
+                FROM BrandCategoryMinPrice totals
+                JOIN Brand rankedBrand ON rankedBrand.id = totals.brandId
+                WHERE totals.productCount > 0
+                GROUP BY totals.brandId, rankedBrand.name
+                HAVING COUNT(totals) = :categoryCount
+                ORDER BY SUM(totals.minPrice), rankedBrand.name
+                LIMIT 1
             )
-            FROM Product p
-            JOIN p.brand b
-            JOIN p.category c
-            WHERE p.brand.id = :brandId
-            GROUP BY c.id, c.name, b.name
             ORDER BY c.id
             """)
-    @QueryHints({@QueryHint(name = "org.hibernate.cacheable", value = "true")})
-    List<BrandCategoryPriceInfo> findCheapestProductsByBrand(@Param("brandId") Long brandId);
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = "price-aggregates")
+    })
+    List<BrandCategoryPriceInfo> findLowestTotalBrandPrices(@Param("categoryCount") long categoryCount);
 
     /**
-     * Get the minimum price for a category by name
+     * Get the minimum price of a brand in a category
      *
-     * @param categoryName category name
-     * @return minimum price for the category
+     * @param brandId    brand ID
+     * @param categoryId category ID
+     * @return minimum price, or null when the brand has no product in the category
      */
-    @Query("SELECT MIN(p.price) FROM Product p JOIN p.category c WHERE c.name = :categoryName")
-    BigDecimal findMinPriceByCategoryName(@Param("categoryName") String categoryName);
+    @Query("SELECT MIN(p.price) FROM Product p WHERE p.brand.id = :brandId AND p.category.id = :categoryId")
+    BigDecimal findMinPriceByBrandIdAndCategoryId(@Param("brandId") Long brandId, @Param("categoryId") Long categoryId);
+
+    long countByBrandIdAndCategoryId(Long brandId, Long categoryId);
 
     /**
-     * Get the maximum price for a category by name
+     * Find the lowest and highest priced products of a category by name in a single statement
+     * The category ID is resolved once, and the minimum and maximum prices are computed with window functions
+     * over the same scan of the category's products; rows are ordered by price, then product ID
      *
      * @param categoryName category name
-     * @return maximum price for the category
+     * @param maxTies      maximum number of products returned for each of the two prices, lowest product IDs first
+     * @return brand name and price of the products at the lowest or highest price of the category
      */
-    @Query("SELECT MAX(p.price) FROM Product p JOIN p.category c WHERE c.name = :categoryName")
-    BigDecimal findMaxPriceByCategoryName(@Param("categoryName") String categoryName);
+    @Query("""
+            SELECT new io.github.hoo47.musinsa_assignment.domain.product.dto.CategoryExtremePrice(
+                ranked.brandName,
+                ranked.price,
+                CASE WHEN ranked.price = ranked.minPrice THEN true ELSE false END,
+                CASE WHEN ranked.price = ranked.maxPrice THEN true ELSE false END
+            )
+            FROM (
+                SELECT p.id AS productId,
+                       b.name AS brandName,
+                       p.price AS price,
+                       MIN(p.price) OVER () AS minPrice,
+                       MAX(p.price) OVER () AS maxPrice,
+                       ROW_NUMBER() OVER (PARTITION BY p.price ORDER BY p.id) AS tieRank
+                FROM Product p
+                JOIN p.brand b
+                WHERE p.category.id = (SELECT c.id FROM Category c WHERE c.name = :categoryName)
+            ) AS ranked
+            WHERE (ranked.price = ranked.minPrice OR ranked.price = ranked.maxPrice)
+              AND ranked.tieRank <= :maxTies
+            ORDER BY ranked.price, ranked.productId
+            """)
+    List<CategoryExtremePrice> findExtremePricesByCategoryName(@Param("categoryName") String categoryName,
+                                                               @Param("maxTies") int maxTies);
 
     /**
-     * Find products by category name and price
+     * Get the pricing attributes of every product
+     * Used to rebuild the in-memory price index without loading entities
      *
-     * @param categoryName category name
-     * @param price        product price
-     * @return list of products with the given price in the given category
+     * @return list of product price info records
      */
-    @Query("SELECT p FROM Product p " +
-            "JOIN FETCH p.brand " +
-            "JOIN FETCH p.category c " +
-            "WHERE c.name = :categoryName AND p.price = :price")
-    List<Product> findProductsByCategoryNameAndPrice(@Param("categoryName") String categoryName, @Param("price") BigDecimal price);
+    @Query("""
+            SELECT new io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo(
+                p.id,
+                c.id, c.name,
+                b.id, b.name,
+                p.price
+            )
+            FROM Product p
+            JOIN p.category c
+            JOIN p.brand b
+            """)
+    List<ProductPriceInfo> findAllPriceInfos();
 
     /**
      * Retrieves a product by its ID with a pessimistic read lock.
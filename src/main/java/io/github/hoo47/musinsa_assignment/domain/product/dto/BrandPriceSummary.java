@@ -0,0 +1,20 @@
+package io.github.hoo47.musinsa_assignment.domain.product.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for a brand's minimum price in every category and their total
+ *
+ * @param brandId        the brand ID
+ * @param brandName      the brand name
+ * @param totalPrice     the sum of the category minimum prices
+ * @param categoryPrices the minimum price for each category
+ */
+public record BrandPriceSummary(
+    Long brandId,
+    String brandName,
+    BigDecimal totalPrice,
+    List<BrandCategoryPriceInfo> categoryPrices
+) {
+}
@@ -0,0 +1,20 @@
+package io.github.hoo47.musinsa_assignment.domain.product.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a product at the lowest or highest price of a category
+ * A product is flagged as both when every product of the category has the same price
+ *
+ * @param brandName the brand name
+ * @param price the product price
+ * @param lowest whether the price is the lowest price of the category
+ * @param highest whether the price is the highest price of the category
+ */
+public record CategoryExtremePrice(
+    String brandName,
+    BigDecimal price,
+    boolean lowest,
+    boolean highest
+) {
+}
@@ -0,0 +1,36 @@
+package io.github.hoo47.musinsa_assignment.domain.product.dto;
+
+import io.github.hoo47.musinsa_assignment.domain.product.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * Flat, immutable view of a product's pricing attributes
+ *
+ * @param productId    the product ID
+ * @param categoryId   the category ID
+ * @param categoryName the category name
+ * @param brandId      the brand ID
+ * @param brandName    the brand name
+ * @param price        the product price
+ */
+public record ProductPriceInfo(
+    Long productId,
+    Long categoryId,
+    String categoryName,
+    Long brandId,
+    String brandName,
+    BigDecimal price
+) {
+
+    public static ProductPriceInfo from(Product product) {
+        return new ProductPriceInfo(
+                product.getId(),
+                product.getCategory().getId(),
+                product.getCategory().getName(),
+                product.getBrand().getId(),
+                product.getBrand().getName(),
+                product.getPrice()
+        );
+    }
+}
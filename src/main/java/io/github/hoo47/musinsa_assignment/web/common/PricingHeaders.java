@@ -0,0 +1,17 @@
+package io.github.hoo47.musinsa_assignment.web.common;
+
+/**
+ * Response headers shared by the pricing read endpoints.
+ */
+public final class PricingHeaders {
+
+    /**
+     * Version of the pricing snapshot the response body was rendered from.
+     * Absent when the body was not rendered from a snapshot, e.g. served from the response caches before
+     * the snapshot is loaded, since the version it was computed from is not known.
+     */
+    public static final String VERSION = "X-Pricing-Version";
+
+    private PricingHeaders() {
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.hoo47.musinsa_assignment.web.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Opt-in cache of the encoded JSON bodies of the pricing read endpoints, keyed by endpoint and pricing snapshot version.
+ * A hit returns the stored UTF-8 bytes (or their gzip form when the client accepts it) without touching
+ * the response caches or Jackson. A miss renders the body from the very snapshot whose version it is stored under,
+ * so the bytes can never be older than the version they are served for.
+ * Only applies once the pricing snapshot is loaded; otherwise callers take their usual path.
+ */
+@Component
+public class PricingResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private final PricingReadModel pricingReadModel;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean gzipEnabled;
+    private final int gzipMinimumSize;
+    private final Cache<String, EncodedResponse> entries;
+
+    public PricingResponseCache(PricingReadModel pricingReadModel, ObjectMapper objectMapper,
+                                @Value("${pricing.response-cache.enabled:false}") boolean enabled,
+                                @Value("${pricing.response-cache.gzip:true}") boolean gzipEnabled,
+                                @Value("${pricing.response-cache.gzip-minimum-size:512}") int gzipMinimumSize,
+                                @Value("${pricing.response-cache.maximum-size:256}") long maximumSize) {
+        this.pricingReadModel = pricingReadModel;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinimumSize = gzipMinimumSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Returns the encoded body of an endpoint for the current snapshot, rendering and storing it on a miss.
+     *
+     * @param endpoint       identifies the endpoint and its arguments, e.g. {@code price-summary:상의}
+     * @param acceptEncoding the request's Accept-Encoding header, may be null
+     * @param render         builds the response body from a snapshot
+     * @return the response, or null when the cache is disabled or the snapshot is not loaded yet
+     */
+    public ResponseEntity<byte[]> respond(String endpoint, String acceptEncoding, Function<PricingSnapshot, ?> render) {
+        if (!enabled) {
+            return null;
+        }
+        PricingSnapshot snapshot = pricingReadModel.current();
+        if (!snapshot.loaded()) {
+            return null;
+        }
+
+        EncodedResponse encoded = entries.getIfPresent(endpoint);
+        if (encoded == null || encoded.version() != snapshot.version()) {
+            encoded = encode(snapshot.version(), render.apply(snapshot));
+            // 동시에 더 새로운 버전이 저장되었다면 덮어쓰지 않는다
+            entries.asMap().merge(endpoint, encoded, (previous, next) -> previous.version() >= next.version() ? previous : next);
+        }
+        return toResponse(encoded, acceptsGzip(acceptEncoding));
+    }
+
+    private EncodedResponse encode(long version, Object body) {
+        if (body == null) {
+            return new EncodedResponse(version, null, null);
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = gzipEnabled && json.length >= gzipMinimumSize ? gzip(json) : null;
+            return new EncodedResponse(version, json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode pricing response", e);
+        }
+    }
+
+    private ResponseEntity<byte[]> toResponse(EncodedResponse encoded, boolean acceptsGzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(PricingHeaders.VERSION, String.valueOf(encoded.version()));
+        if (encoded.json() == null) {
+            return builder.build();
+        }
+
+        builder.contentType(MediaType.APPLICATION_JSON);
+        if (encoded.gzip() == null) {
+            return builder.body(encoded.json());
+        }
+        builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!acceptsGzip) {
+            return builder.body(encoded.json());
+        }
+        return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(encoded.gzip());
+    }
+
+    /**
+     * @return whether the header lists gzip without {@code q=0}
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase(GZIP)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].replace(" ", "");
+                if (parameter.equals("q=0") || parameter.matches("q=0\\.0*")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param version the snapshot version the body was rendered from
+     * @param json    the UTF-8 JSON body, or null when the endpoint has no body
+     * @param gzip    the gzip form of the body, or null when it is not worth compressing
+     */
+    private record EncodedResponse(long version, byte[] json, byte[] gzip) {
+    }
+}
@@ -0,0 +1,19 @@
+-- Minimum price and product count per brand and category, maintained by product writes
+CREATE TABLE brand_category_min_price
+(
+    brand_id      BIGINT         NOT NULL,
+    category_id   BIGINT         NOT NULL,
+    min_price     DECIMAL(19, 2) NOT NULL,
+    product_count BIGINT         NOT NULL,
+    CONSTRAINT pk_brand_category_min_price PRIMARY KEY (brand_id, category_id),
+    CONSTRAINT fk_brand_category_min_price_brand FOREIGN KEY (brand_id) REFERENCES brands (id),
+    CONSTRAINT fk_brand_category_min_price_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE INDEX idx_brand_category_min_price_category ON brand_category_min_price (category_id);
+
+-- Backfill from the existing products
+INSERT INTO brand_category_min_price (brand_id, category_id, min_price, product_count)
+SELECT brand_id, category_id, MIN(price), COUNT(*)
+FROM products
+GROUP BY brand_id, category_id;
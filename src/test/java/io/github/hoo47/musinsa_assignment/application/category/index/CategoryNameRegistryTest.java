@@ -0,0 +1,119 @@
+package io.github.hoo47.musinsa_assignment.application.category.index;
+
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryChangedEvent;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CategoryNameRegistryTest {
+
+    private CategoryRepository categoryRepository;
+    private CategoryNameRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        registry = new CategoryNameRegistry(categoryRepository, mock(ObjectProvider.class), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("적재된 이후에는 목록에 있는 이름도, 없는 이름도 DB 조회 없이 확인한다")
+    void loaded_ChecksNamesWithoutDatabase() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(category("상의"), category("바지")));
+        registry.load();
+
+        // when & then
+        assertThat(registry.isLoaded()).isTrue();
+        assertThat(registry.exists("상의")).isTrue();
+        assertThat(registry.exists("없는카테고리")).isFalse();
+        verify(categoryRepository, never()).existsByName(anyString());
+    }
+
+    @Test
+    @DisplayName("변경 메시지를 놓친 다른 노드의 카테고리는 주기적 재적재 이후 확인된다")
+    void reload_FindsCategoryCreatedOnOtherNode() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(category("상의")));
+        registry.load();
+        given(categoryRepository.findAll()).willReturn(List.of(category("상의"), category("가방")));
+
+        // when
+        boolean before = registry.exists("가방");
+        registry.reload();
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(registry.exists("가방")).isTrue();
+        verify(categoryRepository, never()).existsByName(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 카테고리 변경 메시지를 받으면 이름 목록을 다시 적재한다")
+    void remoteInvalidation_ReloadsNames() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(category("상의")));
+        registry.load();
+        given(categoryRepository.findAll()).willReturn(List.of(category("상의"), category("가방")));
+
+        // when
+        registry.onInvalidation(CategoryNameRegistry.NAMES_INVALIDATION, null);
+
+        // then
+        assertThat(registry.exists("가방")).isTrue();
+        verify(categoryRepository, never()).existsByName(anyString());
+    }
+
+    @Test
+    @DisplayName("적재 전에는 DB로 확인하고, 없는 이름은 기억해 반복 조회 시 DB를 다시 조회하지 않는다")
+    void notLoaded_CachesUnknownNames() {
+        // given
+        given(categoryRepository.existsByName("없는카테고리")).willReturn(false);
+        given(categoryRepository.existsByName("상의")).willReturn(true);
+
+        // when
+        boolean first = registry.exists("없는카테고리");
+        boolean second = registry.exists("없는카테고리");
+        registry.exists("상의");
+        registry.exists("상의");
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(categoryRepository, times(1)).existsByName("없는카테고리");
+        verify(categoryRepository, times(2)).existsByName("상의");
+    }
+
+    @Test
+    @DisplayName("카테고리가 변경되면 이름 목록을 다시 적재한다")
+    void categoryChanged_ReloadsNames() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(category("상의")));
+        registry.load();
+        given(categoryRepository.findAll()).willReturn(List.of(category("상의"), category("가방")));
+
+        // when
+        registry.onCategoryChanged(new CategoryChangedEvent(2L));
+
+        // then
+        assertThat(registry.exists("가방")).isTrue();
+    }
+
+    private Category category(String name) {
+        return Category.builder().name(name).build();
+    }
+}
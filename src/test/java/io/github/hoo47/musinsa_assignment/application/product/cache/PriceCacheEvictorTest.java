@@ -0,0 +1,43 @@
+package io.github.hoo47.musinsa_assignment.application.product.cache;
+
+import io.github.hoo47.musinsa_assignment.application.brand.event.BrandRenamedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceCacheEvictorTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private PriceCacheEvictor evictor;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("priceSummaryCache", "categoryPricingCache", "brandLowestPriceCache");
+        evictor = new PriceCacheEvictor(
+                new StaticListableBeanFactory(Map.of("cacheManager", cacheManager)).getBeanProvider(CacheManager.class));
+
+        cacheManager.getCache("priceSummaryCache").put("상의", "summary");
+        cacheManager.getCache("categoryPricingCache").put(SimpleKey.EMPTY, "pricing");
+        cacheManager.getCache("brandLowestPriceCache").put(SimpleKey.EMPTY, "lowest");
+    }
+
+    @Test
+    @DisplayName("브랜드 이름이 바뀌면 브랜드 이름을 담은 가격 응답 캐시를 모두 비운다")
+    void brandRenamed_ClearsPriceCaches() {
+        // when
+        evictor.onBrandRenamed(new BrandRenamedEvent(1L, "A2"));
+
+        // then
+        assertThat(cacheManager.getCache("priceSummaryCache").get("상의")).isNull();
+        assertThat(cacheManager.getCache("categoryPricingCache").get(SimpleKey.EMPTY)).isNull();
+        assertThat(cacheManager.getCache("brandLowestPriceCache").get(SimpleKey.EMPTY)).isNull();
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.hoo47.musinsa_assignment.application.product.cache;
+
+import io.github.hoo47.musinsa_assignment.application.brand.dto.response.CategoryPriceSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.event.ProductChangedEvent;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.usecase.BrandLowestPriceUsecase;
+import io.github.hoo47.musinsa_assignment.application.usecase.CategoryPriceSummaryUsecase;
+import io.github.hoo47.musinsa_assignment.application.usecase.CategoryProductPriceUsecase;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PriceCacheRefresherTest {
+
+    private final CategoryProductPriceUsecase categoryProductPriceUsecase = mock(CategoryProductPriceUsecase.class);
+    private final CategoryPriceSummaryUsecase categoryPriceSummaryUsecase = mock(CategoryPriceSummaryUsecase.class);
+    private final BrandLowestPriceUsecase brandLowestPriceUsecase = mock(BrandLowestPriceUsecase.class);
+    private final PricingReadModel pricingReadModel = new PricingReadModel();
+    private PriceCacheRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
+                "priceSummaryCache", "categoryPricingCache", "brandLowestPriceCache");
+        refresher = new PriceCacheRefresher(
+                new StaticListableBeanFactory(Map.of("cacheManager", cacheManager)).getBeanProvider(CacheManager.class),
+                pricingReadModel, categoryProductPriceUsecase, categoryPriceSummaryUsecase, brandLowestPriceUsecase);
+
+        cacheManager.getCache("priceSummaryCache").put("상의", summary("상의", "10000", "50000"));
+        cacheManager.getCache("priceSummaryCache").put("바지", summary("바지", "20000", "40000"));
+        cacheManager.getCache("categoryPricingCache").put(SimpleKey.EMPTY, new CategoryProductSummaryResponse(List.of(
+                new CategoryProductSummaryResponse.CategoryProductPriceInfo(1L, "상의", 1L, "A", new BigDecimal("10000")),
+                new CategoryProductSummaryResponse.CategoryProductPriceInfo(2L, "바지", 2L, "B", new BigDecimal("20000"))
+        ), new BigDecimal("30000")));
+        cacheManager.getCache("brandLowestPriceCache").put(SimpleKey.EMPTY,
+                BrandProductSummaryResponse.of("A", List.of(), new BigDecimal("35000")));
+    }
+
+    @Test
+    @DisplayName("최저가와 최고가 사이의 가격 변경은 응답을 다시 계산하지 않는다")
+    void priceChangeInsideRange_KeepsResponses() {
+        // when: B 브랜드 상의 20000 -> 30000
+        refresher.onProductChanged(ProductChangedEvent.updated(
+                product(3L, 1L, "상의", 2L, "B", "20000"),
+                product(3L, 1L, "상의", 2L, "B", "30000")));
+
+        // then
+        verifyNoInteractions(categoryProductPriceUsecase, categoryPriceSummaryUsecase, brandLowestPriceUsecase);
+    }
+
+    @Test
+    @DisplayName("새 최저가가 등록되면 영향받는 응답만 다시 계산하여 캐시에 기록한다")
+    void newLowestPrice_RefreshesAffectedResponses() {
+        // when: C 브랜드 상의 9000원 등록
+        refresher.onProductChanged(ProductChangedEvent.created(product(4L, 1L, "상의", 3L, "C", "9000")));
+
+        // then
+        verify(categoryPriceSummaryUsecase).refreshPriceSummary("상의");
+        verify(categoryPriceSummaryUsecase, never()).refreshPriceSummary("바지");
+        verify(categoryProductPriceUsecase).refreshCategoryPricing();
+        verify(brandLowestPriceUsecase).refreshBrandWithLowestTotalPrice();
+    }
+
+    @Test
+    @DisplayName("가격 스냅샷이 로드된 뒤에는 조회가 캐시를 읽지 않으므로 응답을 다시 계산하지 않는다")
+    void snapshotLoaded_SkipsRecomputation() {
+        // given
+        pricingReadModel.publish(List.of(), null);
+
+        // when
+        refresher.onProductChanged(ProductChangedEvent.created(product(4L, 1L, "상의", 3L, "C", "9000")));
+
+        // then
+        verifyNoInteractions(categoryProductPriceUsecase, categoryPriceSummaryUsecase, brandLowestPriceUsecase);
+    }
+
+    @Test
+    @DisplayName("최저가 브랜드가 아닌 브랜드의 상품 삭제는 최저가 브랜드 응답을 유지한다")
+    void deleteOfOtherBrand_KeepsLowestBrand() {
+        // when: B 브랜드 바지 최고가 상품 삭제
+        refresher.onProductChanged(ProductChangedEvent.deleted(product(5L, 2L, "바지", 2L, "B", "40000")));
+
+        // then
+        verify(categoryPriceSummaryUsecase).refreshPriceSummary("바지");
+        verify(categoryPriceSummaryUsecase, never()).refreshPriceSummary("상의");
+        verifyNoInteractions(categoryProductPriceUsecase, brandLowestPriceUsecase);
+    }
+
+    private CategoryPriceSummaryResponse summary(String category, String lowest, String highest) {
+        return new CategoryPriceSummaryResponse(category,
+                List.of(new CategoryPriceSummaryResponse.PriceInfo("A", new BigDecimal(lowest))),
+                List.of(new CategoryPriceSummaryResponse.PriceInfo("B", new BigDecimal(highest))));
+    }
+
+    private ProductPriceInfo product(Long id, Long categoryId, String categoryName, Long brandId, String brandName, String price) {
+        return new ProductPriceInfo(id, categoryId, categoryName, brandId, brandName, new BigDecimal(price));
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.hoo47.musinsa_assignment.application.product.cache;
+
+import io.github.hoo47.musinsa_assignment.application.category.service.CategoryQueryService;
+import io.github.hoo47.musinsa_assignment.application.product.index.CategoryPriceRange;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.usecase.BrandLowestPriceUsecase;
+import io.github.hoo47.musinsa_assignment.application.usecase.CategoryPriceSummaryUsecase;
+import io.github.hoo47.musinsa_assignment.application.usecase.CategoryProductPriceUsecase;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PriceCacheWarmerTest {
+
+    private final CategoryQueryService categoryQueryService = Mockito.mock(CategoryQueryService.class);
+    private final CategoryProductPriceUsecase categoryProductPriceUsecase = Mockito.mock(CategoryProductPriceUsecase.class);
+    private final CategoryPriceSummaryUsecase categoryPriceSummaryUsecase = Mockito.mock(CategoryPriceSummaryUsecase.class);
+    private final BrandLowestPriceUsecase brandLowestPriceUsecase = Mockito.mock(BrandLowestPriceUsecase.class);
+    private final PricingReadModel pricingReadModel = new PricingReadModel();
+
+    @Test
+    @DisplayName("모든 카테고리 요약과 최저가 브랜드, 카테고리별 최저가를 적재한다")
+    void runSteps_LoadsEveryResponse() {
+        // given
+        when(categoryQueryService.getAllCategories()).thenReturn(List.of(new Category("상의"), new Category("바지")));
+
+        // when
+        int failures = warmer(Duration.ofSeconds(5)).runSteps();
+
+        // then
+        assertThat(failures).isZero();
+        verify(categoryProductPriceUsecase).getCategoryPricing();
+        verify(brandLowestPriceUsecase).getBrandWithLowestTotalPrice();
+        verify(categoryPriceSummaryUsecase).getPriceSummaryByCategoryName("상의");
+        verify(categoryPriceSummaryUsecase).getPriceSummaryByCategoryName("바지");
+    }
+
+    @Test
+    @DisplayName("가격 스냅샷이 로드되어 있으면 조회가 캐시를 읽지 않으므로 워밍업하지 않는다")
+    void warmUp_SkippedWhenSnapshotLoaded() {
+        // given
+        pricingReadModel.publish(List.of(new CategoryPriceRange(1L, "상의", List.of(), List.of())), null);
+
+        // when
+        warmer(Duration.ofSeconds(5)).warmUp();
+
+        // then
+        verifyNoInteractions(categoryQueryService, categoryProductPriceUsecase,
+                categoryPriceSummaryUsecase, brandLowestPriceUsecase);
+    }
+
+    @Test
+    @DisplayName("실패한 단계가 있어도 나머지 단계를 계속한다")
+    void runSteps_ContinuesAfterFailure() {
+        // given
+        when(categoryQueryService.getAllCategories()).thenReturn(List.of(new Category("상의")));
+        when(brandLowestPriceUsecase.getBrandWithLowestTotalPrice()).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        int failures = warmer(Duration.ofSeconds(5)).runSteps();
+
+        // then
+        assertThat(failures).isEqualTo(1);
+        verify(categoryPriceSummaryUsecase).getPriceSummaryByCategoryName("상의");
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나면 워밍업 완료를 기다리지 않고 반환한다")
+    void warmUp_ReturnsAfterTimeBudget() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(categoryProductPriceUsecase.getCategoryPricing()).thenAnswer(invocation -> {
+            release.await();
+            return null;
+        });
+
+        // when & then
+        try {
+            assertThatCode(() -> warmer(Duration.ofMillis(50)).warmUp()).doesNotThrowAnyException();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private PriceCacheWarmer warmer(Duration timeBudget) {
+        return new PriceCacheWarmer(categoryQueryService, pricingReadModel, categoryProductPriceUsecase,
+                categoryPriceSummaryUsecase, brandLowestPriceUsecase, true, timeBudget);
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.hoo47.musinsa_assignment.application.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hoo47.musinsa_assignment.application.brand.dto.response.CategoryPriceSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.common.cache.BinaryCodec;
+import io.github.hoo47.musinsa_assignment.common.cache.BinaryReader;
+import io.github.hoo47.musinsa_assignment.common.cache.BinaryRedisSerializer;
+import io.github.hoo47.musinsa_assignment.common.cache.BinaryWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceResponseCodecsTest {
+
+    private static final CategoryProductSummaryResponse CATEGORY_PRICING = new CategoryProductSummaryResponse(
+            List.of(
+                    new CategoryProductSummaryResponse.CategoryProductPriceInfo(1L, "상의", 3L, "C", new BigDecimal("10000.00")),
+                    new CategoryProductSummaryResponse.CategoryProductPriceInfo(2L, "아우터", 5L, "E", new BigDecimal("5000")),
+                    new CategoryProductSummaryResponse.CategoryProductPriceInfo(3L, "바지", null, null, null)
+            ),
+            new BigDecimal("15000.00")
+    );
+
+    @Test
+    @DisplayName("응답 레코드는 바이너리로 저장했다가 그대로 복원된다")
+    void roundTrip() {
+        // given
+        CategoryPriceSummaryResponse priceSummary = new CategoryPriceSummaryResponse("상의",
+                List.of(new CategoryPriceSummaryResponse.PriceInfo("C", new BigDecimal("10000"))),
+                List.of(new CategoryPriceSummaryResponse.PriceInfo("I", new BigDecimal("11400")),
+                        new CategoryPriceSummaryResponse.PriceInfo("J", new BigDecimal("11400"))));
+        BrandProductSummaryResponse brandLowestPrice = BrandProductSummaryResponse.of("D",
+                List.of(new BrandProductSummaryResponse.CategoryPrice("상의", new BigDecimal("10100"))),
+                new BigDecimal("36100"));
+
+        // when & then
+        assertThat(roundTrip(PriceResponseCodecs.CATEGORY_PRICING, CATEGORY_PRICING)).isEqualTo(CATEGORY_PRICING);
+        assertThat(roundTrip(PriceResponseCodecs.PRICE_SUMMARY, priceSummary)).isEqualTo(priceSummary);
+        assertThat(roundTrip(PriceResponseCodecs.BRAND_LOWEST_PRICE, brandLowestPrice)).isEqualTo(brandLowestPrice);
+        assertThat(roundTrip(PriceResponseCodecs.BRAND_LOWEST_PRICE, new BrandProductSummaryResponse(null)))
+                .isEqualTo(new BrandProductSummaryResponse(null));
+    }
+
+    @Test
+    @DisplayName("BigDecimal은 스케일과 long 범위를 넘는 값까지 보존된다")
+    void bigDecimal_KeepsScaleAndLargeValues() {
+        // given
+        BinaryWriter writer = new BinaryWriter(16);
+        List<BigDecimal> values = List.of(new BigDecimal("-0.50"), new BigDecimal("1E+3"), new BigDecimal("123456789012345678901234567890.12"));
+        values.forEach(writer::writeBigDecimal);
+
+        // when
+        BinaryReader reader = new BinaryReader(writer.toByteArray(), 0);
+
+        // then
+        assertThat(List.of(reader.readBigDecimal(), reader.readBigDecimal(), reader.readBigDecimal())).isEqualTo(values);
+        assertThat(reader.isExhausted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("스키마 버전이 다르거나 JSON으로 저장된 값은 캐시 미스로 처리된다")
+    void deserialize_OtherSchemaIsMiss() {
+        // given
+        BinaryRedisSerializer<CategoryProductSummaryResponse> serializer = new BinaryRedisSerializer<>(PriceResponseCodecs.CATEGORY_PRICING);
+        byte[] otherVersion = serializer.serialize(CATEGORY_PRICING);
+        otherVersion[0] = 2;
+        byte[] json = new Jackson2JsonRedisSerializer<>(new ObjectMapper(), CategoryProductSummaryResponse.class).serialize(CATEGORY_PRICING);
+
+        // when & then
+        assertThat(serializer.deserialize(otherVersion)).isNull();
+        assertThat(serializer.deserialize(json)).isNull();
+    }
+
+    @Test
+    @DisplayName("잘린 값은 직렬화 예외로 처리된다")
+    void deserialize_TruncatedValueFails() {
+        // given
+        BinaryRedisSerializer<CategoryProductSummaryResponse> serializer = new BinaryRedisSerializer<>(PriceResponseCodecs.CATEGORY_PRICING);
+        byte[] bytes = serializer.serialize(CATEGORY_PRICING);
+
+        // when & then
+        assertThatThrownBy(() -> serializer.deserialize(Arrays.copyOf(bytes, bytes.length - 3)))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("바이너리 인코딩은 JSON보다 작다")
+    void binary_IsSmallerThanJson() {
+        // given
+        byte[] json = new Jackson2JsonRedisSerializer<>(new ObjectMapper(), CategoryProductSummaryResponse.class).serialize(CATEGORY_PRICING);
+
+        // when
+        byte[] binary = new BinaryRedisSerializer<>(PriceResponseCodecs.CATEGORY_PRICING).serialize(CATEGORY_PRICING);
+
+        // then
+        assertThat(binary.length)
+                .as("binary %d bytes, JSON %d bytes", binary.length, json.length)
+                .isLessThan(json.length / 2);
+    }
+
+    private static <T> T roundTrip(BinaryCodec<T> codec, T value) {
+        BinaryRedisSerializer<T> serializer = new BinaryRedisSerializer<>(codec);
+        return serializer.deserialize(serializer.serialize(value));
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandPriceSummary;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BrandCategoryPriceMatrixTest {
+
+    private static final Category TOP = new Category(1L, "상의");
+    private static final Category PANTS = new Category(2L, "바지");
+
+    private BrandCategoryPriceMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        matrix = new BrandCategoryPriceMatrix();
+        matrix.load(List.of(TOP, PANTS), List.of(
+                product(1L, TOP, 1L, "A", "10000"),
+                product(2L, PANTS, 1L, "A", "20000"),
+                product(3L, TOP, 2L, "B", "12000"),
+                product(4L, PANTS, 2L, "B", "15000"),
+                product(5L, TOP, 3L, "C", "1000")  // C는 바지 카테고리 상품이 없음
+        ));
+    }
+
+    @Test
+    @DisplayName("모든 카테고리를 커버하는 브랜드 중 총액이 가장 낮은 브랜드를 조회한다")
+    void findLowestTotalBrand() {
+        // when
+        BrandPriceSummary summary = matrix.findLowestTotalBrand().orElseThrow();
+
+        // then
+        assertThat(summary.brandName()).isEqualTo("B");
+        assertThat(summary.totalPrice()).isEqualByComparingTo("27000");
+        assertThat(summary.categoryPrices()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("최저가 상품이 삭제되면 해당 셀의 최저가가 다음 가격으로 재계산된다")
+    void apply_RemovingMinimumRecomputesCell() {
+        // given: A의 상의에 더 싼 상품을 추가한 뒤 다시 삭제
+        ProductPriceInfo cheaper = product(6L, TOP, 1L, "A", "1000");
+        matrix.apply(null, cheaper);
+        assertThat(matrix.findLowestTotalBrand().orElseThrow().brandName()).isEqualTo("A");
+
+        // when
+        matrix.apply(cheaper, null);
+
+        // then
+        BrandPriceSummary summary = matrix.findLowestTotalBrand().orElseThrow();
+        assertThat(summary.brandName()).isEqualTo("B");
+    }
+
+    @Test
+    @DisplayName("누락된 카테고리에 상품이 추가되면 브랜드가 순위에 포함된다")
+    void apply_CompletingCoverageRanksBrand() {
+        // when
+        matrix.apply(null, product(7L, PANTS, 3L, "C", "1000"));
+
+        // then
+        BrandPriceSummary summary = matrix.findLowestTotalBrand().orElseThrow();
+        assertThat(summary.brandName()).isEqualTo("C");
+        assertThat(summary.totalPrice()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    @DisplayName("카테고리를 모두 커버하는 브랜드가 없으면 빈 결과를 반환한다")
+    void findLowestTotalBrand_Empty() {
+        // when
+        matrix.apply(product(2L, PANTS, 1L, "A", "20000"), null);
+        matrix.apply(product(4L, PANTS, 2L, "B", "15000"), null);
+
+        // then
+        assertThat(matrix.findLowestTotalBrand()).isEmpty();
+    }
+
+    private ProductPriceInfo product(Long id, Category category, Long brandId, String brandName, String price) {
+        return new ProductPriceInfo(id, category.getId(), category.getName(), brandId, brandName, new BigDecimal(price));
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryPriceIndexTest {
+
+    private CategoryPriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CategoryPriceIndex();
+        index.load(List.of(new Category(1L, "상의"), new Category(2L, "바지"), new Category(3L, "신발")), List.of(
+                product(1L, 1L, "상의", 1L, "A", "10000"),
+                product(2L, 1L, "상의", 2L, "B", "5000"),
+                product(3L, 2L, "바지", 1L, "A", "15000")
+        ));
+    }
+
+    @Test
+    @DisplayName("카테고리별 최저가 상품을 조회한다")
+    void findCheapest() {
+        // when & then
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.findCheapest(1L)).get()
+                .extracting(ProductPriceInfo::productId, ProductPriceInfo::brandName)
+                .containsExactly(2L, "B");
+        assertThat(index.findCheapest(2L)).get()
+                .extracting(ProductPriceInfo::productId)
+                .isEqualTo(3L);
+        assertThat(index.findCheapest(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가격이 같으면 상품 ID가 작은 상품이 선택된다")
+    void findCheapest_TieBreakByProductId() {
+        // given
+        index.upsert(product(4L, 1L, "상의", 3L, "C", "5000"));
+
+        // when & then
+        assertThat(index.findCheapest(1L)).get()
+                .extracting(ProductPriceInfo::productId)
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("가격과 카테고리 변경이 인덱스에 반영된다")
+    void upsert_MovesProduct() {
+        // given: 최저가 상품을 다른 카테고리로 옮기면서 가격을 올린다
+        index.upsert(product(2L, 2L, "바지", 2L, "B", "20000"));
+
+        // when & then
+        assertThat(index.findCheapest(1L)).get()
+                .extracting(ProductPriceInfo::productId)
+                .isEqualTo(1L);
+        assertThat(index.findCheapest(2L)).get()
+                .extracting(ProductPriceInfo::productId)
+                .isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("상품 삭제와 브랜드명 변경이 인덱스에 반영된다")
+    void removeAndRenameBrand() {
+        // given
+        index.remove(2L);
+        index.renameBrand(1L, "A2");
+
+        // when & then
+        assertThat(index.findCheapest(1L)).get()
+                .extracting(ProductPriceInfo::productId, ProductPriceInfo::brandName)
+                .containsExactly(1L, "A2");
+    }
+
+    @Test
+    @DisplayName("카테고리별 최저가, 최고가 상품을 동률까지 모두 조회한다")
+    void findPriceRanges() {
+        // given
+        index.upsert(product(4L, 1L, "상의", 3L, "C", "5000"));
+        index.upsert(product(5L, 1L, "상의", 1L, "A", "10000"));
+
+        // when
+        List<CategoryPriceRange> ranges = index.findPriceRanges();
+
+        // then: 상품이 없는 카테고리도 빈 목록으로 포함된다
+        assertThat(ranges).extracting(CategoryPriceRange::categoryName).containsExactly("상의", "바지", "신발");
+        assertThat(ranges.get(0).lowest()).extracting(ProductPriceInfo::productId).containsExactly(2L, 4L);
+        assertThat(ranges.get(0).highest()).extracting(ProductPriceInfo::productId).containsExactly(1L, 5L);
+        assertThat(ranges.get(1).lowest()).extracting(ProductPriceInfo::productId).containsExactly(3L);
+        assertThat(ranges.get(2).lowest()).isEmpty();
+        assertThat(ranges.get(2).highest()).isEmpty();
+    }
+
+    private ProductPriceInfo product(Long id, Long categoryId, String categoryName, Long brandId, String brandName, String price) {
+        return new ProductPriceInfo(id, categoryId, categoryName, brandId, brandName, new BigDecimal(price));
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hoo47.musinsa_assignment.application.brand.event.BrandRenamedEvent;
+import io.github.hoo47.musinsa_assignment.application.product.event.ProductChangedEvent;
+import io.github.hoo47.musinsa_assignment.common.cache.CacheInvalidationPublisher;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PriceIndexUpdaterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final CacheInvalidationPublisher publisher = mock(CacheInvalidationPublisher.class);
+    private final PricingReadModel pricingReadModel = new PricingReadModel();
+    private final ProductPriceInfo topA = new ProductPriceInfo(1L, 1L, "상의", 1L, "A", new BigDecimal("10000"));
+
+    private PriceIndexUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        Category top = Category.builder().name("상의").build();
+        ReflectionTestUtils.setField(top, "id", 1L);
+        given(categoryRepository.findAll()).willReturn(List.of(top));
+        given(productRepository.findAllPriceInfos()).willReturn(List.of(topA));
+
+        updater = new PriceIndexUpdater(productRepository, categoryRepository,
+                new CategoryPriceIndex(), new BrandCategoryPriceMatrix(), pricingReadModel,
+                new StaticListableBeanFactory(Map.of("publisher", publisher)).getBeanProvider(CacheInvalidationPublisher.class),
+                objectMapper);
+        ReflectionTestUtils.setField(updater, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("로드 전의 변경은 적용하지도, 다른 노드에 전파하지도 않는다")
+    void onProductChanged_BeforeLoad_IsNotPublished() {
+        // when
+        updater.onProductChanged(ProductChangedEvent.created(topA));
+
+        // then
+        assertThat(pricingReadModel.isLoaded()).isFalse();
+        verify(publisher, never()).publish(any(), any());
+    }
+
+    @Test
+    @DisplayName("커밋된 변경은 적용한 뒤 변경 내용을 담아 다른 노드에 전파한다")
+    void onProductChanged_PublishesChange() throws Exception {
+        // given
+        updater.rebuild();
+        ProductPriceInfo cheaper = new ProductPriceInfo(2L, 1L, "상의", 2L, "B", new BigDecimal("5000"));
+
+        // when
+        updater.onProductChanged(ProductChangedEvent.created(cheaper));
+
+        // then
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(publisher).publish(eq(PriceIndexUpdater.PRODUCT_CHANGE), message.capture());
+        assertThat(objectMapper.readValue(message.getValue(), ProductChangedEvent.class))
+                .isEqualTo(ProductChangedEvent.created(cheaper));
+        assertThat(cheapestTop().productId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 메시지는 DB를 다시 읽지 않고 인덱스에 적용한다")
+    void onInvalidation_AppliesRemoteChangeIncrementally() throws Exception {
+        // given
+        updater.rebuild();
+        ProductPriceInfo discounted = new ProductPriceInfo(1L, 1L, "상의", 1L, "A", new BigDecimal("3000"));
+
+        // when
+        updater.onInvalidation(PriceIndexUpdater.PRODUCT_CHANGE,
+                objectMapper.writeValueAsString(ProductChangedEvent.updated(topA, discounted)));
+        updater.onInvalidation(PriceIndexUpdater.BRAND_RENAME,
+                objectMapper.writeValueAsString(new BrandRenamedEvent(1L, "A2")));
+
+        // then
+        ProductPriceInfo cheapest = cheapestTop();
+        assertThat(cheapest.price()).isEqualByComparingTo("3000");
+        assertThat(cheapest.brandName()).isEqualTo("A2");
+        assertThat(pricingReadModel.version()).isEqualTo(3L);
+        verify(productRepository, times(1)).findAllPriceInfos();
+        verify(publisher, never()).publish(any(), any());
+    }
+
+    private ProductPriceInfo cheapestTop() {
+        return pricingReadModel.current().findCategory(1L).orElseThrow().cheapest().orElseThrow();
+    }
+}
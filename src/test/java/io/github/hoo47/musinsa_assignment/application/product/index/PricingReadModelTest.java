@@ -0,0 +1,61 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PricingReadModelTest {
+
+    private final PricingReadModel readModel = new PricingReadModel();
+
+    @Test
+    @DisplayName("로드 전에는 버전 0의 빈 스냅샷을 제공한다")
+    void emptyBeforeFirstPublish() {
+        // when & then
+        assertThat(readModel.isLoaded()).isFalse();
+        assertThat(readModel.version()).isZero();
+        assertThat(readModel.current().categories()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 스냅샷을 게시할 때마다 버전이 1씩 증가하고 이전 스냅샷은 변하지 않는다")
+    void publish_IncrementsVersionAndKeepsPreviousSnapshot() {
+        // given
+        PricingSnapshot first = readModel.publish(List.of(range(1L, "상의", "10000")), null);
+
+        // when
+        PricingSnapshot second = readModel.publish(List.of(range(1L, "상의", "5000")), null);
+
+        // then
+        assertThat(first.version()).isEqualTo(1L);
+        assertThat(second.version()).isEqualTo(2L);
+        assertThat(readModel.current()).isSameAs(second);
+        assertThat(first.findCategory(1L).orElseThrow().cheapest().orElseThrow().price()).isEqualByComparingTo("10000");
+        assertThat(second.findCategoryByName("상의").orElseThrow().cheapest().orElseThrow().price()).isEqualByComparingTo("5000");
+        assertThat(second.findLowestTotalBrand()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시할 때 카테고리별 최저가의 합계를 최소 단위로 미리 계산한다")
+    void publish_PrecomputesCheapestTotal() {
+        // when
+        PricingSnapshot snapshot = readModel.publish(List.of(
+                range(1L, "상의", "10000.50"),
+                range(2L, "하의", "2000"),
+                new CategoryPriceRange(3L, "모자", List.of(), List.of())), null);
+
+        // then
+        assertThat(snapshot.cheapestTotal()).isEqualTo(1_200_050L);
+        assertThat(PricingSnapshot.EMPTY.cheapestTotal()).isZero();
+    }
+
+    private CategoryPriceRange range(Long categoryId, String categoryName, String price) {
+        ProductPriceInfo product = new ProductPriceInfo(1L, categoryId, categoryName, 1L, "A", new BigDecimal(price));
+        return new CategoryPriceRange(categoryId, categoryName, List.of(product), List.of(product));
+    }
+}
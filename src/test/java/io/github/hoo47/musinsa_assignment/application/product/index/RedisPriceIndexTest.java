@@ -0,0 +1,237 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.common.cache.CircuitBreaker;
+import io.github.hoo47.musinsa_assignment.common.cache.CircuitBreakerSpec;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Runs the index scripts against a real Redis; skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisPriceIndexTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private final Category top = category(1L, "상의");
+    private final Category bottom = category(2L, "하의");
+    private final ProductPriceInfo topA = product(1L, top, 1L, "A", "10000");
+    private final ProductPriceInfo topB = product(2L, top, 2L, "B", "10000");
+    private final ProductPriceInfo topBExpensive = product(3L, top, 2L, "B", "30000");
+    private final ProductPriceInfo bottomA = product(4L, bottom, 1L, "A", "20000");
+
+    private StringRedisTemplate redisTemplate;
+    private RedisPriceIndex index;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        index = new RedisPriceIndex(redisTemplate, new CircuitBreaker("Redis",
+                new CircuitBreakerSpec(20, 10, 0.5, Duration.ofSeconds(1), 0.5, Duration.ofSeconds(10), 3),
+                DataAccessException.class::isInstance));
+    }
+
+    @Test
+    @DisplayName("구성 전에는 조회할 수 없고, 구성 후에는 카테고리별 최저가와 최저·최고가 동률, 브랜드별 최저가를 조회한다")
+    void load_ServesLookups() {
+        // given
+        assertThat(index.findCheapestPerCategory()).isEmpty();
+
+        // when
+        boolean loaded = index.load(List.of(top, bottom), List.of(topA, topB, topBExpensive, bottomA), index.changeCount());
+
+        // then
+        assertThat(loaded).isTrue();
+        assertThat(index.isBuilt()).isTrue();
+        assertThat(index.findCheapestPerCategory().orElseThrow())
+                .extracting(ProductPriceInfo::productId, ProductPriceInfo::categoryName, ProductPriceInfo::brandName)
+                .containsExactly(tuple(1L, "상의", "A"), tuple(4L, "하의", "A"));
+
+        CategoryPriceRange range = index.findPriceRange("상의").orElseThrow();
+        assertThat(range.lowest()).extracting(ProductPriceInfo::productId).containsExactly(1L, 2L);
+        assertThat(range.highest()).extracting(ProductPriceInfo::productId).containsExactly(3L);
+        assertThat(range.highest().get(0).price()).isEqualByComparingTo("30000");
+        assertThat(index.findPriceRange("모자").orElseThrow().categoryId()).isNull();
+
+        SharedPriceIndex.BrandCategoryMinimums minimums = index.findBrandCategoryMinimums().orElseThrow();
+        assertThat(minimums.categoryCount()).isEqualTo(2);
+        assertThat(minimums.prices())
+                .extracting(BrandCategoryPriceInfo::brandName, BrandCategoryPriceInfo::categoryName)
+                .containsExactlyInAnyOrder(tuple("A", "상의"), tuple("A", "하의"), tuple("B", "상의"));
+        assertThat(redisTemplate.keys("pricing:build:*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 추가, 카테고리 이동, 삭제와 브랜드명 변경을 원자적으로 반영한다")
+    void apply_AddMoveDeleteAndRename() {
+        // given
+        index.load(List.of(top, bottom), List.of(topA, topB, topBExpensive, bottomA), index.changeCount());
+        ProductPriceInfo created = product(5L, bottom, 2L, "B", "15000");
+        ProductPriceInfo moved = product(5L, top, 2L, "B", "5000");
+
+        // when: 하의에 더 싼 상품 추가
+        index.apply(null, created);
+
+        // then
+        assertThat(cheapestIds()).containsExactly(1L, 5L);
+        assertThat(minimum(2L, 2L)).isEqualByComparingTo("15000");
+
+        // when: 상의로 옮기며 가격 인하
+        index.apply(created, moved);
+
+        // then
+        assertThat(cheapestIds()).containsExactly(5L, 4L);
+        assertThat(minimum(2L, 1L)).isEqualByComparingTo("5000");
+        assertThat(index.findBrandCategoryMinimums().orElseThrow().prices())
+                .noneMatch(price -> price.brandId() == 2L && price.categoryId() == 2L);
+
+        // when: 삭제
+        index.apply(moved, null);
+
+        // then
+        assertThat(cheapestIds()).containsExactly(1L, 4L);
+        assertThat(minimum(2L, 1L)).isEqualByComparingTo("10000");
+
+        // when: 브랜드명 변경
+        index.renameBrand(1L, "A2");
+
+        // then
+        assertThat(index.findCheapestPerCategory().orElseThrow())
+                .extracting(ProductPriceInfo::brandName)
+                .containsExactly("A2", "A2");
+        assertThat(index.changeCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("변경 횟수를 읽은 뒤 다른 변경이 반영되면 구성을 버려 그 변경을 덮어쓰지 않는다")
+    void load_DiscardedWhenChangedInBetween() {
+        // given
+        index.load(List.of(top, bottom), List.of(topA, bottomA), index.changeCount());
+        index.invalidate();
+        long changes = index.changeCount();
+        ProductPriceInfo created = product(5L, top, 2L, "B", "5000");
+
+        // when: 다른 노드가 상품을 읽은 뒤 반영된 변경
+        index.apply(null, created);
+        boolean loaded = index.load(List.of(top, bottom), List.of(topA, bottomA), changes);
+
+        // then
+        assertThat(loaded).isFalse();
+        assertThat(index.isBuilt()).isFalse();
+        assertThat(redisTemplate.keys("pricing:build:*")).isEmpty();
+        assertThat(redisTemplate.opsForZSet().range("pricing:category:1", 0, 0)).containsExactly(RedisPriceIndex.member(created));
+
+        // when: 변경 이후에 읽은 상품으로 다시 구성
+        assertThat(index.tryStartBuild(Duration.ofMinutes(1))).isTrue();
+        assertThat(index.load(List.of(top, bottom), List.of(topA, bottomA, created), index.changeCount())).isTrue();
+
+        // then
+        assertThat(cheapestIds()).containsExactly(5L, 4L);
+    }
+
+    @Test
+    @DisplayName("상품이 없는 카테고리도 생성 시 등록되어 전체 카테고리 수에 포함되고, 삭제하면 제외된다")
+    void putCategory_CountsEmptyCategories() {
+        // given
+        index.load(List.of(top, bottom), List.of(topA, bottomA), index.changeCount());
+
+        // when
+        index.putCategory(3L, "모자");
+
+        // then
+        assertThat(index.findBrandCategoryMinimums().orElseThrow().categoryCount()).isEqualTo(3);
+        CategoryPriceRange empty = index.findPriceRange("모자").orElseThrow();
+        assertThat(empty.categoryId()).isEqualTo(3L);
+        assertThat(empty.lowest()).isEmpty();
+
+        // when: 이름 변경 후 삭제
+        index.putCategory(3L, "캡");
+        assertThat(index.findPriceRange("모자").orElseThrow().categoryId()).isNull();
+        index.removeCategory(3L);
+
+        // then
+        assertThat(index.findBrandCategoryMinimums().orElseThrow().categoryCount()).isEqualTo(2);
+        assertThat(index.findPriceRange("캡").orElseThrow().categoryId()).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화하면 마커가 지워져 조회가 DB로 넘어가고, 진행 중인 구성은 버려진다")
+    void invalidate_RemovesMarkerAndDiscardsBuilds() {
+        // given
+        index.load(List.of(top), List.of(topA), index.changeCount());
+        long changes = index.changeCount();
+
+        // when
+        assertThat(index.invalidate()).isTrue();
+
+        // then
+        assertThat(index.isBuilt()).isFalse();
+        assertThat(index.findCheapestPerCategory()).isEmpty();
+        assertThat(index.load(List.of(top), List.of(topA), changes)).isFalse();
+    }
+
+    private List<Long> cheapestIds() {
+        return index.findCheapestPerCategory().orElseThrow().stream()
+                .map(ProductPriceInfo::productId)
+                .toList();
+    }
+
+    private BigDecimal minimum(Long brandId, Long categoryId) {
+        return index.findBrandCategoryMinimums().orElseThrow().prices().stream()
+                .filter(price -> price.brandId().equals(brandId) && price.categoryId().equals(categoryId))
+                .map(BrandCategoryPriceInfo::price)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    static Category category(Long id, String name) {
+        Category category = Category.builder().name(name).build();
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+
+    static ProductPriceInfo product(Long productId, Category category, Long brandId, String brandName, String price) {
+        return new ProductPriceInfo(productId, category.getId(), category.getName(), brandId, brandName, new BigDecimal(price));
+    }
+}
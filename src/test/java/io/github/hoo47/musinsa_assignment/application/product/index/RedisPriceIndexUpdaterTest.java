@@ -0,0 +1,171 @@
+package io.github.hoo47.musinsa_assignment.application.product.index;
+
+import io.github.hoo47.musinsa_assignment.application.brand.event.BrandRenamedEvent;
+import io.github.hoo47.musinsa_assignment.application.product.event.ProductChangedEvent;
+import io.github.hoo47.musinsa_assignment.common.cache.CircuitBreaker;
+import io.github.hoo47.musinsa_assignment.common.cache.CircuitBreakerSpec;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryChangedEvent;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static io.github.hoo47.musinsa_assignment.application.product.index.RedisPriceIndexTest.category;
+import static io.github.hoo47.musinsa_assignment.application.product.index.RedisPriceIndexTest.product;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisPriceIndexUpdaterTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final Category top = category(1L, "상의");
+    private final Category bottom = category(2L, "하의");
+    private final ProductPriceInfo topA = product(1L, top, 1L, "A", "10000");
+    private final ProductPriceInfo bottomA = product(2L, bottom, 1L, "A", "20000");
+
+    private RedisPriceIndex index;
+    private RedisPriceIndexUpdater updater;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        index = new RedisPriceIndex(new StringRedisTemplate(connectionFactory), new CircuitBreaker("Redis",
+                new CircuitBreakerSpec(20, 10, 0.5, Duration.ofSeconds(1), 0.5, Duration.ofSeconds(10), 3),
+                DataAccessException.class::isInstance));
+        updater = new RedisPriceIndexUpdater(productRepository, categoryRepository, index);
+        given(categoryRepository.findAll()).willReturn(List.of(top, bottom));
+        given(productRepository.findAllPriceInfos()).willReturn(List.of(topA, bottomA));
+    }
+
+    @Test
+    @DisplayName("인덱스가 없을 때만 DB에서 한 번 구성한다")
+    void buildIfAbsent_BuildsOnce() {
+        // when
+        updater.buildIfAbsent();
+        updater.buildIfAbsent();
+
+        // then
+        assertThat(index.isBuilt()).isTrue();
+        assertThat(index.findCheapestPerCategory().orElseThrow())
+                .extracting(ProductPriceInfo::productId)
+                .containsExactly(1L, 2L);
+        verify(productRepository, times(1)).findAllPriceInfos();
+    }
+
+    @Test
+    @DisplayName("커밋된 상품 추가, 이동, 삭제와 브랜드명, 카테고리 변경을 인덱스에 반영한다")
+    void committedChanges_AreApplied() {
+        // given
+        updater.buildIfAbsent();
+        ProductPriceInfo created = product(3L, top, 2L, "B", "5000");
+        ProductPriceInfo moved = product(3L, bottom, 2L, "B", "5000");
+        Category hat = category(3L, "모자");
+
+        // when & then
+        updater.onProductChanged(ProductChangedEvent.created(created));
+        assertThat(cheapestIds()).containsExactly(3L, 2L);
+
+        updater.onProductChanged(ProductChangedEvent.updated(created, moved));
+        assertThat(cheapestIds()).containsExactly(1L, 3L);
+
+        updater.onProductChanged(ProductChangedEvent.deleted(moved));
+        assertThat(cheapestIds()).containsExactly(1L, 2L);
+
+        updater.onBrandRenamed(new BrandRenamedEvent(1L, "A2"));
+        assertThat(index.findCheapestPerCategory().orElseThrow())
+                .extracting(ProductPriceInfo::brandName)
+                .containsOnly("A2");
+
+        given(categoryRepository.findById(3L)).willReturn(Optional.of(hat));
+        updater.onCategoryChanged(new CategoryChangedEvent(3L));
+        assertThat(index.findBrandCategoryMinimums().orElseThrow().categoryCount()).isEqualTo(3);
+
+        given(categoryRepository.findById(3L)).willReturn(Optional.empty());
+        updater.onCategoryChanged(new CategoryChangedEvent(3L));
+        assertThat(index.findBrandCategoryMinimums().orElseThrow().categoryCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화하지 못한 갱신이 남긴 복구 요청은 다음 복구 주기에 인덱스를 무효화하고 DB에서 다시 구성한다")
+    void repair_InvalidatesAndRebuilds() {
+        // given: 반영되지 못한 변경이 DB에만 있다
+        updater.buildIfAbsent();
+        ProductPriceInfo missed = product(3L, top, 2L, "B", "5000");
+        given(productRepository.findAllPriceInfos()).willReturn(List.of(topA, bottomA, missed));
+        index.requestRepair();
+
+        // when
+        updater.repair();
+
+        // then
+        assertThat(index.isBuilt()).isTrue();
+        assertThat(cheapestIds()).containsExactly(3L, 2L);
+        assertThat(index.takeRepairRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 상품의 변경이 역순으로 반영되어 남은 이전 가격은 주기적 재구성이 DB 기준으로 바로잡는다")
+    void reconcile_CorrectsOutOfOrderApply() {
+        // given: 10000 -> 3000 -> 8000 순서로 커밋됐지만 마지막 두 변경이 역순으로 반영되었다
+        updater.buildIfAbsent();
+        ProductPriceInfo discounted = product(1L, top, 1L, "A", "3000");
+        ProductPriceInfo raised = product(1L, top, 1L, "A", "8000");
+        updater.onProductChanged(ProductChangedEvent.updated(discounted, raised));
+        updater.onProductChanged(ProductChangedEvent.updated(topA, discounted));
+        given(productRepository.findAllPriceInfos()).willReturn(List.of(raised, bottomA));
+
+        // when
+        updater.reconcile();
+
+        // then
+        assertThat(index.findCheapestPerCategory().orElseThrow().get(0).price()).isEqualByComparingTo("8000");
+    }
+
+    private List<Long> cheapestIds() {
+        return index.findCheapestPerCategory().orElseThrow().stream()
+                .map(ProductPriceInfo::productId)
+                .toList();
+    }
+}
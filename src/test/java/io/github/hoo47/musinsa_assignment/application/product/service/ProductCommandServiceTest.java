@@ -4,10 +4,13 @@ import io.github.hoo47.musinsa_assignment.application.product.dto.request.Produc
 import io.github.hoo47.musinsa_assignment.application.product.dto.request.ProductUpdateRequest;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessErrorCode;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessException;
+import io.github.hoo47.musinsa_assignment.common.price.MinorUnits;
 import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
 import io.github.hoo47.musinsa_assignment.domain.brand.BrandRepository;
 import io.github.hoo47.musinsa_assignment.domain.category.Category;
 import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.BrandCategoryMinPrice;
+import io.github.hoo47.musinsa_assignment.domain.product.BrandCategoryMinPriceRepository;
 import io.github.hoo47.musinsa_assignment.domain.product.Product;
 import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -20,6 +23,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -40,6 +44,12 @@ class ProductCommandServiceTest {
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private BrandCategoryMinPriceRepository brandCategoryMinPriceRepository;
+
+    @Autowired
+    private BrandCategoryMinPriceService brandCategoryMinPriceService;
+
     private Product testProduct;
     private Category category;
     private Category anotherCategory;
@@ -75,6 +85,7 @@ class ProductCommandServiceTest {
                 .brand(brand)
                 .price(BigDecimal.valueOf(10000))
                 .build());
+        brandCategoryMinPriceService.rebuild();
     }
 
     @AfterEach
@@ -84,6 +95,7 @@ class ProductCommandServiceTest {
     }
 
     private void deleteAllData() {
+        brandCategoryMinPriceRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         brandRepository.deleteAllInBatch();
         categoryRepository.deleteAllInBatch();
@@ -256,6 +268,24 @@ class ProductCommandServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", BusinessErrorCode.PRODUCT_NOT_FOUND);
     }
 
+    @Test
+    @Transactional
+    @DisplayName("가격 인덱스가 합산할 수 없는 큰 가격으로는 상품을 등록하거나 수정할 수 없다")
+    void createAndUpdate_PriceOutOfRange() {
+        // given
+        BigDecimal tooLarge = MinorUnits.MAX_PRICE.add(new BigDecimal("0.01"));
+        ProductCreateRequest createRequest = new ProductCreateRequest(brand.getId(), category.getId(), tooLarge);
+        ProductUpdateRequest updateRequest = new ProductUpdateRequest(null, null, tooLarge);
+
+        // when & then
+        assertThatThrownBy(() -> productCommandService.createProduct(createRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BusinessErrorCode.PRICE_OUT_OF_RANGE);
+        assertThatThrownBy(() -> productCommandService.updateProduct(testProduct.getId(), updateRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BusinessErrorCode.PRICE_OUT_OF_RANGE);
+    }
+
     @Test
     @Transactional
     @DisplayName("상품 가격을 0원으로 수정할 수 있다")
@@ -336,4 +366,68 @@ class ProductCommandServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", BusinessErrorCode.PRODUCT_NOT_FOUND);
     }
+
+    @Test
+    @Transactional
+    @DisplayName("상품을 생성하면 브랜드×카테고리 최저가와 상품 수가 함께 갱신된다")
+    void createProduct_UpdatesBrandCategoryMinPrice() {
+        // when
+        productCommandService.createProduct(new ProductCreateRequest(brand.getId(), category.getId(), BigDecimal.valueOf(8000)));
+        productCommandService.createProduct(new ProductCreateRequest(brand.getId(), category.getId(), BigDecimal.valueOf(12000)));
+        productCommandService.createProduct(new ProductCreateRequest(anotherBrand.getId(), category.getId(), BigDecimal.valueOf(9000)));
+
+        // then
+        assertMinPrice(brand, category, 8000, 3);
+        assertMinPrice(anotherBrand, category, 9000, 1);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("최저가 상품을 삭제하거나 가격을 올리면 최저가를 다시 계산한다")
+    void removeOrRaiseMinPriceProduct_RecomputesMinPrice() {
+        // given
+        Product cheaper = productCommandService.createProduct(
+                new ProductCreateRequest(brand.getId(), category.getId(), BigDecimal.valueOf(5000)));
+        productCommandService.createProduct(new ProductCreateRequest(brand.getId(), category.getId(), BigDecimal.valueOf(7000)));
+
+        // when & then: 최저가 상품의 가격을 올리면 다음 최저가로 바뀐다
+        productCommandService.updateProduct(cheaper.getId(), new ProductUpdateRequest(null, null, BigDecimal.valueOf(20000)));
+        assertMinPrice(brand, category, 7000, 3);
+
+        // when & then: 최저가보다 낮은 가격으로 내리면 바로 반영된다
+        productCommandService.updateProduct(cheaper.getId(), new ProductUpdateRequest(null, null, BigDecimal.valueOf(3000)));
+        assertMinPrice(brand, category, 3000, 3);
+
+        // when & then: 최저가 상품을 삭제하면 다음 최저가로 바뀐다
+        productCommandService.deleteProduct(cheaper.getId());
+        assertMinPrice(brand, category, 7000, 2);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("상품의 카테고리를 옮기거나 마지막 상품을 삭제하면 해당 브랜드×카테고리 행이 갱신되거나 삭제된다")
+    void moveAndDeleteLastProduct_UpdatesRows() {
+        // when: 유일한 상의 상품을 아우터로 이동
+        productCommandService.updateProduct(testProduct.getId(), new ProductUpdateRequest(anotherCategory.getId(), null, null));
+
+        // then
+        assertThat(findMinPrice(brand, category)).isEmpty();
+        assertMinPrice(brand, anotherCategory, 10000, 1);
+
+        // when: 마지막 상품 삭제
+        productCommandService.deleteProduct(testProduct.getId());
+
+        // then
+        assertThat(findMinPrice(brand, anotherCategory)).isEmpty();
+    }
+
+    private Optional<BrandCategoryMinPrice> findMinPrice(Brand brand, Category category) {
+        return brandCategoryMinPriceRepository.findById(new BrandCategoryMinPrice.Key(brand.getId(), category.getId()));
+    }
+
+    private void assertMinPrice(Brand brand, Category category, long minPrice, long productCount) {
+        BrandCategoryMinPrice row = findMinPrice(brand, category).orElseThrow();
+        assertThat(row.getMinPrice()).isEqualByComparingTo(BigDecimal.valueOf(minPrice));
+        assertThat(row.getProductCount()).isEqualTo(productCount);
+    }
 }
@@ -4,9 +4,10 @@ import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
 import io.github.hoo47.musinsa_assignment.domain.brand.BrandRepository;
 import io.github.hoo47.musinsa_assignment.domain.category.Category;
 import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.BrandCategoryMinPriceRepository;
 import io.github.hoo47.musinsa_assignment.domain.product.Product;
 import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
-import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +38,9 @@ class ProductQueryServiceTest {
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private BrandCategoryMinPriceRepository brandCategoryMinPriceRepository;
+
     private Category category1;
     private Category category2;
     private Brand brand1;
@@ -86,6 +90,7 @@ class ProductQueryServiceTest {
     @AfterEach
     @Transactional
     void tearDown() {
+        brandCategoryMinPriceRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         brandRepository.deleteAllInBatch();
         categoryRepository.deleteAllInBatch();
@@ -94,50 +99,19 @@ class ProductQueryServiceTest {
     @Test
     @DisplayName("모든 카테고리에서 가장 저렴한 상품들을 조회할 수 있다")
     void findAllCategoryProducts() {
-        List<Product> products = productQueryService.getCheapestProductInCategory(
+        List<ProductPriceInfo> products = productQueryService.getCheapestProductInCategory(
                 List.of(category1.getId(), category2.getId())
         );
 
-        Product product = products.get(0);
+        ProductPriceInfo product = products.get(0);
 
         assertThat(products).isNotEmpty();
         assertThat(products.size()).isEqualTo(2);
-        assertThat(product.getCategory().getId()).isEqualTo(category1.getId());
-        assertThat(product.getBrand().getId()).isEqualTo(brand1.getId());
-        assertThat(product.getPrice().compareTo(BigDecimal.valueOf(10000))).isZero();
-
-        Product product1 = products.get(1);
-        assertThat(product1.getPrice().compareTo(BigDecimal.valueOf(30000))).isZero();
-    }
-
-    @Test
-    @DisplayName("성공 케이스: 브랜드별 최저가 상품이 정상적으로 조회된다")
-    void testFindCheapestProductsGroupByBrandAndCategory_Success() {
-        List<BrandCategoryPriceInfo> infos = productQueryService.findCheapestProductsGroupByBrandAndCategory();
-
-        // Brand A의 경우 두 카테고리 모두 존재
-        // Brand B는 한 카테고리 정보만 있음.
-        assertThat(infos).isNotEmpty();
-        // 전체 결과엔 두 브랜드의 정보가 조회된다.
-        // 각각의 BrandCategoryPriceInfo는 브랜드, 카테고리, 최저가 정보를 담음
-        long brandACount = infos.stream()
-                .filter(info -> info.brandId().equals(brand1.getId()))
-                .count();
-        long brandBCount = infos.stream()
-                .filter(info -> info.brandId().equals(brand2.getId()))
-                .count();
-
-        assertThat(brandACount).isEqualTo(2);
-        assertThat(brandBCount).isEqualTo(1);
-    }
-
-    @Test
-    @DisplayName("빈 리스트 응답 케이스: 상품 데이터가 없으면 빈 리스트를 반환한다")
-    void testFindCheapestProductsGroupByBrandAndCategory_Empty() {
-        // 모든 상품 삭제로 빈 리스트 상황을 구성
-        productRepository.deleteAllInBatch();
+        assertThat(product.categoryId()).isEqualTo(category1.getId());
+        assertThat(product.brandId()).isEqualTo(brand1.getId());
+        assertThat(product.price().compareTo(BigDecimal.valueOf(10000))).isZero();
 
-        List<BrandCategoryPriceInfo> infos = productQueryService.findCheapestProductsGroupByBrandAndCategory();
-        assertThat(infos).isEmpty();
+        ProductPriceInfo product1 = products.get(1);
+        assertThat(product1.price().compareTo(BigDecimal.valueOf(30000))).isZero();
     }
 }
@@ -0,0 +1,65 @@
+package io.github.hoo47.musinsa_assignment.application.usecase;
+
+import io.github.hoo47.musinsa_assignment.application.brand.dto.response.BrandCategoryPricePageResponse;
+import io.github.hoo47.musinsa_assignment.application.product.service.ProductQueryService;
+import io.github.hoo47.musinsa_assignment.common.exception.BusinessErrorCode;
+import io.github.hoo47.musinsa_assignment.common.exception.BusinessException;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class BrandCategoryPricePageUsecaseTest {
+
+    private final ProductQueryService productQueryService = mock(ProductQueryService.class);
+    private final BrandCategoryPricePageUsecase usecase = new BrandCategoryPricePageUsecase(productQueryService);
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 행의 브랜드와 카테고리로 다음 커서를 만들고, 커서로 그 다음부터 조회한다")
+    void getPage_ReturnsNextCursor() {
+        // given: 한 건을 더 조회해 다음 페이지 여부를 판단한다
+        given(productQueryService.findBrandCategoryPricesAfter(0L, 0L, 3)).willReturn(List.of(
+                priceInfo(1L, 1L, "10000"), priceInfo(1L, 2L, "20000"), priceInfo(2L, 1L, "30000")));
+        given(productQueryService.findBrandCategoryPricesAfter(1L, 2L, 3)).willReturn(List.of(
+                priceInfo(2L, 1L, "30000")));
+
+        // when
+        BrandCategoryPricePageResponse first = usecase.getPage(null, 2);
+        BrandCategoryPricePageResponse second = usecase.getPage(first.nextCursor(), 2);
+
+        // then
+        assertThat(first.content()).extracting(BrandCategoryPricePageResponse.BrandCategoryPrice::categoryId)
+                .containsExactly(1L, 2L);
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.content()).extracting(BrandCategoryPricePageResponse.BrandCategoryPrice::brandId)
+                .containsExactly(2L);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 페이지 크기는 조회 없이 잘못된 입력으로 거절한다")
+    void getPage_RejectsInvalidInput() {
+        assertThatThrownBy(() -> usecase.getPage("not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BusinessErrorCode.INVALID_INPUT);
+        assertThatThrownBy(() -> usecase.getPage(null, 0))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BusinessErrorCode.INVALID_INPUT);
+        assertThatThrownBy(() -> usecase.getPage(null, BrandCategoryPricePageUsecase.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BusinessErrorCode.INVALID_INPUT);
+        verifyNoInteractions(productQueryService);
+    }
+
+    private BrandCategoryPriceInfo priceInfo(Long brandId, Long categoryId, String price) {
+        return new BrandCategoryPriceInfo(brandId, "브랜드" + brandId, categoryId, "카테고리" + categoryId, new BigDecimal(price));
+    }
+}
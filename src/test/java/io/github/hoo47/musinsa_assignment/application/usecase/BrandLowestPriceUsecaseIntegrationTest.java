@@ -2,10 +2,12 @@ package io.github.hoo47.musinsa_assignment.application.usecase;
 
 import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse;
 import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse.CategoryPrice;
+import io.github.hoo47.musinsa_assignment.application.product.service.BrandCategoryMinPriceService;
 import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
 import io.github.hoo47.musinsa_assignment.domain.brand.BrandRepository;
 import io.github.hoo47.musinsa_assignment.domain.category.Category;
 import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.BrandCategoryMinPriceRepository;
 import io.github.hoo47.musinsa_assignment.domain.product.Product;
 import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -38,6 +40,12 @@ class BrandLowestPriceUsecaseIntegrationTest {
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private BrandCategoryMinPriceService brandCategoryMinPriceService;
+
+    @Autowired
+    private BrandCategoryMinPriceRepository brandCategoryMinPriceRepository;
+
     private Category category1;
     private Category category2;
     private Category category3;
@@ -58,6 +66,7 @@ class BrandLowestPriceUsecaseIntegrationTest {
     }
 
     private void clearAllData() {
+        brandCategoryMinPriceRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         brandRepository.deleteAllInBatch();
         categoryRepository.deleteAllInBatch();
@@ -124,6 +133,9 @@ class BrandLowestPriceUsecaseIntegrationTest {
                 .brand(brandC)
                 .price(new BigDecimal("15000"))
                 .build());
+
+        // 리포지토리로 직접 저장한 상품으로 브랜드×카테고리 최저가 테이블 재구성
+        brandCategoryMinPriceService.rebuild();
     }
 
     @Test
@@ -196,6 +208,7 @@ class BrandLowestPriceUsecaseIntegrationTest {
                 .price(new BigDecimal("5000"))
                 .build());
         // 브랜드B는 신발 카테고리 없음
+        brandCategoryMinPriceService.rebuild();
 
         // when
         BrandProductSummaryResponse response = brandLowestPriceUsecase.getBrandWithLowestTotalPrice();
@@ -247,6 +260,7 @@ class BrandLowestPriceUsecaseIntegrationTest {
                 .price(new BigDecimal("5000"))
                 .build());
         // 브랜드B는 하의, 신발 카테고리 없음
+        brandCategoryMinPriceService.rebuild();
 
         // when
         BrandProductSummaryResponse response = brandLowestPriceUsecase.getBrandWithLowestTotalPrice();
@@ -2,6 +2,8 @@ package io.github.hoo47.musinsa_assignment.application.usecase;
 
 import io.github.hoo47.musinsa_assignment.application.category.service.CategoryQueryService;
 import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.SharedPriceIndex;
 import io.github.hoo47.musinsa_assignment.application.product.service.ProductQueryService;
 import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,17 +14,19 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class BrandLowestPriceUsecaseTest {
 
     private static final ProductQueryService productQueryService = mock(ProductQueryService.class);
     private static final CategoryQueryService categoryQueryService = mock(CategoryQueryService.class);
 
-    private static final BrandLowestPriceUsecase brandLowestPriceUsecase = new BrandLowestPriceUsecase(categoryQueryService, productQueryService);
+    private static final BrandLowestPriceUsecase brandLowestPriceUsecase = new BrandLowestPriceUsecase(categoryQueryService, productQueryService, new PricingReadModel(), SharedPriceIndex.NONE);
 
     @BeforeEach
     void setUp() {
@@ -30,26 +34,16 @@ class BrandLowestPriceUsecaseTest {
     }
 
     @Test
-    @DisplayName("단일 브랜드로 모든 카테고리 구매 시 최저가 브랜드와 가격을 조회한다")
+    @DisplayName("DB에서 찾은 최저가 브랜드의 카테고리별 최저가로 총액을 계산한다")
     void getBrandWithLowestTotalPrice_ShouldReturnLowestPriceBrand() {
-        // given
-        BrandCategoryPriceInfo info1 = new BrandCategoryPriceInfo(1L, "브랜드A", 1L, "상의", new BigDecimal("10000"));
-        BrandCategoryPriceInfo info2 = new BrandCategoryPriceInfo(1L, "브랜드A", 2L, "하의", new BigDecimal("20000"));
-        BrandCategoryPriceInfo info3 = new BrandCategoryPriceInfo(1L, "브랜드A", 3L, "신발", new BigDecimal("30000"));
-        
-        BrandCategoryPriceInfo info4 = new BrandCategoryPriceInfo(2L, "브랜드B", 1L, "상의", new BigDecimal("5000"));
-        BrandCategoryPriceInfo info5 = new BrandCategoryPriceInfo(2L, "브랜드B", 2L, "하의", new BigDecimal("25000"));
-        BrandCategoryPriceInfo info6 = new BrandCategoryPriceInfo(2L, "브랜드B", 3L, "신발", new BigDecimal("20000"));
-        
-        BrandCategoryPriceInfo info7 = new BrandCategoryPriceInfo(3L, "브랜드C", 1L, "상의", new BigDecimal("15000"));
-        BrandCategoryPriceInfo info8 = new BrandCategoryPriceInfo(3L, "브랜드C", 2L, "하의", new BigDecimal("15000"));
-        BrandCategoryPriceInfo info9 = new BrandCategoryPriceInfo(3L, "브랜드C", 3L, "신발", new BigDecimal("15000"));
-
+        // given: 브랜드 순위는 DB에서 계산되어 총액이 가장 낮은 브랜드C의 카테고리 행만 조회된다
         List<BrandCategoryPriceInfo> results = Arrays.asList(
-                info1, info2, info3, info4, info5, info6, info7, info8, info9
+                new BrandCategoryPriceInfo(3L, "브랜드C", 1L, "상의", new BigDecimal("15000")),
+                new BrandCategoryPriceInfo(3L, "브랜드C", 2L, "하의", new BigDecimal("15000")),
+                new BrandCategoryPriceInfo(3L, "브랜드C", 3L, "신발", new BigDecimal("15000"))
         );
 
-        given(productQueryService.findCheapestProductsGroupByBrandAndCategory()).willReturn(results);
+        given(productQueryService.findLowestTotalBrandPrices(3L)).willReturn(results);
 
         // when
         BrandProductSummaryResponse response = brandLowestPriceUsecase.getBrandWithLowestTotalPrice();
@@ -67,26 +61,32 @@ class BrandLowestPriceUsecaseTest {
     }
 
     @Test
-    @DisplayName("동일한 가격일 경우 브랜드명 알파벳 순으로 정렬된다")
-    void getBrandWithLowestTotalPrice_ShouldOrderByBrandNameWhenSamePrice() {
+    @DisplayName("모든 카테고리를 커버하는 브랜드가 없거나 상품 정보가 없으면 null을 반환한다")
+    void getBrandWithLowestTotalPrice_ShouldReturnNullWhenNoProducts() {
         // given
-        BrandCategoryPriceInfo info1 = new BrandCategoryPriceInfo(1L, "BrandA", 1L, "상의", new BigDecimal("10000"));
-        BrandCategoryPriceInfo info2 = new BrandCategoryPriceInfo(1L, "BrandA", 2L, "하의", new BigDecimal("20000"));
-        BrandCategoryPriceInfo info3 = new BrandCategoryPriceInfo(1L, "BrandA", 3L, "신발", new BigDecimal("15000"));
-        
-        BrandCategoryPriceInfo info4 = new BrandCategoryPriceInfo(2L, "BrandB", 1L, "상의", new BigDecimal("15000"));
-        BrandCategoryPriceInfo info5 = new BrandCategoryPriceInfo(2L, "BrandB", 2L, "하의", new BigDecimal("15000"));
-        BrandCategoryPriceInfo info6 = new BrandCategoryPriceInfo(2L, "BrandB", 3L, "신발", new BigDecimal("15000"));
+        given(productQueryService.findLowestTotalBrandPrices(3L)).willReturn(Collections.emptyList());
 
-        List<BrandCategoryPriceInfo> results = Arrays.asList(
-                info1, info2, info3, info4, info5, info6
-        );
+        // when
+        BrandProductSummaryResponse response = brandLowestPriceUsecase.getBrandWithLowestTotalPrice();
 
-        given(productQueryService.findCheapestProductsGroupByBrandAndCategory()).willReturn(results);
-        given(categoryQueryService.getCategoryCount()).willReturn(3L); // 카테고리 수: 3개 (상의, 하의, 신발)
+        // then
+        assertThat(response).isNull();
+    }
+
+    @Test
+    @DisplayName("동일한 가격일 경우 브랜드명 알파벳 순으로 정렬된다")
+    void getBrandWithLowestTotalPrice_ShouldOrderByBrandNameWhenSamePrice() {
+        // given: 공유 가격 인덱스의 최저가는 메모리에서 브랜드별로 합산된다
+        BrandLowestPriceUsecase usecase = usecaseWithSharedIndex(3L, List.of(
+                new BrandCategoryPriceInfo(2L, "BrandB", 1L, "상의", new BigDecimal("15000")),
+                new BrandCategoryPriceInfo(2L, "BrandB", 2L, "하의", new BigDecimal("15000")),
+                new BrandCategoryPriceInfo(2L, "BrandB", 3L, "신발", new BigDecimal("15000")),
+                new BrandCategoryPriceInfo(1L, "BrandA", 1L, "상의", new BigDecimal("10000")),
+                new BrandCategoryPriceInfo(1L, "BrandA", 2L, "하의", new BigDecimal("20000")),
+                new BrandCategoryPriceInfo(1L, "BrandA", 3L, "신발", new BigDecimal("15000"))));
 
         // when
-        BrandProductSummaryResponse response = brandLowestPriceUsecase.getBrandWithLowestTotalPrice();
+        BrandProductSummaryResponse response = usecase.getBrandWithLowestTotalPrice();
 
         // then
         assertThat(response).isNotNull();
@@ -98,22 +98,16 @@ class BrandLowestPriceUsecaseTest {
     @DisplayName("한 브랜드가 모든 카테고리를 커버하지 못하면 최저가 계산에서 제외된다")
     void getBrandWithLowestTotalPrice_ShouldExcludeBrandsNotCoveringAllCategories() {
         // given
-        BrandCategoryPriceInfo info1 = new BrandCategoryPriceInfo(1L, "브랜드A", 1L, "상의", new BigDecimal("10000"));
-        BrandCategoryPriceInfo info2 = new BrandCategoryPriceInfo(1L, "브랜드A", 2L, "하의", new BigDecimal("20000"));
-        BrandCategoryPriceInfo info3 = new BrandCategoryPriceInfo(1L, "브랜드A", 3L, "신발", new BigDecimal("30000"));
-        
-        BrandCategoryPriceInfo info4 = new BrandCategoryPriceInfo(2L, "브랜드B", 1L, "상의", new BigDecimal("5000"));
-        BrandCategoryPriceInfo info5 = new BrandCategoryPriceInfo(2L, "브랜드B", 2L, "하의", new BigDecimal("5000"));
+        BrandLowestPriceUsecase usecase = usecaseWithSharedIndex(3L, List.of(
+                new BrandCategoryPriceInfo(1L, "브랜드A", 1L, "상의", new BigDecimal("10000")),
+                new BrandCategoryPriceInfo(1L, "브랜드A", 2L, "하의", new BigDecimal("20000")),
+                new BrandCategoryPriceInfo(1L, "브랜드A", 3L, "신발", new BigDecimal("30000")),
+                new BrandCategoryPriceInfo(2L, "브랜드B", 1L, "상의", new BigDecimal("5000")),
+                new BrandCategoryPriceInfo(2L, "브랜드B", 2L, "하의", new BigDecimal("5000"))));
         // 브랜드B는 신발 카테고리 상품이 없음
-        
-        List<BrandCategoryPriceInfo> results = Arrays.asList(
-                info1, info2, info3, info4, info5
-        );
-
-        given(productQueryService.findCheapestProductsGroupByBrandAndCategory()).willReturn(results); 
 
         // when
-        BrandProductSummaryResponse response = brandLowestPriceUsecase.getBrandWithLowestTotalPrice();
+        BrandProductSummaryResponse response = usecase.getBrandWithLowestTotalPrice();
 
         // then
         assertThat(response).isNotNull();
@@ -125,42 +119,52 @@ class BrandLowestPriceUsecaseTest {
     @DisplayName("모든 카테고리를 커버하는 브랜드가 없으면 null을 반환한다")
     void getBrandWithLowestTotalPrice_ShouldReturnNullWhenNoBrandCoversAllCategories() {
         // given
-        BrandCategoryPriceInfo info1 = new BrandCategoryPriceInfo(1L, "브랜드A", 1L, "상의", new BigDecimal("10000"));
-        BrandCategoryPriceInfo info2 = new BrandCategoryPriceInfo(1L, "브랜드A", 2L, "하의", new BigDecimal("20000"));
-        // 브랜드A는 신발 카테고리 상품이 없음
-        
-        BrandCategoryPriceInfo info3 = new BrandCategoryPriceInfo(2L, "브랜드B", 1L, "상의", new BigDecimal("5000"));
-        // 브랜드B는 하의, 신발 카테고리 상품이 없음
-        
-        BrandCategoryPriceInfo info4 = new BrandCategoryPriceInfo(3L, "브랜드C", 3L, "신발", new BigDecimal("15000"));
-        // 브랜드C는 상의, 하의 카테고리 상품이 없음
-
-        List<BrandCategoryPriceInfo> results = Arrays.asList(
-                info1, info2, info3, info4
-        );
-
-        given(productQueryService.findCheapestProductsGroupByBrandAndCategory()).willReturn(results);
+        BrandLowestPriceUsecase usecase = usecaseWithSharedIndex(3L, List.of(
+                new BrandCategoryPriceInfo(1L, "브랜드A", 1L, "상의", new BigDecimal("10000")),
+                new BrandCategoryPriceInfo(1L, "브랜드A", 2L, "하의", new BigDecimal("20000")),
+                new BrandCategoryPriceInfo(2L, "브랜드B", 1L, "상의", new BigDecimal("5000")),
+                new BrandCategoryPriceInfo(3L, "브랜드C", 3L, "신발", new BigDecimal("15000"))));
+        // 브랜드A는 신발, 브랜드B는 하의와 신발, 브랜드C는 상의와 하의 상품이 없음
 
         // when
-        BrandProductSummaryResponse response = brandLowestPriceUsecase.getBrandWithLowestTotalPrice();
+        BrandProductSummaryResponse response = usecase.getBrandWithLowestTotalPrice();
 
         // then
         assertThat(response).isNull();
     }
 
     @Test
-    @DisplayName("상품 정보가 없으면 null을 반환한다")
-    void getBrandWithLowestTotalPrice_ShouldReturnNullWhenNoProducts() {
-        // given
-        given(productQueryService.findCheapestProductsGroupByBrandAndCategory()).willReturn(Collections.emptyList());
+    @DisplayName("스냅샷이 없으면 공유 가격 인덱스의 브랜드별 최저가와 카테고리 수로 계산하고 DB는 조회하지 않는다")
+    void getBrandWithLowestTotalPrice_FromSharedIndex() {
+        // given: 브랜드B는 신발 상품이 없어 제외된다
+        ProductQueryService queryService = mock(ProductQueryService.class);
+        CategoryQueryService categoryService = mock(CategoryQueryService.class);
+        SharedPriceIndex sharedPriceIndex = mock(SharedPriceIndex.class);
+        given(sharedPriceIndex.findBrandCategoryMinimums()).willReturn(Optional.of(new SharedPriceIndex.BrandCategoryMinimums(3L, List.of(
+                new BrandCategoryPriceInfo(1L, "브랜드A", 1L, "상의", new BigDecimal("10000")),
+                new BrandCategoryPriceInfo(1L, "브랜드A", 2L, "하의", new BigDecimal("20000")),
+                new BrandCategoryPriceInfo(1L, "브랜드A", 3L, "신발", new BigDecimal("30000")),
+                new BrandCategoryPriceInfo(2L, "브랜드B", 1L, "상의", new BigDecimal("1000")),
+                new BrandCategoryPriceInfo(2L, "브랜드B", 2L, "하의", new BigDecimal("1000"))))));
+        BrandLowestPriceUsecase usecase = new BrandLowestPriceUsecase(categoryService, queryService, new PricingReadModel(), sharedPriceIndex);
 
         // when
-        BrandProductSummaryResponse response = brandLowestPriceUsecase.getBrandWithLowestTotalPrice();
+        BrandProductSummaryResponse response = usecase.getBrandWithLowestTotalPrice();
 
         // then
-        assertThat(response).isNull();
+        assertThat(response.lowestPrice().brandName()).isEqualTo("브랜드A");
+        assertThat(response.lowestPrice().totalPrice()).isEqualByComparingTo(new BigDecimal("60000"));
+        verifyNoInteractions(queryService, categoryService);
     }
     
+    private BrandLowestPriceUsecase usecaseWithSharedIndex(long categoryCount, List<BrandCategoryPriceInfo> prices) {
+        SharedPriceIndex sharedPriceIndex = mock(SharedPriceIndex.class);
+        given(sharedPriceIndex.findBrandCategoryMinimums())
+                .willReturn(Optional.of(new SharedPriceIndex.BrandCategoryMinimums(categoryCount, prices)));
+        return new BrandLowestPriceUsecase(mock(CategoryQueryService.class), mock(ProductQueryService.class),
+                new PricingReadModel(), sharedPriceIndex);
+    }
+
     // 카테고리명으로 카테고리 가격 정보를 찾는 헬퍼 메서드
     private BrandProductSummaryResponse.CategoryPrice findCategoryPrice(BrandProductSummaryResponse response, String categoryName) {
         return response.lowestPrice().categories().stream()
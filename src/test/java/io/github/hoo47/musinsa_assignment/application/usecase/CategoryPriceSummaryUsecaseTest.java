@@ -1,23 +1,28 @@
 package io.github.hoo47.musinsa_assignment.application.usecase;
 
 import io.github.hoo47.musinsa_assignment.application.brand.dto.response.CategoryPriceSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.index.CategoryPriceRange;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.SharedPriceIndex;
 import io.github.hoo47.musinsa_assignment.application.product.service.ProductQueryService;
-import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
-import io.github.hoo47.musinsa_assignment.domain.product.Product;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.CategoryExtremePrice;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class CategoryPriceSummaryUsecaseTest {
 
     private static final ProductQueryService productQueryService = Mockito.mock(ProductQueryService.class);
-    private static final CategoryPriceSummaryUsecase usecase = new CategoryPriceSummaryUsecase(productQueryService);
+    private static final CategoryPriceSummaryUsecase usecase = new CategoryPriceSummaryUsecase(productQueryService, new PricingReadModel(), SharedPriceIndex.NONE);
 
     private static final String CATEGORY_NAME = "상의";
 
@@ -26,26 +31,15 @@ class CategoryPriceSummaryUsecaseTest {
     void testGetPriceSummaryByCategoryName() {
         // given
         // 최저가 상품 준비 (같은 브랜드의 동일 가격 상품 2개)
-        Product lowestProduct1 = Product.builder()
-                .price(BigDecimal.valueOf(10000))
-                .brand(Brand.builder().name("BrandA").build())
-                .build();
-        Product lowestProduct2 = Product.builder()
-                .price(BigDecimal.valueOf(10000))
-                .brand(Brand.builder().name("BrandA").build())
-                .build();
+        CategoryExtremePrice lowestProduct1 = new CategoryExtremePrice("BrandA", new BigDecimal("10000"), true, false);
+        CategoryExtremePrice lowestProduct2 = new CategoryExtremePrice("BrandA", new BigDecimal("10000"), true, false);
 
         // 최고가 상품 준비
-        Product highestProduct = Product.builder()
-                .price(BigDecimal.valueOf(30000))
-                .brand(Brand.builder().name("BrandB").build())
-                .build();
+        CategoryExtremePrice highestProduct = new CategoryExtremePrice("BrandB", new BigDecimal("30000"), false, true);
 
-        // 서비스 모의 설정
-        when(productQueryService.findCheapestByCategoryName(CATEGORY_NAME))
-                .thenReturn(List.of(lowestProduct1, lowestProduct2));
-        when(productQueryService.findMostExpensiveByCategoryName(CATEGORY_NAME))
-                .thenReturn(List.of(highestProduct));
+        // 서비스 모의 설정: 최저가와 최고가 상품을 한 번에 조회
+        when(productQueryService.findExtremePricesByCategoryName(CATEGORY_NAME, ProductQueryService.ALL_TIES))
+                .thenReturn(List.of(lowestProduct1, lowestProduct2, highestProduct));
 
         // when
         CategoryPriceSummaryResponse response = usecase.getPriceSummaryByCategoryName(CATEGORY_NAME);
@@ -64,4 +58,72 @@ class CategoryPriceSummaryUsecaseTest {
         assertThat(response.highestPrice().get(0).brand()).isEqualTo("BrandB");
         assertThat(response.highestPrice().get(0).price()).isEqualByComparingTo(BigDecimal.valueOf(30000));
     }
+
+    @Test
+    @DisplayName("모든 상품의 가격이 같으면 같은 상품이 최저가와 최고가에 모두 포함된다")
+    void testGetPriceSummaryByCategoryName_SinglePrice() {
+        // given
+        ProductQueryService queryService = Mockito.mock(ProductQueryService.class);
+        when(queryService.findExtremePricesByCategoryName(CATEGORY_NAME, ProductQueryService.ALL_TIES))
+                .thenReturn(List.of(new CategoryExtremePrice("BrandA", new BigDecimal("10000"), true, true)));
+        CategoryPriceSummaryUsecase singlePriceUsecase = new CategoryPriceSummaryUsecase(queryService, new PricingReadModel(), SharedPriceIndex.NONE);
+
+        // when
+        CategoryPriceSummaryResponse response = singlePriceUsecase.getPriceSummaryByCategoryName(CATEGORY_NAME);
+
+        // then
+        assertThat(response.lowestPrice()).extracting(CategoryPriceSummaryResponse.PriceInfo::brand)
+                .containsExactly("BrandA");
+        assertThat(response.highestPrice()).extracting(CategoryPriceSummaryResponse.PriceInfo::brand)
+                .containsExactly("BrandA");
+    }
+
+    @Test
+    @DisplayName("가격 스냅샷이 로드되면 DB 조회 없이 스냅샷에서 최저가와 최고가를 조회한다")
+    void testGetPriceSummaryByCategoryName_FromSnapshot() {
+        // given
+        ProductQueryService queryService = Mockito.mock(ProductQueryService.class);
+        PricingReadModel readModel = new PricingReadModel();
+        readModel.publish(List.of(new CategoryPriceRange(1L, CATEGORY_NAME,
+                List.of(priceInfo(1L, "BrandA", "10000"), priceInfo(2L, "BrandC", "10000")),
+                List.of(priceInfo(3L, "BrandB", "30000")))), null);
+        CategoryPriceSummaryUsecase snapshotUsecase = new CategoryPriceSummaryUsecase(queryService, readModel, SharedPriceIndex.NONE);
+
+        // when
+        CategoryPriceSummaryResponse response = snapshotUsecase.getPriceSummaryByCategoryName(CATEGORY_NAME);
+
+        // then
+        assertThat(response.lowestPrice()).extracting(CategoryPriceSummaryResponse.PriceInfo::brand)
+                .containsExactly("BrandA", "BrandC");
+        assertThat(response.highestPrice()).extracting(CategoryPriceSummaryResponse.PriceInfo::brand)
+                .containsExactly("BrandB");
+        assertThat(snapshotUsecase.getPriceSummaryByCategoryName("없는카테고리").lowestPrice()).isEmpty();
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 공유 가격 인덱스에서 조회하고 DB는 조회하지 않는다")
+    void testGetPriceSummaryByCategoryName_FromSharedIndex() {
+        // given
+        ProductQueryService queryService = Mockito.mock(ProductQueryService.class);
+        SharedPriceIndex sharedPriceIndex = Mockito.mock(SharedPriceIndex.class);
+        when(sharedPriceIndex.findPriceRange(CATEGORY_NAME)).thenReturn(Optional.of(new CategoryPriceRange(1L, CATEGORY_NAME,
+                List.of(priceInfo(1L, "BrandA", "10000")),
+                List.of(priceInfo(3L, "BrandB", "30000")))));
+        CategoryPriceSummaryUsecase sharedUsecase = new CategoryPriceSummaryUsecase(queryService, new PricingReadModel(), sharedPriceIndex);
+
+        // when
+        CategoryPriceSummaryResponse response = sharedUsecase.getPriceSummaryByCategoryName(CATEGORY_NAME);
+
+        // then
+        assertThat(response.lowestPrice()).extracting(CategoryPriceSummaryResponse.PriceInfo::brand)
+                .containsExactly("BrandA");
+        assertThat(response.highestPrice()).extracting(CategoryPriceSummaryResponse.PriceInfo::brand)
+                .containsExactly("BrandB");
+        verifyNoInteractions(queryService);
+    }
+
+    private ProductPriceInfo priceInfo(Long productId, String brandName, String price) {
+        return new ProductPriceInfo(productId, 1L, CATEGORY_NAME, productId, brandName, new BigDecimal(price));
+    }
 }
@@ -2,10 +2,12 @@ package io.github.hoo47.musinsa_assignment.application.usecase;
 
 import io.github.hoo47.musinsa_assignment.application.category.service.CategoryQueryService;
 import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.SharedPriceIndex;
 import io.github.hoo47.musinsa_assignment.application.product.service.ProductQueryService;
 import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
 import io.github.hoo47.musinsa_assignment.domain.category.Category;
-import io.github.hoo47.musinsa_assignment.domain.product.Product;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -24,7 +26,7 @@ class CategoryProductPriceUsecaseTest {
 
     private static final CategoryQueryService categoryQueryService = mock(CategoryQueryService.class);
 
-    private static final CategoryProductPriceUsecase categoryProductPriceUsecase = new CategoryProductPriceUsecase(productQueryService, categoryQueryService);
+    private static final CategoryProductPriceUsecase categoryProductPriceUsecase = new CategoryProductPriceUsecase(productQueryService, categoryQueryService, new PricingReadModel(), SharedPriceIndex.NONE);
 
     @Test
     @DisplayName("모든 카테고리의 최저가 상품을 조회하고 총액을 계산한다")
@@ -38,12 +40,12 @@ class CategoryProductPriceUsecaseTest {
         Brand brand2 = createBrand(2L, "B");
         Brand brand3 = createBrand(3L, "C");
 
-        Product product1 = createProduct(1L, category1, brand1, new BigDecimal("10000"));
-        Product product2 = createProduct(2L, category2, brand2, new BigDecimal("20000"));
-        Product product3 = createProduct(3L, category3, brand3, new BigDecimal("30000"));
+        ProductPriceInfo product1 = createProduct(1L, category1, brand1, new BigDecimal("10000"));
+        ProductPriceInfo product2 = createProduct(2L, category2, brand2, new BigDecimal("20000"));
+        ProductPriceInfo product3 = createProduct(3L, category3, brand3, new BigDecimal("30000"));
 
         List<Category> categories = Arrays.asList(category1, category2, category3);
-        List<Product> cheapestProducts = Arrays.asList(product1, product2, product3);
+        List<ProductPriceInfo> cheapestProducts = Arrays.asList(product1, product2, product3);
 
         when(categoryQueryService.getAllCategories()).thenReturn(categories);
         when(productQueryService.getCheapestProductInCategory(anyList())).thenReturn(cheapestProducts);
@@ -89,11 +91,11 @@ class CategoryProductPriceUsecaseTest {
         Brand brand1 = createBrand(1L, "A");
         Brand brand3 = createBrand(3L, "C");
 
-        Product product1 = createProduct(1L, category1, brand1, new BigDecimal("10000"));
-        Product product3 = createProduct(3L, category3, brand3, new BigDecimal("30000"));
+        ProductPriceInfo product1 = createProduct(1L, category1, brand1, new BigDecimal("10000"));
+        ProductPriceInfo product3 = createProduct(3L, category3, brand3, new BigDecimal("30000"));
 
         List<Category> categories = Arrays.asList(category1, category2, category3);
-        List<Product> cheapestProducts = Arrays.asList(product1, null, product3); // 하의 카테고리 상품 없음
+        List<ProductPriceInfo> cheapestProducts = Arrays.asList(product1, null, product3); // 하의 카테고리 상품 없음
 
         when(categoryQueryService.getAllCategories()).thenReturn(categories);
         when(productQueryService.getCheapestProductInCategory(anyList())).thenReturn(cheapestProducts);
@@ -132,11 +134,7 @@ class CategoryProductPriceUsecaseTest {
         return new Brand(id, name);
     }
 
-    private Product createProduct(Long id, Category category, Brand brand, BigDecimal price) {
-        return Product.builder()
-                .category(category)
-                .brand(brand)
-                .price(price)
-                .build();
+    private ProductPriceInfo createProduct(Long id, Category category, Brand brand, BigDecimal price) {
+        return new ProductPriceInfo(id, category.getId(), category.getName(), brand.getId(), brand.getName(), price);
     }
 }
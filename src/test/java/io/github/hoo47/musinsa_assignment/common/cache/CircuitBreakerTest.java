@@ -0,0 +1,233 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private static final CircuitBreakerSpec SPEC = new CircuitBreakerSpec(
+            4, 4, 0.5, Duration.ofMillis(100), 0.5, Duration.ofSeconds(10), 2);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker("Redis", SPEC, QueryTimeoutException.class::isInstance, clock::get);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치에 도달하면 열리고 이후 호출은 저장소를 거치지 않고 대체값을 반환한다")
+    void failureRate_OpensBreaker() {
+        // when
+        succeed();
+        succeed();
+        fail();
+        fail();
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.call(this::store, () -> "local")).isEqualTo("local");
+        assertThat(calls).hasValue(4);
+        assertThat(breaker.shortCircuitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 임계치에 도달해도 열린다")
+    void slowCallRate_OpensBreaker() {
+        // when
+        succeed();
+        succeed();
+        breaker.call(() -> slowStore(Duration.ofMillis(150)), () -> "local");
+        breaker.call(() -> slowStore(Duration.ofMillis(300)), () -> "local");
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수에 못 미치거나 저장소 장애가 아닌 예외는 차단기를 열지 않는다")
+    void belowMinimumOrIgnoredException_StaysClosed() {
+        // when
+        fail();
+        fail();
+        fail();
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // when
+        setUp();
+        for (int i = 0; i < SPEC.windowSize(); i++) {
+            assertThatThrownBy(() -> breaker.call(() -> {
+                throw new IllegalArgumentException("bad value");
+            }, () -> null)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출을 허용하고 모두 성공하면 닫힌다")
+    void halfOpenProbesSucceed_ClosesBreaker() {
+        // given
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // when
+        succeed();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        succeed();
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.call(this::store, () -> "local")).isEqualTo("redis");
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void halfOpenProbeFails_ReopensBreaker() {
+        // given
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // when
+        fail();
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.openCount()).isEqualTo(2);
+        assertThat(breaker.call(this::store, () -> "local")).isEqualTo("local");
+    }
+
+    @Test
+    @DisplayName("차단기가 열리면 2단 캐시는 Redis 대신 로컬 캐시만으로 조회하고 적재한다")
+    void openBreaker_TwoTierCacheServesFromLocal() {
+        // given
+        Cache redis = new ConcurrentMapCache("categoryPricingCache") {
+            @Override
+            public ValueWrapper get(Object key) {
+                calls.incrementAndGet();
+                throw new QueryTimeoutException("Redis command timed out");
+            }
+        };
+        TwoTierCache cache = new TwoTierCache(new CircuitBreakerCache(redis, breaker),
+                new LocalCacheSpec(16, Duration.ofMinutes(1)), (cacheName, key) -> {
+                },
+                new SingleFlightLoader(CacheLoadLease.LOCAL, Duration.ofSeconds(1), Duration.ofMillis(10)));
+        open();
+        calls.set(0);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        Object first = cache.get("key", () -> "loaded-" + loads.incrementAndGet());
+        Object second = cache.get("key", () -> "loaded-" + loads.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("loaded-1");
+        assertThat(second).isEqualTo("loaded-1");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("차단기가 열린 동안 건너뛴 삭제는 차단기가 다시 호출을 허용하면 저장소를 읽기 전에 반영된다")
+    void evictionSkippedWhileOpen_IsReplayedBeforeNextRead() {
+        // given
+        Cache redis = new ConcurrentMapCache("priceSummaryCache");
+        CircuitBreakerCache cache = new CircuitBreakerCache(redis, breaker);
+        cache.put("상의", "stale");
+        cache.put("하의", "fresh");
+        open();
+
+        // when
+        cache.evict("상의");
+        assertThat(redis.get("상의")).isNotNull();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertThat(cache.get("상의")).isNull();
+        assertThat(redis.get("상의")).isNull();
+        assertThat(cache.get("하의")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("차단기가 열린 동안 건너뛴 비우기와 한도를 넘은 삭제는 다음 호출에서 캐시 전체를 비운다")
+    void clearSkippedWhileOpen_IsReplayedBeforeNextWrite() {
+        // given
+        Cache redis = new ConcurrentMapCache("priceSummaryCache");
+        CircuitBreakerCache cache = new CircuitBreakerCache(redis, breaker);
+        cache.put("상의", "stale");
+        cache.put("하의", "stale");
+        open();
+
+        // when
+        cache.clear();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        cache.put("모자", "fresh");
+
+        // then
+        assertThat(redis.get("상의")).isNull();
+        assertThat(redis.get("하의")).isNull();
+        assertThat(redis.get("모자")).isNotNull();
+
+        // given
+        setUp();
+        CircuitBreakerCache overflowing = new CircuitBreakerCache(redis, breaker);
+        open();
+
+        // when
+        for (int i = 0; i <= CircuitBreakerCache.MAX_SKIPPED_EVICTIONS; i++) {
+            overflowing.evict("key-" + i);
+        }
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertThat(overflowing.get("모자")).isNull();
+        assertThat(redis.get("모자")).isNull();
+    }
+
+    private void open() {
+        for (int i = 0; i < SPEC.minimumCalls(); i++) {
+            fail();
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void succeed() {
+        breaker.call(this::store, () -> "local");
+    }
+
+    private void fail() {
+        try {
+            breaker.call(() -> {
+                calls.incrementAndGet();
+                throw new QueryTimeoutException("Redis command timed out");
+            }, () -> "local");
+        } catch (QueryTimeoutException ignored) {
+            // 저장소 장애는 호출자에게 그대로 전달된다
+        }
+    }
+
+    private String store() {
+        calls.incrementAndGet();
+        return "redis";
+    }
+
+    private String slowStore(Duration latency) {
+        clock.addAndGet(latency.toNanos());
+        return store();
+    }
+}
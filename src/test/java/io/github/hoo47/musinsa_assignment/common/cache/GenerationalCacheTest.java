@@ -0,0 +1,103 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationalCacheTest {
+
+    private final InMemoryGenerations generations = new InMemoryGenerations();
+    private ConcurrentMapCache remote;
+    private GenerationalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("priceInfoCache");
+        cache = new GenerationalCache(remote, generations, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("키에 현재 세대 번호가 포함되어 저장된다")
+    void put_StoresUnderVersionedKey() {
+        // when
+        cache.put("cheapestByCategory:상의", "v1");
+
+        // then
+        assertThat(remote.get("g0:cheapestByCategory:상의", String.class)).isEqualTo("v1");
+        assertThat(cache.get("cheapestByCategory:상의", String.class)).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("전체 삭제는 세대만 올리고 이전 세대의 키는 TTL로 만료되도록 남겨둔다")
+    void clear_AdvancesGeneration() {
+        // given
+        cache.put("cheapestByCategory:상의", "v1");
+        cache.put("cheapestByCategory:바지", "v1");
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(generations.increments).isEqualTo(1);
+        assertThat(cache.get("cheapestByCategory:상의")).isNull();
+        assertThat(cache.get("cheapestByCategory:바지")).isNull();
+        assertThat(remote.get("g0:cheapestByCategory:상의", String.class)).isEqualTo("v1");
+
+        cache.put("cheapestByCategory:상의", "v2");
+        assertThat(remote.get("g1:cheapestByCategory:상의", String.class)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 세대를 올린 사실을 알게 되면 세대를 다시 읽는다")
+    void forgetGeneration_ReadsGenerationAgain() {
+        // given
+        cache.put("상의", "v1");
+        GenerationalCache otherNode = new GenerationalCache(remote, generations, Duration.ofMinutes(1));
+        otherNode.clear();
+        assertThat(cache.get("상의", String.class)).isEqualTo("v1");
+
+        // when
+        cache.forgetGeneration();
+
+        // then
+        assertThat(cache.get("상의")).isNull();
+    }
+
+    @Test
+    @DisplayName("기억한 세대는 최대 보존 시간이 지나면 다시 읽는다")
+    void generation_ExpiresAfterMaxAge() {
+        // given
+        GenerationalCache shortLived = new GenerationalCache(remote, generations, Duration.ZERO);
+        shortLived.put("상의", "v1");
+
+        // when
+        generations.next("priceInfoCache");
+
+        // then
+        assertThat(shortLived.get("상의")).isNull();
+    }
+
+    private static class InMemoryGenerations implements CacheGenerations {
+
+        private final Map<String, Long> values = new ConcurrentHashMap<>();
+        private int increments;
+
+        @Override
+        public long current(String cacheName) {
+            return values.getOrDefault(cacheName, 0L);
+        }
+
+        @Override
+        public long next(String cacheName) {
+            increments++;
+            return values.merge(cacheName, 1L, Long::sum);
+        }
+    }
+}
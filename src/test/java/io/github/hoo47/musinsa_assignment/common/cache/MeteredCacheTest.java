@@ -0,0 +1,83 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeteredCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new MeteredCacheManager(new ConcurrentMapCacheManager("priceSummaryCache"), registry)
+                .getCache("priceSummaryCache");
+    }
+
+    @Test
+    @DisplayName("로더를 실행한 조회는 미스, 캐시된 값을 반환한 조회는 적중으로 기록한다")
+    void get_RecordsHitsMissesAndLoadTime() {
+        // when
+        cache.get("상의", () -> "summary");
+        cache.get("상의", () -> "summary");
+        cache.get("바지");
+
+        // then
+        assertThat(count("app.cache.gets", "result", "hit")).isEqualTo(1);
+        assertThat(count("app.cache.gets", "result", "miss")).isEqualTo(2);
+        assertThat(registry.get("app.cache.loads").tag("cache", "priceSummaryCache").tag("result", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로더 실패는 실패한 로드로, 캐시 자체의 예외는 오류로 기록한다")
+    void failures_RecordedSeparately() {
+        // given
+        Cache failing = new MeteredCache(new ConcurrentMapCache("brandLowestPriceCache") {
+            @Override
+            public void put(Object key, Object value) {
+                throw new IllegalStateException("Redis unavailable");
+            }
+        }, registry);
+
+        // when
+        assertThatThrownBy(() -> cache.get("상의", () -> {
+            throw new IllegalStateException("query failed");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+        assertThatThrownBy(() -> failing.put("key", "value")).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(registry.get("app.cache.loads").tag("cache", "priceSummaryCache").tag("result", "failure")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.find("app.cache.errors").tag("cache", "priceSummaryCache").counters()).isEmpty();
+        assertThat(registry.get("app.cache.errors").tag("cache", "brandLowestPriceCache").tag("operation", "put")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장과 단건 삭제, 전체 삭제 횟수를 기록한다")
+    void putAndEvict_Recorded() {
+        // when
+        cache.put("상의", "summary");
+        cache.evict("상의");
+        cache.clear();
+
+        // then
+        assertThat(registry.get("app.cache.puts").counter().count()).isEqualTo(1);
+        assertThat(count("app.cache.evictions", "operation", "evict")).isEqualTo(1);
+        assertThat(count("app.cache.evictions", "operation", "clear")).isEqualTo(1);
+    }
+
+    private double count(String name, String tag, String value) {
+        return registry.get(name).tag("cache", "priceSummaryCache").tag(tag, value).counter().count();
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightLoaderTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 로드는 한 번만 실행되고 나머지 호출은 결과를 공유한다")
+    void load_CoalescesConcurrentCallers() throws Exception {
+        // given
+        SingleFlightLoader loader = new SingleFlightLoader(CacheLoadLease.LOCAL, Duration.ofSeconds(1), Duration.ofMillis(10));
+        Cache cache = new ConcurrentMapCache("brandLowestPriceCache");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> loader.load(cache, "key", () -> {
+                calls.incrementAndGet();
+                release.await(5, TimeUnit.SECONDS);
+                return "value";
+            })));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loader.localCoalescedCount() < callers - 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        for (Future<Object> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        executor.shutdown();
+        assertThat(calls).hasValue(1);
+        assertThat(loader.loadCount()).isEqualTo(1);
+        assertThat(loader.localCoalescedCount()).isEqualTo(callers - 1);
+        assertThat(cache.get("key", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대를 가진 동안에는 로드하지 않고 공유 캐시에 기록된 값을 사용한다")
+    void load_WaitsForLeaseHolder() {
+        // given: 임대는 다른 노드가 갖고 있고, 잠시 후 그 노드가 값을 기록한다
+        Cache cache = new ConcurrentMapCache("categoryPricingCache");
+        CacheLoadLease heldElsewhere = new CacheLoadLease() {
+            @Override
+            public boolean tryAcquire(String name, Duration ttl) {
+                return false;
+            }
+
+            @Override
+            public void release(String name) {
+            }
+        };
+        SingleFlightLoader loader = new SingleFlightLoader(heldElsewhere, Duration.ofSeconds(2), Duration.ofMillis(10));
+        ScheduledExecutorService otherNode = Executors.newSingleThreadScheduledExecutor();
+        otherNode.schedule(() -> cache.put("key", "from-other-node"), 50, TimeUnit.MILLISECONDS);
+
+        // when
+        Object value = loader.load(cache, "key", () -> "loaded-here");
+        otherNode.shutdown();
+
+        // then
+        assertThat(value).isEqualTo("from-other-node");
+        assertThat(loader.loadCount()).isZero();
+        assertThat(loader.remoteCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로더의 예외는 ValueRetrievalException으로 전달되고 다음 호출은 다시 로드한다")
+    void load_PropagatesFailure() {
+        // given
+        SingleFlightLoader loader = new SingleFlightLoader(CacheLoadLease.LOCAL, Duration.ofSeconds(1), Duration.ofMillis(10));
+        Cache cache = new ConcurrentMapCache("priceSummaryCache");
+
+        // when & then
+        assertThatThrownBy(() -> loader.load(cache, "key", () -> {
+            throw new IllegalStateException("db down");
+        }))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(loader.load(cache, "key", () -> "value")).isEqualTo("value");
+    }
+}
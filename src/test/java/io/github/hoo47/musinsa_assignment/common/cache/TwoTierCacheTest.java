@@ -0,0 +1,243 @@
+package io.github.hoo47.musinsa_assignment.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TwoTierCacheTest {
+
+    private static final LocalCacheSpec SPEC = new LocalCacheSpec(100, Duration.ofMinutes(1));
+    private static final SingleFlightLoader LOADER =
+            new SingleFlightLoader(CacheLoadLease.LOCAL, Duration.ofSeconds(1), Duration.ofMillis(10));
+
+    private final List<String> published = new ArrayList<>();
+    private ConcurrentMapCache remote;
+    private TwoTierCache cache;
+    private RefreshAheadScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("priceSummaryCache");
+        cache = new TwoTierCache(remote, SPEC, (cacheName, key) -> published.add(cacheName + ":" + key), LOADER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    @DisplayName("L2에서 읽은 값은 L1에 채워져 이후 조회는 L2를 거치지 않는다")
+    void get_FillsLocalFromRemote() {
+        // given
+        remote.put("상의", "summary");
+        assertThat(cache.get("상의", String.class)).isEqualTo("summary");
+
+        // when: L2에서만 값이 사라져도
+        remote.evict("상의");
+
+        // then
+        assertThat(cache.get("상의", String.class)).isEqualTo("summary");
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쓰기와 삭제는 L2에 반영되고 다른 노드에 L1 무효화를 알린다")
+    void putAndEvict_PublishInvalidation() {
+        // when
+        cache.put("상의", "v1");
+        cache.evict("상의");
+        cache.clear();
+
+        // then
+        assertThat(remote.get("상의")).isNull();
+        assertThat(cache.get("상의")).isNull();
+        assertThat(published).containsExactly("priceSummaryCache:상의", "priceSummaryCache:상의", "priceSummaryCache:null");
+    }
+
+    @Test
+    @DisplayName("null 값도 L1에 캐시된다")
+    void get_CachesNullValues() {
+        // given
+        remote.put("바지", null);
+
+        // when
+        Cache.ValueWrapper first = cache.get("바지");
+        remote.evict("바지");
+        Cache.ValueWrapper second = cache.get("바지");
+
+        // then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(second.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1만 비우고 L2에서 다시 읽는다")
+    void evictLocal_DropsOnlyLocalEntry() {
+        // given
+        ConcurrentMapCacheManager remoteManager = new ConcurrentMapCacheManager("priceSummaryCache");
+        TwoTierCacheManager manager = new TwoTierCacheManager(remoteManager, Map.of(), SPEC, (cacheName, key) -> { }, LOADER);
+        Cache managed = manager.getCache("priceSummaryCache");
+        managed.put("상의", "v1");
+
+        // when: 다른 노드가 L2를 갱신하고 무효화를 알린다
+        remoteManager.getCache("priceSummaryCache").put("상의", "v2");
+        assertThat(managed.get("상의", String.class)).isEqualTo("v1");
+        manager.evictLocal("priceSummaryCache", TwoTierCache.normalize("상의"));
+
+        // then
+        assertThat(managed.get("상의", String.class)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("갱신 시점이 지난 항목은 기존 값을 바로 반환하고 백그라운드에서 다시 로드한다")
+    void get_RefreshesAheadInBackground() throws InterruptedException {
+        // given
+        TwoTierCache refreshing = refreshAheadCache(new RefreshAheadSpec(Duration.ofMillis(1), 1.0, Duration.ofMinutes(1)),
+                RemainingTtlLookup.NONE);
+        assertThat(refreshing.get("상의", () -> "v1")).isEqualTo("v1");
+        Thread.sleep(10);
+
+        // when
+        String stale = refreshing.get("상의", () -> "v2");
+        awaitUntil(() -> scheduler.refreshCount());
+
+        // then
+        assertThat(stale).isEqualTo("v1");
+        assertThat(refreshing.get("상의", String.class)).isEqualTo("v2");
+        assertThat(remote.get("상의", String.class)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("백그라운드 로드가 실패해도 기존 값을 계속 제공한다")
+    void get_KeepsServingWhenRefreshFails() throws InterruptedException {
+        // given
+        TwoTierCache refreshing = refreshAheadCache(new RefreshAheadSpec(Duration.ofMillis(1), 1.0, Duration.ofMinutes(1)),
+                RemainingTtlLookup.NONE);
+        refreshing.get("상의", () -> "v1");
+        Thread.sleep(10);
+
+        // when
+        String stale = refreshing.get("상의", () -> {
+            throw new IllegalStateException("DB 장애");
+        });
+        awaitUntil(() -> scheduler.failureCount());
+
+        // then
+        assertThat(stale).isEqualTo("v1");
+        assertThat(refreshing.get("상의", () -> "v3")).isIn("v1", "v3");
+        assertThat(remote.get("상의", String.class)).isIn("v1", "v3");
+    }
+
+    @Test
+    @DisplayName("L2에서 읽은 항목은 남은 TTL로 나이를 계산해 선갱신 여부를 정한다")
+    void get_DerivesAgeOfRemoteEntries() {
+        // given: TTL 10초 + stale 10초로 저장되며 5초가 지나면 선갱신 대상
+        RefreshAheadSpec spec = new RefreshAheadSpec(Duration.ofSeconds(10), 0.5, Duration.ofSeconds(10));
+        remote.put("상의", "old");
+        remote.put("바지", "fresh");
+        TwoTierCache refreshing = refreshAheadCache(spec,
+                (cacheName, key) -> key.equals("상의") ? Duration.ofSeconds(12) : Duration.ofSeconds(19));
+
+        // when
+        String old = refreshing.get("상의", () -> "new");
+        String fresh = refreshing.get("바지", () -> "reloaded");
+        awaitUntil(() -> scheduler.refreshCount());
+
+        // then
+        assertThat(old).isEqualTo("old");
+        assertThat(fresh).isEqualTo("fresh");
+        assertThat(remote.get("상의", String.class)).isEqualTo("new");
+        assertThat(remote.get("바지", String.class)).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("선갱신 스케줄러가 비활성이면 갱신 시점이 지난 항목을 읽어도 다시 계산하지 않는다")
+    void get_InactiveSchedulerSkipsRefresh() throws InterruptedException {
+        // given
+        RefreshAheadSpec spec = new RefreshAheadSpec(Duration.ofSeconds(10), 0.5, Duration.ofSeconds(10));
+        remote.put("상의", "old");
+        scheduler = new RefreshAheadScheduler(Executors.newSingleThreadExecutor(), CacheLoadLease.LOCAL,
+                Duration.ofSeconds(1), (cacheName, key) -> Duration.ofSeconds(12), () -> false);
+        TwoTierCache refreshing = new TwoTierCache(remote, SPEC, (cacheName, key) -> { }, LOADER, spec, scheduler);
+
+        // when
+        String old = refreshing.get("상의", () -> "new");
+        Thread.sleep(50);
+
+        // then
+        assertThat(old).isEqualTo("old");
+        assertThat(remote.get("상의", String.class)).isEqualTo("old");
+        assertThat(scheduler.refreshCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("선갱신 캐시의 미스는 L2를 한 번만 조회한 뒤 로드한다")
+    void get_MissReadsRemoteOnce() {
+        // given
+        AtomicInteger remoteReads = new AtomicInteger();
+        remote = new ConcurrentMapCache("priceSummaryCache") {
+            @Override
+            public ValueWrapper get(Object key) {
+                remoteReads.incrementAndGet();
+                return super.get(key);
+            }
+        };
+        TwoTierCache refreshing = refreshAheadCache(new RefreshAheadSpec(Duration.ofSeconds(10), 0.5, Duration.ofSeconds(10)),
+                RemainingTtlLookup.NONE);
+
+        // when
+        String loaded = refreshing.get("상의", () -> "v1");
+
+        // then
+        assertThat(loaded).isEqualTo("v1");
+        assertThat(remoteReads).hasValue(1);
+        assertThat(remote.get("상의", String.class)).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("L1 TTL이 선갱신 시점보다 짧으면 L1 적중으로는 선갱신되지 않으므로 생성을 거부한다")
+    void constructor_RejectsLocalTtlBeforeRefreshPoint() {
+        // given
+        scheduler = new RefreshAheadScheduler(Executors.newSingleThreadExecutor(), CacheLoadLease.LOCAL,
+                Duration.ofSeconds(1), RemainingTtlLookup.NONE);
+        RefreshAheadSpec spec = new RefreshAheadSpec(Duration.ofSeconds(20), 0.75, Duration.ofSeconds(10));
+
+        // when & then
+        assertThatThrownBy(() -> new TwoTierCache(remote, new LocalCacheSpec(16, Duration.ofSeconds(10)),
+                (cacheName, key) -> { }, LOADER, spec, scheduler))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TwoTierCache refreshAheadCache(RefreshAheadSpec spec, RemainingTtlLookup remainingTtlLookup) {
+        scheduler = new RefreshAheadScheduler(Executors.newSingleThreadExecutor(), CacheLoadLease.LOCAL,
+                Duration.ofSeconds(1), remainingTtlLookup);
+        return new TwoTierCache(remote, SPEC, (cacheName, key) -> { }, LOADER, spec, scheduler);
+    }
+
+    private static void awaitUntil(LongSupplier count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (count.getAsLong() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(count.getAsLong()).isPositive();
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.hoo47.musinsa_assignment.config;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.hoo47.musinsa_assignment.application.product.dto.request.ProductCreateRequest;
+import io.github.hoo47.musinsa_assignment.application.product.service.BrandCategoryMinPriceService;
+import io.github.hoo47.musinsa_assignment.application.product.service.ProductCommandService;
+import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
+import io.github.hoo47.musinsa_assignment.domain.brand.BrandRepository;
+import io.github.hoo47.musinsa_assignment.domain.category.Category;
+import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.BrandCategoryMinPriceRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.Product;
+import io.github.hoo47.musinsa_assignment.domain.product.ProductRepository;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 조회마다 별도 트랜잭션에서 커밋된 데이터를 읽어야 2차 캐시와 쿼리 캐시가 동작하므로 테스트 트랜잭션을 사용하지 않는다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({HibernateCacheConfig.class, ProductCommandService.class, BrandCategoryMinPriceService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HibernateCacheConfigTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private BrandCategoryMinPriceRepository brandCategoryMinPriceRepository;
+
+    @Autowired
+    private ProductCommandService productCommandService;
+
+    private Category category;
+    private Brand brand;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        brandRepository.deleteAll();
+
+        category = categoryRepository.save(Category.builder().name("Top").build());
+        brand = brandRepository.save(Brand.builder().name("BrandA").build());
+        productRepository.save(Product.builder()
+                .category(category)
+                .brand(brand)
+                .price(new BigDecimal("10000"))
+                .build());
+        rebuildMinPrices();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        brandCategoryMinPriceRepository.deleteAllInBatch();
+        productRepository.deleteAll();
+        brandRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("브랜드와 카테고리는 한 번 적재된 뒤 반복 조회해도 SQL을 실행하지 않는다")
+    void repeatedEntityLookups_IssueNoSql() {
+        // given
+        brandRepository.findById(brand.getId());
+        categoryRepository.findById(category.getId());
+        statistics.clear();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(brandRepository.findById(brand.getId())).map(Brand::getName).hasValue("BrandA");
+            assertThat(categoryRepository.findById(category.getId())).map(Category::getName).hasValue("Top");
+        }
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("최저가 브랜드 집계 쿼리는 반복 호출 시 쿼리 캐시에서 응답하고 SQL을 실행하지 않는다")
+    void repeatedAggregateQueries_IssueNoSql() {
+        // given
+        productRepository.findLowestTotalBrandPrices(1);
+        statistics.clear();
+
+        // when
+        List<BrandCategoryPriceInfo> first = productRepository.findLowestTotalBrandPrices(1);
+        List<BrandCategoryPriceInfo> second = productRepository.findLowestTotalBrandPrices(1);
+
+        // then
+        assertThat(first).hasSize(1);
+        assertThat(first.get(0).price()).isEqualByComparingTo("10000");
+        assertThat(second).isEqualTo(first);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품 변경으로 최저가 테이블이 갱신되면 갱신 타임스탬프로 집계 쿼리 캐시가 무효화되어 새 결과를 조회한다")
+    void productWrite_InvalidatesCachedAggregates() {
+        // given
+        productRepository.findLowestTotalBrandPrices(1);
+        productCommandService.createProduct(new ProductCreateRequest(brand.getId(), category.getId(), new BigDecimal("5000")));
+        statistics.clear();
+
+        // when
+        List<BrandCategoryPriceInfo> result = productRepository.findLowestTotalBrandPrices(1);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).price()).isEqualByComparingTo("5000");
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void rebuildMinPrices() {
+        brandCategoryMinPriceRepository.deleteAllInBatch();
+        brandCategoryMinPriceRepository.insertFromProducts();
+    }
+}
@@ -3,22 +3,30 @@ package io.github.hoo47.musinsa_assignment.controller.v1.brand;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.hoo47.musinsa_assignment.application.brand.dto.request.BrandCreateRequest;
 import io.github.hoo47.musinsa_assignment.application.brand.dto.request.BrandUpdateRequest;
+import io.github.hoo47.musinsa_assignment.application.brand.dto.response.BrandCategoryPricePageResponse;
 import io.github.hoo47.musinsa_assignment.application.brand.service.BrandCommandService;
 import io.github.hoo47.musinsa_assignment.application.product.dto.response.BrandProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingSnapshot;
+import io.github.hoo47.musinsa_assignment.application.usecase.BrandCategoryPricePageUsecase;
 import io.github.hoo47.musinsa_assignment.application.usecase.BrandLowestPriceUsecase;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessErrorCode;
 import io.github.hoo47.musinsa_assignment.common.exception.BusinessException;
 import io.github.hoo47.musinsa_assignment.domain.brand.Brand;
+import io.github.hoo47.musinsa_assignment.web.common.PricingResponseCache;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -40,6 +48,20 @@ class BrandControllerTest {
     @MockBean
     private BrandLowestPriceUsecase brandLowestPriceUsecase;
 
+    @MockBean
+    private BrandCategoryPricePageUsecase brandCategoryPricePageUsecase;
+
+    @MockBean
+    private PricingReadModel pricingReadModel;
+
+    @MockBean
+    private PricingResponseCache pricingResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        given(pricingReadModel.current()).willReturn(PricingSnapshot.EMPTY);
+    }
+
     @Test
     @DisplayName("should create brand when request is valid")
     void shouldCreateBrandWhenRequestIsValid() throws Exception {
@@ -85,11 +107,14 @@ class BrandControllerTest {
 
         var response = new BrandProductSummaryResponse(lowestPriceInfo);
 
-        given(brandLowestPriceUsecase.getBrandWithLowestTotalPrice()).willReturn(response);
+        PricingSnapshot snapshot = PricingSnapshot.of(7L, List.of(), null);
+        given(pricingReadModel.current()).willReturn(snapshot);
+        given(brandLowestPriceUsecase.getBrandWithLowestTotalPrice(snapshot)).willReturn(response);
 
         // when & then
         mockMvc.perform(get("/api/v1/brands/lowest-price"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Pricing-Version", "7"))
                 .andExpect(jsonPath("$.lowestPrice.brandName").value("C브랜드"))
                 .andExpect(jsonPath("$.lowestPrice.categories[0].categoryName").value("상의"))
                 .andExpect(jsonPath("$.lowestPrice.categories[0].price").value(10000))
@@ -98,6 +123,52 @@ class BrandControllerTest {
                 .andExpect(jsonPath("$.lowestPrice.totalPrice").value(30000));
     }
 
+    @Test
+    @DisplayName("should return brand category prices page with next cursor")
+    void shouldReturnBrandCategoryPricesPage() throws Exception {
+        // given
+        var response = new BrandCategoryPricePageResponse(List.of(
+                new BrandCategoryPricePageResponse.BrandCategoryPrice(1L, "A", 1L, "상의", new BigDecimal("11200")),
+                new BrandCategoryPricePageResponse.BrandCategoryPrice(1L, "A", 2L, "아우터", new BigDecimal("5500"))),
+                "MToy");
+        given(brandCategoryPricePageUsecase.getPage("MTox", 2)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/brands/category-prices")
+                        .param("cursor", "MTox")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].brand").value("A"))
+                .andExpect(jsonPath("$.content[0].category").value("상의"))
+                .andExpect(jsonPath("$.content[1].price").value(5500))
+                .andExpect(jsonPath("$.nextCursor").value("MToy"));
+    }
+
+    @Test
+    @DisplayName("should return bad request when brand category prices cursor is invalid")
+    void shouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        // given
+        given(brandCategoryPricePageUsecase.getPage("invalid", 100))
+                .willThrow(new BusinessException(BusinessErrorCode.INVALID_INPUT));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/brands/category-prices")
+                        .param("cursor", "invalid"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("should return internal server error when brand category prices cannot be read")
+    void shouldReturnInternalServerErrorWhenCategoryPricesCannotBeRead() throws Exception {
+        // given
+        given(brandCategoryPricePageUsecase.getPage(null, 100))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/brands/category-prices"))
+                .andExpect(status().isInternalServerError());
+    }
+
     @Test
     @DisplayName("should return bad request error when service throws exception")
     void shouldReturnInternalServerErrorWhenServiceThrowsException() throws Exception {
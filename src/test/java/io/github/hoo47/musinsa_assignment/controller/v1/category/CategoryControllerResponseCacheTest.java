@@ -0,0 +1,100 @@
+package io.github.hoo47.musinsa_assignment.controller.v1.category;
+
+import io.github.hoo47.musinsa_assignment.application.category.index.CategoryNameRegistry;
+import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingSnapshot;
+import io.github.hoo47.musinsa_assignment.application.usecase.CategoryPriceSummaryUsecase;
+import io.github.hoo47.musinsa_assignment.application.usecase.CategoryProductPriceUsecase;
+import io.github.hoo47.musinsa_assignment.web.common.PricingResponseCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 응답 바이트 캐시를 목으로 바꾸지 않고 실제 {@link PricingResponseCache}로 직렬화한 바이트와 gzip 응답을 확인한다.
+ */
+@WebMvcTest(controllers = CategoryController.class, properties = {
+        "pricing.response-cache.enabled=true",
+        "pricing.response-cache.gzip-minimum-size=0"
+})
+@Import({PricingResponseCache.class, PricingReadModel.class})
+class CategoryControllerResponseCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PricingReadModel pricingReadModel;
+
+    @MockBean
+    private CategoryProductPriceUsecase categoryProductPriceUsecase;
+
+    @MockBean
+    private CategoryPriceSummaryUsecase categoryPriceSummaryUsecase;
+
+    @MockBean
+    private CategoryNameRegistry categoryNameRegistry;
+
+    @Test
+    @DisplayName("같은 스냅샷 버전의 반복 요청은 저장된 JSON 바이트로, gzip을 허용하는 요청은 압축된 바이트로 응답한다")
+    void categoryPricing_ServedFromEncodedBytes() throws Exception {
+        // given
+        PricingSnapshot snapshot = pricingReadModel.publish(List.of(), null);
+        given(categoryProductPriceUsecase.getCategoryPricing(any(PricingSnapshot.class))).willReturn(
+                new CategoryProductSummaryResponse(List.of(new CategoryProductSummaryResponse.CategoryProductPriceInfo(
+                        1L, "상의", 1L, "A브랜드", new BigDecimal("10000"))), new BigDecimal("10000")));
+        String version = String.valueOf(snapshot.version());
+
+        // when
+        MvcResult plain = mockMvc.perform(get("/api/v1/categories/lowest-price-by-category"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pricing-Version", version))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.items[0].brandName").value("A브랜드"))
+                .andExpect(jsonPath("$.totalPrice").value(10000))
+                .andReturn();
+        MvcResult gzipped = mockMvc.perform(get("/api/v1/categories/lowest-price-by-category")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pricing-Version", version))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        // then: 두 번째 요청은 다시 렌더링하지 않고 같은 JSON을 압축한 바이트로 응답
+        byte[] json = plain.getResponse().getContentAsByteArray();
+        assertThat(gunzip(gzipped.getResponse().getContentAsByteArray())).isEqualTo(json);
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("\"categoryName\":\"상의\"");
+        verify(categoryProductPriceUsecase, times(1)).getCategoryPricing(any(PricingSnapshot.class));
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
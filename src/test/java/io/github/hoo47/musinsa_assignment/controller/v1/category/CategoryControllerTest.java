@@ -1,11 +1,14 @@
 package io.github.hoo47.musinsa_assignment.controller.v1.category;
 
 import io.github.hoo47.musinsa_assignment.application.brand.dto.response.CategoryPriceSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.category.index.CategoryNameRegistry;
 import io.github.hoo47.musinsa_assignment.application.product.dto.response.CategoryProductSummaryResponse;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingSnapshot;
 import io.github.hoo47.musinsa_assignment.application.usecase.CategoryPriceSummaryUsecase;
 import io.github.hoo47.musinsa_assignment.application.usecase.CategoryProductPriceUsecase;
-import io.github.hoo47.musinsa_assignment.common.exception.BusinessErrorCode;
-import io.github.hoo47.musinsa_assignment.common.exception.BusinessException;
+import io.github.hoo47.musinsa_assignment.web.common.PricingResponseCache;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +20,11 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -33,6 +40,20 @@ class CategoryControllerTest {
     @MockBean
     private CategoryPriceSummaryUsecase categoryPriceSummaryUsecase;
 
+    @MockBean
+    private PricingReadModel pricingReadModel;
+
+    @MockBean
+    private PricingResponseCache pricingResponseCache;
+
+    @MockBean
+    private CategoryNameRegistry categoryNameRegistry;
+
+    @BeforeEach
+    void setUp() {
+        given(pricingReadModel.current()).willReturn(PricingSnapshot.EMPTY);
+    }
+
     @Test
     @DisplayName("카테고리별 최저가격 브랜드와 상품 가격, 총액을 조회할 수 있다")
     void getCategoryPricing() throws Exception {
@@ -52,6 +73,7 @@ class CategoryControllerTest {
         // when & then
         mockMvc.perform(get("/api/v1/categories/lowest-price-by-category"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Pricing-Version"))
                 .andExpect(jsonPath("$.items[0].categoryId").value(1))
                 .andExpect(jsonPath("$.items[0].categoryName").value("상의"))
                 .andExpect(jsonPath("$.items[0].brandId").value(1))
@@ -65,6 +87,28 @@ class CategoryControllerTest {
                 .andExpect(jsonPath("$.totalPrice").value(30000));
     }
 
+    @Test
+    @DisplayName("가격 스냅샷이 로드되면 캐시를 거치지 않고 스냅샷에서 응답하며, 그 스냅샷의 버전을 헤더로 제공한다")
+    void getCategoryPricingFromSnapshot() throws Exception {
+        // given
+        PricingSnapshot snapshot = PricingSnapshot.of(3L, List.of(), null);
+        var response = new CategoryProductSummaryResponse(List.of(
+                new CategoryProductSummaryResponse.CategoryProductPriceInfo(
+                        1L, "상의", 1L, "A브랜드", new BigDecimal("10000"))),
+                new BigDecimal("10000"));
+
+        given(pricingReadModel.current()).willReturn(snapshot);
+        given(categoryProductPriceUsecase.getCategoryPricing(snapshot)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/lowest-price-by-category"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Pricing-Version", "3"))
+                .andExpect(jsonPath("$.totalPrice").value(10000));
+
+        verify(categoryProductPriceUsecase, never()).getCategoryPricing();
+    }
+
     @Test
     @DisplayName("카테고리 이름으로 최저, 최고 가격 브랜드와 상품 가격을 조회할 수 있다")
     void getCategoryPriceSummary() throws Exception {
@@ -82,6 +126,7 @@ class CategoryControllerTest {
 
         var response = new CategoryPriceSummaryResponse(categoryName, lowestPrices, highestPrices);
 
+        given(categoryNameRegistry.exists(categoryName)).willReturn(true);
         given(categoryPriceSummaryUsecase.getPriceSummaryByCategoryName(categoryName)).willReturn(response);
 
         // when & then
@@ -97,16 +142,18 @@ class CategoryControllerTest {
     }
 
     @Test
-    @DisplayName("존재하지 않는 카테고리로 가격 요약 조회시 오류가 발생한다")
+    @DisplayName("존재하지 않는 카테고리로 가격 요약 조회시 캐시와 유스케이스를 거치지 않고 오류가 발생한다")
     void getCategoryPriceSummaryWithNonExistingCategory() throws Exception {
         // given
         String nonExistingCategory = "존재하지않는카테고리";
 
-        given(categoryPriceSummaryUsecase.getPriceSummaryByCategoryName(nonExistingCategory))
-                .willThrow(new BusinessException(BusinessErrorCode.CATEGORY_NOT_FOUND));
+        given(categoryNameRegistry.exists(nonExistingCategory)).willReturn(false);
 
         // when & then
         mockMvc.perform(get("/api/v1/categories/{categoryName}/price-summary", nonExistingCategory))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("CATEGORY-001"));
+
+        verifyNoInteractions(pricingResponseCache, categoryPriceSummaryUsecase);
     }
 } 
@@ -2,11 +2,12 @@ package io.github.hoo47.musinsa_assignment.domain.product;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,12 +22,17 @@ import io.github.hoo47.musinsa_assignment.domain.brand.BrandRepository;
 import io.github.hoo47.musinsa_assignment.domain.category.Category;
 import io.github.hoo47.musinsa_assignment.domain.category.CategoryRepository;
 import io.github.hoo47.musinsa_assignment.domain.product.dto.BrandCategoryPriceInfo;
-import io.github.hoo47.musinsa_assignment.domain.product.dto.CategoryMinPrice;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.CategoryExtremePrice;
+import io.github.hoo47.musinsa_assignment.domain.product.dto.ProductPriceInfo;
+import jakarta.persistence.EntityManagerFactory;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 class ProductRepositoryTest {
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private ProductRepository productRepository;
 
@@ -36,6 +42,9 @@ class ProductRepositoryTest {
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private BrandCategoryMinPriceRepository brandCategoryMinPriceRepository;
+
     private Category category1;
     private Category category2;
     private Brand brandA;
@@ -107,139 +116,181 @@ class ProductRepositoryTest {
     }
 
     @Test
-    @DisplayName("카테고리별 최저가격을 조회할 수 있다")
-    void findMinPricesByCategoriesTest() {
-        // given
-        List<Long> categoryIds = List.of(category1.getId(), category2.getId());
-        
+    @DisplayName("카테고리별 최저가 상품을 한 번의 SQL로 카테고리당 하나씩 조회한다")
+    void findCheapestPerCategoryTest() {
+        // given: Top 카테고리에 최저가(5000)와 같은 가격의 상품을 나중에 등록
+        Product tiedProduct = productRepository.save(Product.builder()
+                .category(category1)
+                .brand(brandA)
+                .price(new BigDecimal("5000"))
+                .build());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
         // when
-        List<CategoryMinPrice> result = productRepository.findMinPricesByCategories(categoryIds);
-        
+        List<ProductPriceInfo> cheapest = productRepository.findCheapestPerCategory(
+                List.of(category1.getId(), category2.getId()));
+
         // then
-        assertThat(result).hasSize(2);
-        
-        // Verify minimum price for Category1(Top)
-        CategoryMinPrice category1MinPrice = result.stream()
-                .filter(minPrice -> minPrice.categoryId().equals(category1.getId()))
-                .findFirst()
-                .orElseThrow();
-        assertThat(category1MinPrice.categoryId()).isEqualTo(category1.getId());
-        assertThat(category1MinPrice.minPrice().compareTo(BigDecimal.valueOf(5000))).isEqualTo(0);
-        
-        // Verify minimum price for Category2(Bottom)
-        CategoryMinPrice category2MinPrice = result.stream()
-                .filter(minPrice -> minPrice.categoryId().equals(category2.getId()))
-                .findFirst()
-                .orElseThrow();
-        assertThat(category2MinPrice.categoryId()).isEqualTo(category2.getId());
-        assertThat(category2MinPrice.minPrice().compareTo(BigDecimal.valueOf(15000))).isEqualTo(0);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(cheapest).hasSize(2);
+        assertThat(cheapest).extracting(ProductPriceInfo::categoryId)
+                .containsExactly(category1.getId(), category2.getId());
+
+        // 같은 가격이면 상품 ID가 작은 상품을 반환한다
+        assertThat(cheapest.get(0).productId()).isEqualTo(product2.getId()).isNotEqualTo(tiedProduct.getId());
+        assertThat(cheapest.get(0).brandName()).isEqualTo("BrandB");
+        assertThat(cheapest.get(0).price()).isEqualByComparingTo(new BigDecimal("5000"));
+        assertThat(cheapest.get(1).productId()).isEqualTo(product3.getId());
+        assertThat(cheapest.get(1).price()).isEqualByComparingTo(new BigDecimal("15000"));
     }
 
     @Test
-    @DisplayName("카테고리 ID와 가격으로 상품을 조회할 수 있다")
-    void findProductsByCategoryIdAndPriceTest() {
+    @DisplayName("카테고리명으로 최저가와 최고가 상품을 한 번의 SQL로 조회한다")
+    void findExtremePricesByCategoryNameTest() {
+        // given: Top 카테고리에 최저가(5000)와 같은 가격의 상품을 추가
+        productRepository.save(Product.builder()
+                .category(category1)
+                .brand(brandA)
+                .price(new BigDecimal("5000"))
+                .build());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
         // when
-        List<Product> products = productRepository.findProductsByCategoryIdAndPrice(
-                category1.getId(), new BigDecimal("5000"));
+        List<CategoryExtremePrice> extremes = productRepository.findExtremePricesByCategoryName("Top", Integer.MAX_VALUE);
 
         // then
-        assertThat(products).isNotEmpty();
-        assertThat(products).hasSize(1);
-        assertThat(products.get(0).getPrice()).isEqualByComparingTo(new BigDecimal("5000"));
-        assertThat(products.get(0).getCategory().getId()).isEqualTo(category1.getId());
-        assertThat(products.get(0).getBrand().getId()).isEqualTo(brandB.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(extremes).extracting(CategoryExtremePrice::brandName, CategoryExtremePrice::lowest, CategoryExtremePrice::highest)
+                .containsExactly(
+                        tuple("BrandB", true, false),
+                        tuple("BrandA", true, false),
+                        tuple("BrandA", false, true));
+        assertThat(extremes.get(2).price()).isEqualByComparingTo(new BigDecimal("10000"));
     }
 
     @Test
-    @DisplayName("브랜드별 카테고리 최저가 상품을 조회한다")
-    void findCheapestProductsGroupByBrandAndCategory() {
+    @DisplayName("최저가와 최고가 상품 조회 시 같은 가격의 상품 수를 제한할 수 있다")
+    void findExtremePricesByCategoryNameWithTieCapTest() {
         // given
-        
+        productRepository.save(Product.builder()
+                .category(category1)
+                .brand(brandA)
+                .price(new BigDecimal("5000"))
+                .build());
+
         // when
-        List<BrandCategoryPriceInfo> results = productRepository.findCheapestProductsGroupByBrandAndCategory();
-        
+        List<CategoryExtremePrice> extremes = productRepository.findExtremePricesByCategoryName("Top", 1);
+
+        // then: 같은 가격이면 상품 ID가 작은 상품만 반환한다
+        assertThat(extremes).extracting(CategoryExtremePrice::brandName, CategoryExtremePrice::lowest)
+                .containsExactly(tuple("BrandB", true), tuple("BrandA", false));
+    }
+
+    @Test
+    @DisplayName("상품이 하나뿐인 카테고리는 같은 상품을 최저가이자 최고가로 반환하고, 없는 카테고리는 빈 목록을 반환한다")
+    void findExtremePricesByCategoryNameSingleProductTest() {
+        // given
+        Category category3 = categoryRepository.save(Category.builder().name("Shoes").build());
+        productRepository.save(Product.builder()
+                .category(category3)
+                .brand(brandB)
+                .price(new BigDecimal("30000"))
+                .build());
+
+        // when
+        List<CategoryExtremePrice> extremes = productRepository.findExtremePricesByCategoryName("Shoes", Integer.MAX_VALUE);
+
         // then
-        assertThat(results).isNotNull();
-        assertThat(results).hasSize(4);  // 2 brands x 2 categories = 4 results
-        
-        // Filter results by brand
-        Map<Long, List<BrandCategoryPriceInfo>> resultsByBrand = results.stream()
-                .collect(Collectors.groupingBy(BrandCategoryPriceInfo::brandId));
-        
-        assertThat(resultsByBrand).hasSize(2);
-        assertThat(resultsByBrand).containsKeys(brandA.getId(), brandB.getId());
+        assertThat(extremes).extracting(CategoryExtremePrice::brandName, CategoryExtremePrice::lowest, CategoryExtremePrice::highest)
+                .containsExactly(tuple("BrandB", true, true));
+        assertThat(productRepository.findExtremePricesByCategoryName("NotExists", Integer.MAX_VALUE)).isEmpty();
+    }
 
-        // Verify BrandA results
-        List<BrandCategoryPriceInfo> brandAResults = resultsByBrand.get(brandA.getId());
-        assertThat(brandAResults).hasSize(2);
-        
-        // Verify category1 price for BrandA
-        BrandCategoryPriceInfo brandACategory1 = brandAResults.stream()
-                .filter(info -> info.categoryId().equals(category1.getId()))
-                .findFirst()
-                .orElseThrow();
-        assertThat(brandACategory1.price().compareTo(BigDecimal.valueOf(10000))).isEqualTo(0);
-
-        // Verify category2 price for BrandA
-        BrandCategoryPriceInfo brandACategory2 = brandAResults.stream()
-                .filter(info -> info.categoryId().equals(category2.getId()))
-                .findFirst()
-                .orElseThrow();
-        assertThat(brandACategory2.price().compareTo(BigDecimal.valueOf(15000))).isEqualTo(0);
-        
-        // Verify BrandB results
-        List<BrandCategoryPriceInfo> brandBResults = resultsByBrand.get(brandB.getId());
-        assertThat(brandBResults).hasSize(2);
-        
-        // Verify category1 price for BrandB
-        BrandCategoryPriceInfo brandBCategory1 = brandBResults.stream()
-                .filter(info -> info.categoryId().equals(category1.getId()))
-                .findFirst()
-                .orElseThrow();
-        assertThat(brandBCategory1.price().compareTo(BigDecimal.valueOf(5000))).isEqualTo(0);
-
-        // Verify category2 price for BrandB
-        BrandCategoryPriceInfo brandBCategory2 = brandBResults.stream()
-                .filter(info -> info.categoryId().equals(category2.getId()))
-                .findFirst()
-                .orElseThrow();
-        assertThat(brandBCategory2.price().compareTo(BigDecimal.valueOf(20000))).isEqualTo(0);
+    @Test
+    @DisplayName("총액이 가장 낮은 브랜드의 카테고리별 최저가를 한 번의 SQL로 조회하고, 총액이 같으면 브랜드명 순으로 고른다")
+    void findLowestTotalBrandPricesTest() {
+        // given: BrandA(10000 + 15000)와 BrandB(5000 + 20000)의 총액이 같다
+        brandCategoryMinPriceRepository.deleteAllInBatch();
+        brandCategoryMinPriceRepository.insertFromProducts();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<BrandCategoryPriceInfo> results = productRepository.findLowestTotalBrandPrices(2L);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(results).extracting(BrandCategoryPriceInfo::brandName).containsOnly("BrandA");
+        assertThat(results).extracting(BrandCategoryPriceInfo::categoryId)
+                .containsExactly(category1.getId(), category2.getId());
+        assertThat(results.get(0).price()).isEqualByComparingTo(new BigDecimal("10000"));
+        assertThat(results.get(1).price()).isEqualByComparingTo(new BigDecimal("15000"));
     }
 
     @Test
-    @DisplayName("카테고리명으로 최소가격을 조회할 수 있다")
-    void findMinPriceByCategoryNameTest() {
+    @DisplayName("모든 카테고리를 커버하지 못하는 브랜드는 총액이 낮아도 제외되고, 커버하는 브랜드가 없으면 빈 목록을 반환한다")
+    void findLowestTotalBrandPricesExcludesPartialCoverageTest() {
+        // given: BrandC는 Top 카테고리만 있다
+        Brand brandC = brandRepository.save(Brand.builder().name("BrandC").build());
+        productRepository.save(Product.builder()
+                .category(category1)
+                .brand(brandC)
+                .price(new BigDecimal("1000"))
+                .build());
+        brandCategoryMinPriceRepository.deleteAllInBatch();
+        brandCategoryMinPriceRepository.insertFromProducts();
+
         // when
-        BigDecimal minPrice = productRepository.findMinPriceByCategoryName("Top");
+        List<BrandCategoryPriceInfo> results = productRepository.findLowestTotalBrandPrices(2L);
 
         // then
-        assertThat(minPrice).isNotNull();
-        assertThat(minPrice).isEqualByComparingTo(new BigDecimal("5000"));
+        assertThat(results).extracting(BrandCategoryPriceInfo::brandName).containsOnly("BrandA");
+        assertThat(productRepository.findLowestTotalBrandPrices(3L)).isEmpty();
     }
 
     @Test
-    @DisplayName("카테고리명으로 최대가격을 조회할 수 있다")
-    void findMaxPriceByCategoryNameTest() {
+    @DisplayName("마지막으로 조회한 브랜드와 카테고리 다음부터 브랜드×카테고리 최저가를 조회한다")
+    void findBrandCategoryPricesAfterTest() {
+        // given
+        brandCategoryMinPriceRepository.deleteAllInBatch();
+        brandCategoryMinPriceRepository.insertFromProducts();
+
         // when
-        BigDecimal maxPrice = productRepository.findMaxPriceByCategoryName("Top");
+        List<BrandCategoryPriceInfo> firstPage = productRepository.findBrandCategoryPricesAfter(0L, 0L, 3);
+        BrandCategoryPriceInfo last = firstPage.get(firstPage.size() - 1);
+        List<BrandCategoryPriceInfo> secondPage = productRepository.findBrandCategoryPricesAfter(last.brandId(), last.categoryId(), 3);
 
         // then
-        assertThat(maxPrice).isNotNull();
-        assertThat(maxPrice).isEqualByComparingTo(new BigDecimal("10000"));
+        assertThat(firstPage).extracting(BrandCategoryPriceInfo::brandId, BrandCategoryPriceInfo::categoryId)
+                .containsExactly(
+                        tuple(brandA.getId(), category1.getId()),
+                        tuple(brandA.getId(), category2.getId()),
+                        tuple(brandB.getId(), category1.getId()));
+        assertThat(secondPage).extracting(BrandCategoryPriceInfo::brandId, BrandCategoryPriceInfo::categoryId)
+                .containsExactly(tuple(brandB.getId(), category2.getId()));
+        assertThat(secondPage.get(0).price()).isEqualByComparingTo(new BigDecimal("20000"));
+        assertThat(productRepository.findBrandCategoryPricesAfter(brandB.getId(), category2.getId(), 3)).isEmpty();
     }
 
     @Test
-    @DisplayName("카테고리명과 가격으로 상품을 조회할 수 있다")
-    void findProductsByCategoryNameAndPriceTest() {
+    @DisplayName("첫 상품이 아직 반영되지 않은 빈 브랜드×카테고리 행은 조회에서 제외한다")
+    void emptyBrandCategoryMinPriceRow_IsSkipped() {
+        // given: 브랜드A만 두 카테고리를 모두 가진 상태에서 브랜드B의 카테고리2 행이 빈 채로 만들어졌다
+        brandCategoryMinPriceRepository.deleteAllInBatch();
+        brandCategoryMinPriceRepository.insertFromProducts();
+        brandCategoryMinPriceRepository.deleteById(new BrandCategoryMinPrice.Key(brandB.getId(), category2.getId()));
+        brandCategoryMinPriceRepository.insertEmpty(brandB.getId(), category2.getId(), new BigDecimal("1"));
+
         // when
-        List<Product> products = productRepository.findProductsByCategoryNameAndPrice("Top", new BigDecimal("10000"));
+        List<BrandCategoryPriceInfo> rows = productRepository.findBrandCategoryPricesAfter(0L, 0L, 10);
+        List<BrandCategoryPriceInfo> lowest = productRepository.findLowestTotalBrandPrices(2);
 
         // then
-        assertThat(products).isNotEmpty();
-        assertThat(products).hasSize(1);
-        assertThat(products.get(0).getPrice()).isEqualByComparingTo(new BigDecimal("10000"));
-        assertThat(products.get(0).getCategory().getName()).isEqualTo("Top");
-        assertThat(products.get(0).getBrand().getName()).isEqualTo("BrandA");
+        assertThat(rows).extracting(BrandCategoryPriceInfo::brandId, BrandCategoryPriceInfo::categoryId)
+                .doesNotContain(tuple(brandB.getId(), category2.getId()));
+        assertThat(lowest).extracting(BrandCategoryPriceInfo::brandId).containsOnly(brandA.getId());
     }
 
     /**
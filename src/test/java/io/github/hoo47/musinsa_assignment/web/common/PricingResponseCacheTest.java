@@ -0,0 +1,128 @@
+package io.github.hoo47.musinsa_assignment.web.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hoo47.musinsa_assignment.application.product.index.PricingReadModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PricingResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private PricingReadModel readModel;
+    private PricingResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new PricingReadModel();
+        responseCache = new PricingResponseCache(readModel, objectMapper, true, true, 0, 16);
+    }
+
+    @Test
+    @DisplayName("같은 스냅샷 버전에서는 한 번 직렬화한 응답 바이트를 재사용한다")
+    void sameVersion_ReusesEncodedBytes() {
+        // given
+        readModel.publish(List.of(), null);
+
+        // when
+        ResponseEntity<byte[]> first = responseCache.respond("summary", null, snapshot -> render("상의"));
+        ResponseEntity<byte[]> second = responseCache.respond("summary", null, snapshot -> render("상의"));
+
+        // then
+        assertThat(renders).hasValue(1);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(new String(second.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"category\":\"상의\"}");
+        assertThat(second.getHeaders().getFirst(PricingHeaders.VERSION)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("스냅샷 버전이 바뀌면 응답을 다시 직렬화한다")
+    void newVersion_RendersAgain() {
+        // given
+        readModel.publish(List.of(), null);
+        responseCache.respond("summary", null, snapshot -> render("상의"));
+
+        // when
+        readModel.publish(List.of(), null);
+        ResponseEntity<byte[]> response = responseCache.respond("summary", null, snapshot -> render("바지"));
+
+        // then
+        assertThat(renders).hasValue(2);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).contains("바지");
+        assertThat(response.getHeaders().getFirst(PricingHeaders.VERSION)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("gzip을 허용한 요청에는 미리 압축한 바이트를 응답한다")
+    void acceptsGzip_ReturnsCompressedBytes() throws IOException {
+        // given
+        readModel.publish(List.of(), null);
+
+        // when
+        ResponseEntity<byte[]> response = responseCache.respond("summary", "br, gzip;q=0.8", snapshot -> render("상의"));
+
+        // then
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"category\":\"상의\"}");
+        }
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 헤더에서 gzip 허용 여부를 판단한다")
+    void acceptsGzip() {
+        assertThat(PricingResponseCache.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(PricingResponseCache.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(PricingResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(PricingResponseCache.acceptsGzip("gzip; q=0.000")).isFalse();
+        assertThat(PricingResponseCache.acceptsGzip("br")).isFalse();
+        assertThat(PricingResponseCache.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 로드되기 전이거나 비활성화되면 응답하지 않는다")
+    void notLoadedOrDisabled_ReturnsNull() {
+        // when & then
+        assertThat(responseCache.respond("summary", null, snapshot -> render("상의"))).isNull();
+
+        readModel.publish(List.of(), null);
+        PricingResponseCache disabled = new PricingResponseCache(readModel, objectMapper, false, true, 0, 16);
+        assertThat(disabled.respond("summary", null, snapshot -> render("상의"))).isNull();
+        assertThat(renders).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("응답 본문이 없으면 본문 없이 버전 헤더만 응답한다")
+    void nullBody_ReturnsEmptyResponse() {
+        // given
+        readModel.publish(List.of(), null);
+
+        // when
+        ResponseEntity<byte[]> response = responseCache.respond("brands/lowest-price", "gzip", snapshot -> null);
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getFirst(PricingHeaders.VERSION)).isEqualTo("1");
+    }
+
+    private Map<String, String> render(String category) {
+        renders.incrementAndGet();
+        return Map.of("category", category);
+    }
+}